@@ -0,0 +1,67 @@
+package com.estimate.benchmark;
+
+import com.estimate.domain.model.Estimate;
+import com.estimate.domain.model.EstimateMaterialPrice;
+import com.estimate.domain.model.EstimateWorkItem;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Deterministic estimates shared by the benchmarks, so results stay comparable between runs.
+ */
+final class BenchmarkData {
+    
+    private BenchmarkData() {
+    }
+    
+    static Estimate estimate(int workItemCount, int materialsPerItem) {
+        Instant now = Instant.parse("2026-01-01T00:00:00Z");
+        return Estimate.builder()
+                .id("estimate1")
+                .userId("user1")
+                .investorName("Jan Kowalski")
+                .investorAddress("ul. Prosta 1, Warszawa")
+                .templateIds(new ArrayList<>(List.of("template1", "template2")))
+                .workItems(workItems(workItemCount, materialsPerItem))
+                .materialDiscount(BigDecimal.TEN)
+                .laborDiscount(new BigDecimal("5.5"))
+                .notes("Benchmark estimate")
+                .validUntil(LocalDate.of(2026, 3, 1))
+                .startDate(LocalDate.of(2026, 2, 1))
+                .version(1L)
+                .createdAt(now)
+                .updatedAt(now)
+                .build()
+                .recalculateTotals();
+    }
+    
+    static List<EstimateWorkItem> workItems(int workItemCount, int materialsPerItem) {
+        Random random = new Random(42);
+        List<EstimateWorkItem> items = new ArrayList<>(workItemCount);
+        for (int i = 0; i < workItemCount; i++) {
+            List<EstimateMaterialPrice> materials = new ArrayList<>(materialsPerItem);
+            for (int j = 0; j < materialsPerItem; j++) {
+                materials.add(EstimateMaterialPrice.builder()
+                        .materialName("Material " + j)
+                        .unit("kg")
+                        .consumptionPerWorkUnit(BigDecimal.valueOf(random.nextInt(5_000) + 1, 3))
+                        .pricePerUnit(BigDecimal.valueOf(random.nextInt(100_000) + 1, 2))
+                        .build());
+            }
+            items.add(EstimateWorkItem.builder()
+                    .workId("work" + i)
+                    .workName("Work " + i)
+                    .unit("m2")
+                    .quantity(BigDecimal.valueOf(random.nextInt(50_000) + 1, 2))
+                    .laborPricePerUnit(BigDecimal.valueOf(random.nextInt(20_000) + 1, 2))
+                    .materialPrices(materials)
+                    .build());
+        }
+        return items;
+    }
+}
@@ -0,0 +1,63 @@
+package com.estimate.benchmark;
+
+import com.estimate.domain.model.CostCalculator;
+import com.estimate.domain.model.Estimate;
+import com.estimate.domain.model.EstimateWorkItem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the scaled-long cost sums with the plain {@link BigDecimal} calculation they replace,
+ * and measures {@link Estimate#calculateTotalCost()} including discounts.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CostCalculationBenchmark {
+    
+    @Param({"10", "100", "1000"})
+    private int workItems;
+    
+    @Param({"1", "5", "20"})
+    private int materialsPerItem;
+    
+    private Estimate estimate;
+    private List<EstimateWorkItem> items;
+    
+    @Setup
+    public void setup() {
+        estimate = BenchmarkData.estimate(workItems, materialsPerItem);
+        items = estimate.getWorkItems();
+    }
+    
+    @Benchmark
+    public BigDecimal scaledLong() {
+        return CostCalculator.materialCost(items).add(CostCalculator.laborCost(items));
+    }
+    
+    @Benchmark
+    public BigDecimal decimal() {
+        return CostCalculator.decimalMaterialCost(items).add(CostCalculator.decimalLaborCost(items));
+    }
+    
+    @Benchmark
+    public BigDecimal totalCost() {
+        return estimate.calculateTotalCost();
+    }
+}
@@ -0,0 +1,50 @@
+package com.estimate.benchmark;
+
+import com.estimate.adapter.out.persistence.mongodb.entity.EstimateEntity;
+import com.estimate.adapter.out.persistence.mongodb.mapper.EstimateEntityMapper;
+import com.estimate.domain.model.Estimate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EstimateMappingBenchmark {
+    
+    @Param({"10", "100", "1000"})
+    private int workItems;
+    
+    private final EstimateEntityMapper mapper = new EstimateEntityMapper();
+    private Estimate estimate;
+    private EstimateEntity entity;
+    
+    @Setup
+    public void setup() {
+        estimate = BenchmarkData.estimate(workItems, 5);
+        entity = mapper.toEntity(estimate);
+    }
+    
+    @Benchmark
+    public EstimateEntity toEntity() {
+        return mapper.toEntity(estimate);
+    }
+    
+    @Benchmark
+    public Estimate toDomain() {
+        return mapper.toDomain(entity);
+    }
+}
@@ -0,0 +1,67 @@
+package com.estimate.benchmark;
+
+import com.estimate.adapter.in.web.estimate.dto.EstimateResponse;
+import com.estimate.domain.model.Estimate;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serializes {@link EstimateResponse} with the same {@link ObjectMapper} setup Spring Boot applies
+ * to WebFlux codecs by default.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EstimateSerializationBenchmark {
+    
+    @Param({"10", "100", "1000"})
+    private int workItems;
+    
+    private ObjectMapper objectMapper;
+    private EstimateResponse response;
+    
+    @Setup
+    public void setup() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        Estimate estimate = BenchmarkData.estimate(workItems, 5);
+        response = EstimateResponse.builder()
+                .id(estimate.getId())
+                .investorName(estimate.getInvestorName())
+                .investorAddress(estimate.getInvestorAddress())
+                .templateIds(estimate.getTemplateIds())
+                .workItems(estimate.getWorkItems())
+                .materialDiscount(estimate.getMaterialDiscount())
+                .laborDiscount(estimate.getLaborDiscount())
+                .materialCost(estimate.getMaterialCost())
+                .laborCost(estimate.getLaborCost())
+                .totalCost(estimate.getTotalCost())
+                .notes(estimate.getNotes())
+                .validUntil(estimate.getValidUntil())
+                .startDate(estimate.getStartDate())
+                .createdAt(estimate.getCreatedAt())
+                .updatedAt(estimate.getUpdatedAt())
+                .build();
+    }
+    
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+}
@@ -0,0 +1,43 @@
+package com.estimate.benchmark;
+
+import com.estimate.infrastructure.security.JwtTokenProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtTokenBenchmark {
+    
+    private JwtTokenProvider tokenProvider;
+    private String token;
+    
+    @Setup
+    public void setup() {
+        tokenProvider = new JwtTokenProvider("benchmark-secret-key-that-is-at-least-256-bits-long", 3_600_000L);
+        token = tokenProvider.generateToken("user1", "user1@example.com", "USER");
+    }
+    
+    @Benchmark
+    public String generateToken() {
+        return tokenProvider.generateToken("user1", "user1@example.com", "USER");
+    }
+    
+    @Benchmark
+    public boolean validateToken() {
+        return tokenProvider.validateToken(token);
+    }
+}
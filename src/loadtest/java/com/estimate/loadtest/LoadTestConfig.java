@@ -0,0 +1,69 @@
+package com.estimate.loadtest;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Load test settings, read from {@code --name=value} arguments.
+ *
+ * @param baseUrl URL of a running instance; when {@code null} the application is started in-process
+ *                with the {@code jwt} profile and embedded MongoDB
+ * @param sloP99  p99 latency every endpoint must stay under, or {@code null} to only report
+ */
+record LoadTestConfig(
+        String baseUrl,
+        int users,
+        int worksPerUser,
+        int templatesPerUser,
+        int estimatesPerUser,
+        int workItemsPerEstimate,
+        int concurrency,
+        Duration warmup,
+        Duration duration,
+        Duration sloP99,
+        double maxErrorRate,
+        String reportFile) {
+    
+    LoadTestConfig {
+        if (users < 1 || worksPerUser < 1 || templatesPerUser < 1 || estimatesPerUser < 1 || concurrency < 1) {
+            throw new IllegalArgumentException("Users, concurrency and seeded works, templates and estimates per user must be positive");
+        }
+    }
+    
+    static LoadTestConfig from(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0) {
+                throw new IllegalArgumentException("Expected --name=value but got " + arg);
+            }
+            options.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        String sloP99 = options.remove("slo-p99");
+        LoadTestConfig config = new LoadTestConfig(
+                options.remove("base-url"),
+                Integer.parseInt(take(options, "users", "10")),
+                Integer.parseInt(take(options, "works-per-user", "50")),
+                Integer.parseInt(take(options, "templates-per-user", "10")),
+                Integer.parseInt(take(options, "estimates-per-user", "20")),
+                Integer.parseInt(take(options, "work-items-per-estimate", "15")),
+                Integer.parseInt(take(options, "concurrency", "32")),
+                DurationStyle.detectAndParse(take(options, "warmup", "10s")),
+                DurationStyle.detectAndParse(take(options, "duration", "60s")),
+                sloP99 != null ? DurationStyle.detectAndParse(sloP99) : null,
+                Double.parseDouble(take(options, "max-error-rate", "0.01")),
+                take(options, "report-file", "target/loadtest-report.csv"));
+        if (!options.isEmpty()) {
+            throw new IllegalArgumentException("Unknown options: " + options.keySet());
+        }
+        return config;
+    }
+    
+    private static String take(Map<String, String> options, String name, String defaultValue) {
+        String value = options.remove(name);
+        return value != null ? value : defaultValue;
+    }
+}
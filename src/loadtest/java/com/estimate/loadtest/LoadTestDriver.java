@@ -0,0 +1,170 @@
+package com.estimate.loadtest;
+
+import com.estimate.loadtest.LoadTestSeeder.SeededUser;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Closed-model workload: each of {@code concurrency} virtual clients sends the next request as soon as
+ * the previous one completed, picking a weighted random operation of a random seeded user.
+ * Latencies are only recorded after the warm-up.
+ */
+@Slf4j
+class LoadTestDriver {
+    
+    static final String TIMER = "loadtest.requests";
+    static final String SUCCESS = "success";
+    static final String ALL_ENDPOINTS = "All endpoints";
+    
+    private final WebClient webClient;
+    private final LoadTestSeeder seeder;
+    private final LoadTestConfig config;
+    private final List<SeededUser> users;
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final int totalWeight;
+    
+    LoadTestDriver(WebClient webClient, LoadTestSeeder seeder, LoadTestConfig config, List<SeededUser> users) {
+        this.webClient = webClient;
+        this.seeder = seeder;
+        this.config = config;
+        this.users = users;
+        int weight = 0;
+        for (Operation operation : Operation.values()) {
+            weight += operation.weight;
+        }
+        this.totalWeight = weight;
+    }
+    
+    LoadTestReport run() {
+        long recordFrom = System.nanoTime() + config.warmup().toNanos();
+        long deadline = recordFrom + config.duration().toNanos();
+        log.info("Running {} clients for {} after {} warm-up", config.concurrency(), config.duration(), config.warmup());
+        Flux.range(0, config.concurrency())
+                .flatMap(client -> Mono.defer(() -> execute(recordFrom))
+                        .repeat(() -> System.nanoTime() < deadline), config.concurrency())
+                .blockLast();
+        return new LoadTestReport(config, meterRegistry, Duration.ofNanos(System.nanoTime() - recordFrom));
+    }
+    
+    private Mono<Void> execute(long recordFrom) {
+        Operation operation = randomOperation();
+        SeededUser user = users.get(ThreadLocalRandom.current().nextInt(users.size()));
+        long start = System.nanoTime();
+        return request(operation, user)
+                .then(Mono.just(SUCCESS))
+                .onErrorResume(e -> Mono.just(outcome(e)))
+                .doOnNext(outcome -> {
+                    if (start >= recordFrom) {
+                        long latency = System.nanoTime() - start;
+                        timer(operation.endpoint, outcome).record(latency, TimeUnit.NANOSECONDS);
+                        timer(ALL_ENDPOINTS, outcome).record(latency, TimeUnit.NANOSECONDS);
+                    }
+                })
+                .then();
+    }
+    
+    private Mono<?> request(Operation operation, SeededUser user) {
+        return switch (operation) {
+            case LIST_ESTIMATES -> get(user, "/api/estimates");
+            case ESTIMATE_SUMMARIES -> get(user, "/api/estimates/summaries?limit=20");
+            case GET_ESTIMATE -> get(user, "/api/estimates/{id}", randomId(user.estimateIds()));
+            case CREATE_ESTIMATE -> seeder.createEstimate(user, seeder.randomEstimate(user));
+            case UPDATE_ESTIMATE -> webClient.put().uri("/api/estimates/{id}", randomId(user.estimateIds()))
+                    .headers(headers -> headers.setBearerAuth(user.token()))
+                    .bodyValue(seeder.randomEstimate(user))
+                    .retrieve()
+                    .toBodilessEntity();
+            case COMPOSE_DRAFT -> webClient.post().uri("/api/estimates/draft")
+                    .headers(headers -> headers.setBearerAuth(user.token()))
+                    .bodyValue(Map.of("templateIds", List.of(randomId(user.templateIds()), randomId(user.templateIds()))))
+                    .retrieve()
+                    .toBodilessEntity();
+            case LIST_WORKS -> get(user, "/api/works");
+            case GET_WORK -> get(user, "/api/works/{id}",
+                    user.works().get(ThreadLocalRandom.current().nextInt(user.works().size())).getId());
+            case CREATE_WORK -> seeder.createWork(user, LoadTestSeeder.randomWork(user.works().size()));
+            case LIST_TEMPLATES -> get(user, "/api/templates");
+            case EXPAND_TEMPLATE -> get(user, "/api/templates/{id}/expanded", randomId(user.templateIds()));
+            case CREATE_TEMPLATE -> seeder.createTemplate(user, seeder.randomTemplate(user, user.templateIds().size()));
+        };
+    }
+    
+    private Mono<?> get(SeededUser user, String uri, Object... uriVariables) {
+        return webClient.get().uri(uri, uriVariables)
+                .headers(headers -> headers.setBearerAuth(user.token()))
+                .retrieve()
+                .toBodilessEntity();
+    }
+    
+    private Timer timer(String endpoint, String outcome) {
+        return Timer.builder(TIMER)
+                .tag("endpoint", endpoint)
+                .tag("outcome", outcome)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .percentilePrecision(2)
+                // Keep every sample of the run in the percentiles instead of a sliding window
+                .distributionStatisticExpiry(config.warmup().plus(config.duration()).multipliedBy(2))
+                .distributionStatisticBufferLength(1)
+                .register(meterRegistry);
+    }
+    
+    private Operation randomOperation() {
+        int pick = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (Operation operation : Operation.values()) {
+            pick -= operation.weight;
+            if (pick < 0) {
+                return operation;
+            }
+        }
+        throw new IllegalStateException("Unreachable");
+    }
+    
+    private static String randomId(List<String> ids) {
+        return ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+    }
+    
+    private static String outcome(Throwable error) {
+        if (error instanceof WebClientResponseException responseError) {
+            return Integer.toString(responseError.getStatusCode().value());
+        }
+        return error.getClass().getSimpleName();
+    }
+    
+    /**
+     * Read-heavy mix: roughly four reads for every write.
+     */
+    enum Operation {
+        LIST_ESTIMATES("GET /api/estimates", 5),
+        ESTIMATE_SUMMARIES("GET /api/estimates/summaries", 15),
+        GET_ESTIMATE("GET /api/estimates/{id}", 20),
+        CREATE_ESTIMATE("POST /api/estimates", 5),
+        UPDATE_ESTIMATE("PUT /api/estimates/{id}", 8),
+        COMPOSE_DRAFT("POST /api/estimates/draft", 3),
+        LIST_WORKS("GET /api/works", 8),
+        GET_WORK("GET /api/works/{id}", 10),
+        CREATE_WORK("POST /api/works", 3),
+        LIST_TEMPLATES("GET /api/templates", 6),
+        EXPAND_TEMPLATE("GET /api/templates/{id}/expanded", 15),
+        CREATE_TEMPLATE("POST /api/templates", 2);
+        
+        final String endpoint;
+        final int weight;
+        
+        Operation(String endpoint, int weight) {
+            this.endpoint = endpoint;
+            this.weight = weight;
+        }
+    }
+}
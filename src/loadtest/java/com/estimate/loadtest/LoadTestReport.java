@@ -0,0 +1,120 @@
+package com.estimate.loadtest;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-endpoint throughput and latency percentiles of successful requests, checked against the SLO.
+ */
+@Slf4j
+class LoadTestReport {
+    
+    private static final String HEADER = "endpoint,requests,errors,throughput_rps,p50_ms,p95_ms,p99_ms,max_ms,slo";
+    
+    private final LoadTestConfig config;
+    private final List<Row> rows = new ArrayList<>();
+    
+    LoadTestReport(LoadTestConfig config, MeterRegistry meterRegistry, Duration elapsed) {
+        this.config = config;
+        double seconds = elapsed.toNanos() / 1e9;
+        for (LoadTestDriver.Operation operation : LoadTestDriver.Operation.values()) {
+            addRow(meterRegistry, operation.endpoint, seconds);
+        }
+        addRow(meterRegistry, LoadTestDriver.ALL_ENDPOINTS, seconds);
+    }
+    
+    boolean meetsSlo() {
+        return rows.stream().allMatch(this::meetsSlo);
+    }
+    
+    private void addRow(MeterRegistry meterRegistry, String endpoint, double seconds) {
+        long requests = 0;
+        long errors = 0;
+        HistogramSnapshot success = null;
+        for (Timer timer : meterRegistry.find(LoadTestDriver.TIMER).tag("endpoint", endpoint).timers()) {
+            requests += timer.count();
+            if (LoadTestDriver.SUCCESS.equals(timer.getId().getTag("outcome"))) {
+                success = timer.takeSnapshot();
+            } else {
+                errors += timer.count();
+            }
+        }
+        if (requests > 0) {
+            rows.add(new Row(endpoint, requests, errors, requests / seconds, success));
+        }
+    }
+    
+    void print() {
+        StringBuilder table = new StringBuilder(String.format(Locale.ROOT, "%n%-34s %9s %7s %9s %9s %9s %9s %9s  %s%n",
+                "Endpoint", "Requests", "Errors", "Req/s", "p50 ms", "p95 ms", "p99 ms", "Max ms", "SLO"));
+        for (Row row : rows) {
+            table.append(String.format(Locale.ROOT, "%-34s %9d %7d %9.1f %9.1f %9.1f %9.1f %9.1f  %s%n",
+                    row.endpoint, row.requests, row.errors, row.throughput,
+                    row.percentile(0.5), row.percentile(0.95), row.percentile(0.99), row.max(), sloStatus(row)));
+        }
+        log.info("Load test results ({} clients, {}):{}", config.concurrency(), config.duration(), table);
+    }
+    
+    void write() {
+        List<String> lines = new ArrayList<>();
+        lines.add(HEADER);
+        for (Row row : rows) {
+            lines.add(String.format(Locale.ROOT, "%s,%d,%d,%.2f,%.2f,%.2f,%.2f,%.2f,%s",
+                    row.endpoint, row.requests, row.errors, row.throughput,
+                    row.percentile(0.5), row.percentile(0.95), row.percentile(0.99), row.max(), sloStatus(row)));
+        }
+        try {
+            Path file = Path.of(config.reportFile());
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            Files.write(file, lines);
+            log.info("Load test report written to {}", file.toAbsolutePath());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    private boolean meetsSlo(Row row) {
+        if ((double) row.errors / row.requests > config.maxErrorRate()) {
+            return false;
+        }
+        return config.sloP99() == null || row.percentile(0.99) <= config.sloP99().toMillis();
+    }
+    
+    private String sloStatus(Row row) {
+        return meetsSlo(row) ? "PASS" : "FAIL";
+    }
+    
+    private record Row(String endpoint, long requests, long errors, double throughput, HistogramSnapshot success) {
+        
+        double percentile(double percentile) {
+            if (success == null) {
+                return Double.NaN;
+            }
+            for (ValueAtPercentile value : success.percentileValues()) {
+                if (value.percentile() == percentile) {
+                    return value.value(TimeUnit.MILLISECONDS);
+                }
+            }
+            return Double.NaN;
+        }
+        
+        double max() {
+            return success == null ? Double.NaN : success.max(TimeUnit.MILLISECONDS);
+        }
+    }
+}
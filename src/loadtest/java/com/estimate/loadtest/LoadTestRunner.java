@@ -0,0 +1,71 @@
+package com.estimate.loadtest;
+
+import com.estimate.EstimateBackendApplication;
+import com.estimate.loadtest.LoadTestSeeder.SeededUser;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.util.List;
+
+/**
+ * Seeds data through the HTTP API, drives a mixed read/write workload against it and reports
+ * throughput and latency percentiles per endpoint. Exits with status 1 when the SLO is missed.
+ * <p>
+ * Without {@code --base-url} the application is started in this JVM with the {@code jwt} profile and
+ * embedded MongoDB, so client and server share the CPU; point it at a deployed instance for capacity numbers.
+ */
+@Slf4j
+public final class LoadTestRunner {
+    
+    private LoadTestRunner() {
+    }
+    
+    public static void main(String[] args) {
+        LoadTestConfig config = LoadTestConfig.from(args);
+        ConfigurableApplicationContext context = config.baseUrl() == null ? startApplication() : null;
+        boolean passed;
+        try {
+            String baseUrl = context != null
+                    ? "http://localhost:" + context.getEnvironment().getProperty("local.server.port")
+                    : config.baseUrl();
+            WebClient webClient = webClient(baseUrl, config.concurrency());
+            LoadTestSeeder seeder = new LoadTestSeeder(webClient, config);
+            List<SeededUser> users = seeder.seed();
+            
+            LoadTestReport report = new LoadTestDriver(webClient, seeder, config, users).run();
+            report.print();
+            report.write();
+            passed = report.meetsSlo();
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+        }
+        System.exit(passed ? 0 : 1);
+    }
+    
+    private static ConfigurableApplicationContext startApplication() {
+        return new SpringApplicationBuilder(EstimateBackendApplication.class)
+                .profiles("jwt")
+                .properties("server.port=0", "logging.level.com.estimate=INFO")
+                .run();
+    }
+    
+    private static WebClient webClient(String baseUrl, int concurrency) {
+        // One connection per virtual client, so requests never queue for a pooled connection
+        ConnectionProvider connectionProvider = ConnectionProvider.builder("loadtest")
+                .maxConnections(concurrency)
+                .pendingAcquireMaxCount(-1)
+                .build();
+        return WebClient.builder()
+                .baseUrl(baseUrl)
+                .clientConnector(new ReactorClientHttpConnector(HttpClient.create(connectionProvider)))
+                .codecs(codecs -> codecs.defaultCodecs().maxInMemorySize(16 * 1024 * 1024))
+                .build();
+    }
+}
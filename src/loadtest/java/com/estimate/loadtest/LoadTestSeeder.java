@@ -0,0 +1,171 @@
+package com.estimate.loadtest;
+
+import com.estimate.adapter.in.web.auth.dto.AuthResponse;
+import com.estimate.adapter.in.web.auth.dto.RegisterRequest;
+import com.estimate.adapter.in.web.estimate.dto.EstimateRequest;
+import com.estimate.adapter.in.web.estimate.dto.EstimateResponse;
+import com.estimate.adapter.in.web.template.dto.TemplateRequest;
+import com.estimate.adapter.in.web.template.dto.TemplateResponse;
+import com.estimate.adapter.in.web.work.dto.WorkRequest;
+import com.estimate.adapter.in.web.work.dto.WorkResponse;
+import com.estimate.domain.model.EstimateMaterialPrice;
+import com.estimate.domain.model.EstimateWorkItem;
+import com.estimate.domain.model.Material;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+/**
+ * Creates users with work catalogs, templates and estimates through the public API.
+ */
+@Slf4j
+@RequiredArgsConstructor
+class LoadTestSeeder {
+    
+    private static final int CONCURRENCY = 8;
+    private static final List<String> UNITS = List.of("m2", "m", "pcs", "kg");
+    private static final List<String> MATERIALS = List.of(
+            "Paint", "Primer", "Plaster", "Tile adhesive", "Grout", "Cement", "Sand", "Drywall", "Screws", "Insulation");
+    
+    private final WebClient webClient;
+    private final LoadTestConfig config;
+    
+    List<SeededUser> seed() {
+        String runId = Long.toString(System.currentTimeMillis(), 36);
+        List<SeededUser> users = Flux.range(0, config.users())
+                .flatMap(i -> seedUser("loadtest-" + runId + "-" + i + "@example.com"), CONCURRENCY)
+                .collectList()
+                .block();
+        log.info("Seeded {} users with {} works, {} templates and {} estimates each",
+                config.users(), config.worksPerUser(), config.templatesPerUser(), config.estimatesPerUser());
+        return users;
+    }
+    
+    private Mono<SeededUser> seedUser(String email) {
+        RegisterRequest register = RegisterRequest.builder()
+                .email(email)
+                .password("loadtest-password")
+                .companyName("Load Test")
+                .build();
+        return webClient.post().uri("/api/auth/register")
+                .bodyValue(register)
+                .retrieve()
+                .bodyToMono(AuthResponse.class)
+                .flatMap(auth -> {
+                    SeededUser user = new SeededUser(auth.getToken());
+                    return Flux.range(0, config.worksPerUser())
+                            .flatMap(i -> createWork(user, randomWork(i)), CONCURRENCY)
+                            .thenMany(Flux.range(0, config.templatesPerUser())
+                                    .flatMap(i -> createTemplate(user, randomTemplate(user, i)), CONCURRENCY))
+                            .thenMany(Flux.range(0, config.estimatesPerUser())
+                                    .flatMap(i -> createEstimate(user, randomEstimate(user)), CONCURRENCY))
+                            .then(Mono.just(user));
+                });
+    }
+    
+    Mono<WorkResponse> createWork(SeededUser user, WorkRequest request) {
+        return webClient.post().uri("/api/works")
+                .headers(headers -> headers.setBearerAuth(user.token()))
+                .bodyValue(request)
+                .retrieve()
+                .bodyToMono(WorkResponse.class)
+                .doOnNext(user.works()::add);
+    }
+    
+    Mono<TemplateResponse> createTemplate(SeededUser user, TemplateRequest request) {
+        return webClient.post().uri("/api/templates")
+                .headers(headers -> headers.setBearerAuth(user.token()))
+                .bodyValue(request)
+                .retrieve()
+                .bodyToMono(TemplateResponse.class)
+                .doOnNext(template -> user.templateIds().add(template.getId()));
+    }
+    
+    Mono<EstimateResponse> createEstimate(SeededUser user, EstimateRequest request) {
+        return webClient.post().uri("/api/estimates")
+                .headers(headers -> headers.setBearerAuth(user.token()))
+                .bodyValue(request)
+                .retrieve()
+                .bodyToMono(EstimateResponse.class)
+                .doOnNext(estimate -> user.estimateIds().add(estimate.getId()));
+    }
+    
+    static WorkRequest randomWork(int index) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int materialCount = random.nextInt(1, 5);
+        List<Material> materials = new ArrayList<>(materialCount);
+        for (int i = 0; i < materialCount; i++) {
+            materials.add(new Material(
+                    MATERIALS.get(random.nextInt(MATERIALS.size())),
+                    UNITS.get(random.nextInt(UNITS.size())),
+                    BigDecimal.valueOf(random.nextInt(1, 2_000), 3)));
+        }
+        return WorkRequest.builder()
+                .name("Work " + index + "-" + random.nextInt(1_000_000))
+                .unit(UNITS.get(random.nextInt(UNITS.size())))
+                .materials(materials)
+                .build();
+    }
+    
+    TemplateRequest randomTemplate(SeededUser user, int index) {
+        return TemplateRequest.builder()
+                .name("Template " + index)
+                .workIds(randomWorks(user, ThreadLocalRandom.current().nextInt(3, 11)).stream()
+                        .map(WorkResponse::getId)
+                        .toList())
+                .build();
+    }
+    
+    EstimateRequest randomEstimate(SeededUser user) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        List<EstimateWorkItem> workItems = randomWorks(user, config.workItemsPerEstimate()).stream()
+                .map(work -> EstimateWorkItem.builder()
+                        .workId(work.getId())
+                        .workName(work.getName())
+                        .unit(work.getUnit())
+                        .quantity(BigDecimal.valueOf(random.nextInt(100, 50_000), 2))
+                        .laborPricePerUnit(BigDecimal.valueOf(random.nextInt(500, 20_000), 2))
+                        .materialPrices(work.getMaterials().stream()
+                                .map(material -> EstimateMaterialPrice.builder()
+                                        .materialName(material.getName())
+                                        .unit(material.getUnit())
+                                        .consumptionPerWorkUnit(material.getConsumptionPerWorkUnit())
+                                        .pricePerUnit(BigDecimal.valueOf(random.nextInt(100, 100_000), 2))
+                                        .build())
+                                .collect(Collectors.toCollection(ArrayList::new)))
+                        .build())
+                .collect(Collectors.toCollection(ArrayList::new));
+        return EstimateRequest.builder()
+                .investorName("Investor " + random.nextInt(10_000))
+                .investorAddress("ul. Testowa " + random.nextInt(1, 200) + ", Warszawa")
+                .workItems(workItems)
+                .materialDiscount(BigDecimal.valueOf(random.nextInt(0, 15)))
+                .laborDiscount(BigDecimal.ZERO)
+                .validUntil(LocalDate.now().plusDays(random.nextInt(1, 90)))
+                .build();
+    }
+    
+    private static List<WorkResponse> randomWorks(SeededUser user, int count) {
+        List<WorkResponse> works = new ArrayList<>(user.works());
+        Collections.shuffle(works, ThreadLocalRandom.current());
+        return works.subList(0, Math.min(count, works.size()));
+    }
+    
+    record SeededUser(String token, List<WorkResponse> works, List<String> templateIds, List<String> estimateIds) {
+        
+        SeededUser(String token) {
+            this(token, new CopyOnWriteArrayList<>(), new CopyOnWriteArrayList<>(), new CopyOnWriteArrayList<>());
+        }
+    }
+}
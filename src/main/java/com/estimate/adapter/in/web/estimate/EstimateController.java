@@ -1,70 +1,162 @@
 package com.estimate.adapter.in.web.estimate;
 
+import com.estimate.adapter.in.web.estimate.dto.EstimateBatchCreateRequest;
+import com.estimate.adapter.in.web.estimate.dto.EstimateBatchDeleteRequest;
+import com.estimate.adapter.in.web.estimate.dto.EstimateBatchItemResponse;
+import com.estimate.adapter.in.web.estimate.dto.EstimateDraftRequest;
+import com.estimate.adapter.in.web.estimate.dto.EstimateDraftResponse;
+import com.estimate.adapter.in.web.estimate.dto.EstimateRepriceRequest;
 import com.estimate.adapter.in.web.estimate.dto.EstimateRequest;
 import com.estimate.adapter.in.web.estimate.dto.EstimateResponse;
+import com.estimate.adapter.in.web.estimate.dto.EstimateSummaryPageResponse;
+import com.estimate.adapter.in.web.estimate.dto.EstimateSummaryResponse;
 import com.estimate.domain.model.Estimate;
+import com.estimate.domain.model.EstimateCursor;
+import com.estimate.domain.model.EstimateSummary;
+import com.estimate.domain.model.EstimateSummaryPage;
+import com.estimate.domain.model.MaterialPrice;
 import com.estimate.domain.port.in.estimate.*;
 import com.estimate.infrastructure.security.UserPrincipal;
+import com.estimate.infrastructure.web.ConditionalRequests;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
 @RestController
 @RequestMapping("/api/estimates")
 @RequiredArgsConstructor
 public class EstimateController {
     
+    private static final int MAX_PAGE_SIZE = 100;
+    
     private final CreateEstimateUseCase createEstimateUseCase;
     private final UpdateEstimateUseCase updateEstimateUseCase;
     private final DeleteEstimateUseCase deleteEstimateUseCase;
     private final FindEstimateUseCase findEstimateUseCase;
+    private final ComposeEstimateUseCase composeEstimateUseCase;
+    private final BatchEstimateUseCase batchEstimateUseCase;
     
-    @GetMapping
+    @GetMapping(produces = {
+            MediaType.APPLICATION_JSON_VALUE,
+            MediaType.APPLICATION_NDJSON_VALUE,
+            MediaType.TEXT_EVENT_STREAM_VALUE
+    })
     public Flux<EstimateResponse> getEstimates(@AuthenticationPrincipal UserPrincipal principal) {
         return findEstimateUseCase.findByUserId(principal.getId())
                 .map(this::toResponse);
     }
     
+    @GetMapping("/summaries")
+    public Mono<EstimateSummaryPageResponse> getEstimateSummaries(
+            @AuthenticationPrincipal UserPrincipal principal,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            return Mono.error(new IllegalArgumentException("Limit must be between 1 and " + MAX_PAGE_SIZE));
+        }
+        EstimateCursor after;
+        try {
+            after = decodeCursor(cursor);
+        } catch (IllegalArgumentException e) {
+            return Mono.error(e);
+        }
+        return findEstimateUseCase.findSummariesByUserId(principal.getId(), after, limit)
+                .map(this::toPageResponse);
+    }
+    
     @GetMapping("/{id}")
-    public Mono<EstimateResponse> getEstimate(
+    public Mono<ResponseEntity<EstimateResponse>> getEstimate(
             @AuthenticationPrincipal UserPrincipal principal,
             @PathVariable String id) {
         return findEstimateUseCase.findById(id, principal.getId())
-                .map(this::toResponse);
+                .map(estimate -> ConditionalRequests.versioned(estimate.getVersion(), toResponse(estimate)));
     }
     
     @PostMapping
     public Mono<EstimateResponse> createEstimate(
             @AuthenticationPrincipal UserPrincipal principal,
             @Valid @RequestBody EstimateRequest request) {
-        CreateEstimateCommand command = CreateEstimateCommand.builder()
+        return createEstimateUseCase.create(toCreateCommand(principal.getId(), request))
+                .map(this::toResponse);
+    }
+    
+    @PostMapping("/draft")
+    public Mono<EstimateDraftResponse> composeDraft(
+            @AuthenticationPrincipal UserPrincipal principal,
+            @Valid @RequestBody EstimateDraftRequest request) {
+        return composeEstimateUseCase.compose(principal.getId(), request.getTemplateIds())
+                .map(result -> EstimateDraftResponse.builder()
+                        .templateIds(result.getDraft().getTemplateIds())
+                        .workItems(result.getDraft().getWorkItems())
+                        .materialCost(result.getDraft().getMaterialCost())
+                        .laborCost(result.getDraft().getLaborCost())
+                        .totalCost(result.getDraft().getTotalCost())
+                        .missingTemplateIds(result.getMissingTemplateIds())
+                        .missingWorkIds(result.getMissingWorkIds())
+                        .unpricedMaterialNames(result.getUnpricedMaterialNames())
+                        .build());
+    }
+    
+    @PostMapping(value = "/batch", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<EstimateBatchItemResponse> createEstimates(
+            @AuthenticationPrincipal UserPrincipal principal,
+            @Valid @RequestBody EstimateBatchCreateRequest request) {
+        List<CreateEstimateCommand> commands = request.getEstimates().stream()
+                .map(estimate -> toCreateCommand(principal.getId(), estimate))
+                .toList();
+        
+        return batchEstimateUseCase.createAll(commands)
+                .map(this::toBatchItemResponse);
+    }
+    
+    @PostMapping(value = "/batch/reprice", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<EstimateBatchItemResponse> repriceEstimates(
+            @AuthenticationPrincipal UserPrincipal principal,
+            @Valid @RequestBody EstimateRepriceRequest request) {
+        RepriceEstimatesCommand command = RepriceEstimatesCommand.builder()
                 .userId(principal.getId())
-                .investorName(request.getInvestorName())
-                .investorAddress(request.getInvestorAddress())
-                .templateIds(request.getTemplateIds())
-                .workItems(request.getWorkItems())
-                .materialDiscount(request.getMaterialDiscount())
-                .laborDiscount(request.getLaborDiscount())
-                .notes(request.getNotes())
-                .validUntil(request.getValidUntil())
-                .startDate(request.getStartDate())
+                .estimateIds(request.getEstimateIds())
+                .materialPrices(request.getMaterialPrices() == null ? List.of() : request.getMaterialPrices().stream()
+                        .map(price -> new MaterialPrice(price.getMaterialName(), price.getUnit(), price.getPricePerUnit()))
+                        .toList())
+                .laborPricesByWorkId(request.getLaborPrices() == null ? Map.of() : request.getLaborPrices())
                 .build();
         
-        return createEstimateUseCase.create(command)
-                .map(this::toResponse);
+        return batchEstimateUseCase.repriceAll(command)
+                .map(this::toBatchItemResponse);
+    }
+    
+    @PostMapping(value = "/batch/delete", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<EstimateBatchItemResponse> deleteEstimates(
+            @AuthenticationPrincipal UserPrincipal principal,
+            @Valid @RequestBody EstimateBatchDeleteRequest request) {
+        return batchEstimateUseCase.deleteAll(principal.getId(), request.getEstimateIds())
+                .map(this::toBatchItemResponse);
     }
     
     @PutMapping("/{id}")
-    public Mono<EstimateResponse> updateEstimate(
+    public Mono<ResponseEntity<EstimateResponse>> updateEstimate(
             @AuthenticationPrincipal UserPrincipal principal,
             @PathVariable String id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody EstimateRequest request) {
         UpdateEstimateCommand command = UpdateEstimateCommand.builder()
                 .estimateId(id)
                 .userId(principal.getId())
+                .expectedVersion(ConditionalRequests.expectedVersion(ifMatch))
                 .investorName(request.getInvestorName())
                 .investorAddress(request.getInvestorAddress())
                 .templateIds(request.getTemplateIds())
@@ -77,7 +169,7 @@ public class EstimateController {
                 .build();
         
         return updateEstimateUseCase.update(command)
-                .map(this::toResponse);
+                .map(estimate -> ConditionalRequests.versioned(estimate.getVersion(), toResponse(estimate)));
     }
     
     @DeleteMapping("/{id}")
@@ -87,6 +179,31 @@ public class EstimateController {
         return deleteEstimateUseCase.delete(id, principal.getId());
     }
     
+    private CreateEstimateCommand toCreateCommand(String userId, EstimateRequest request) {
+        return CreateEstimateCommand.builder()
+                .userId(userId)
+                .investorName(request.getInvestorName())
+                .investorAddress(request.getInvestorAddress())
+                .templateIds(request.getTemplateIds())
+                .workItems(request.getWorkItems())
+                .materialDiscount(request.getMaterialDiscount())
+                .laborDiscount(request.getLaborDiscount())
+                .notes(request.getNotes())
+                .validUntil(request.getValidUntil())
+                .startDate(request.getStartDate())
+                .build();
+    }
+    
+    private EstimateBatchItemResponse toBatchItemResponse(EstimateBatchResult result) {
+        return EstimateBatchItemResponse.builder()
+                .index(result.getIndex())
+                .id(result.getEstimateId())
+                .status(result.getStatus().name())
+                .version(result.getVersion())
+                .message(result.getMessage())
+                .build();
+    }
+    
     private EstimateResponse toResponse(Estimate estimate) {
         return EstimateResponse.builder()
                 .id(estimate.getId())
@@ -96,9 +213,9 @@ public class EstimateController {
                 .workItems(estimate.getWorkItems())
                 .materialDiscount(estimate.getMaterialDiscount())
                 .laborDiscount(estimate.getLaborDiscount())
-                .materialCost(estimate.calculateMaterialCostWithDiscount())
-                .laborCost(estimate.calculateLaborCostWithDiscount())
-                .totalCost(estimate.calculateTotalCost())
+                .materialCost(estimate.getMaterialCost())
+                .laborCost(estimate.getLaborCost())
+                .totalCost(estimate.getTotalCost())
                 .notes(estimate.getNotes())
                 .validUntil(estimate.getValidUntil())
                 .startDate(estimate.getStartDate())
@@ -106,4 +223,51 @@ public class EstimateController {
                 .updatedAt(estimate.getUpdatedAt())
                 .build();
     }
+    
+    private EstimateSummaryPageResponse toPageResponse(EstimateSummaryPage page) {
+        return new EstimateSummaryPageResponse(
+                page.getItems().stream().map(this::toSummaryResponse).toList(),
+                encodeCursor(page.getNextCursor()));
+    }
+    
+    private EstimateSummaryResponse toSummaryResponse(EstimateSummary summary) {
+        return EstimateSummaryResponse.builder()
+                .id(summary.getId())
+                .investorName(summary.getInvestorName())
+                .investorAddress(summary.getInvestorAddress())
+                .materialDiscount(summary.getMaterialDiscount())
+                .laborDiscount(summary.getLaborDiscount())
+                .materialCost(summary.getMaterialCost())
+                .laborCost(summary.getLaborCost())
+                .totalCost(summary.getTotalCost())
+                .validUntil(summary.getValidUntil())
+                .startDate(summary.getStartDate())
+                .createdAt(summary.getCreatedAt())
+                .updatedAt(summary.getUpdatedAt())
+                .build();
+    }
+    
+    private String encodeCursor(EstimateCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        String raw = cursor.getCreatedAt().toString() + "|" + cursor.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    private EstimateCursor decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf('|');
+            if (separator < 0) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return new EstimateCursor(Instant.parse(raw.substring(0, separator)), raw.substring(separator + 1));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
 }
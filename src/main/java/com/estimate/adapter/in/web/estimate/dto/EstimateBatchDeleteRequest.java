@@ -0,0 +1,19 @@
+package com.estimate.adapter.in.web.estimate.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EstimateBatchDeleteRequest {
+    
+    @NotEmpty(message = "At least one estimate is required")
+    @Size(max = 500, message = "At most 500 estimates per batch")
+    private List<String> estimateIds;
+}
@@ -0,0 +1,19 @@
+package com.estimate.adapter.in.web.estimate.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EstimateBatchItemResponse {
+    
+    private int index;
+    private String id;
+    private String status;
+    private Long version;
+    private String message;
+}
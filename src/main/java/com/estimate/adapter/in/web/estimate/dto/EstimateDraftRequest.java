@@ -0,0 +1,17 @@
+package com.estimate.adapter.in.web.estimate.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EstimateDraftRequest {
+    
+    @NotEmpty(message = "At least one template is required")
+    private List<String> templateIds;
+}
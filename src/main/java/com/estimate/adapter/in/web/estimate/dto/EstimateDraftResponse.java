@@ -0,0 +1,26 @@
+package com.estimate.adapter.in.web.estimate.dto;
+
+import com.estimate.domain.model.EstimateWorkItem;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EstimateDraftResponse {
+    
+    private List<String> templateIds;
+    private List<EstimateWorkItem> workItems;
+    private BigDecimal materialCost;
+    private BigDecimal laborCost;
+    private BigDecimal totalCost;
+    private List<String> missingTemplateIds;
+    private List<String> missingWorkIds;
+    private List<String> unpricedMaterialNames;
+}
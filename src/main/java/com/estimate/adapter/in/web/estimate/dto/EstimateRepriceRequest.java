@@ -0,0 +1,46 @@
+package com.estimate.adapter.in.web.estimate.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EstimateRepriceRequest {
+    
+    @NotEmpty(message = "At least one estimate is required")
+    @Size(max = 500, message = "At most 500 estimates per batch")
+    private List<String> estimateIds;
+    
+    private List<@Valid MaterialPriceRequest> materialPrices;
+    
+    private Map<String, @NotNull @DecimalMin("0") BigDecimal> laborPrices;
+    
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class MaterialPriceRequest {
+        
+        @NotBlank(message = "Material name is required")
+        private String materialName;
+        
+        private String unit;
+        
+        @NotNull(message = "Price is required")
+        @DecimalMin(value = "0", message = "Price must not be negative")
+        private BigDecimal pricePerUnit;
+    }
+}
@@ -0,0 +1,16 @@
+package com.estimate.adapter.in.web.estimate.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EstimateSummaryPageResponse {
+    
+    private List<EstimateSummaryResponse> items;
+    private String nextCursor;
+}
@@ -0,0 +1,30 @@
+package com.estimate.adapter.in.web.estimate.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EstimateSummaryResponse {
+    
+    private String id;
+    private String investorName;
+    private String investorAddress;
+    private BigDecimal materialDiscount;
+    private BigDecimal laborDiscount;
+    private BigDecimal materialCost;
+    private BigDecimal laborCost;
+    private BigDecimal totalCost;
+    private LocalDate validUntil;
+    private LocalDate startDate;
+    private Instant createdAt;
+    private Instant updatedAt;
+}
@@ -0,0 +1,71 @@
+package com.estimate.adapter.in.web.pricebook;
+
+import com.estimate.adapter.in.web.pricebook.dto.PriceBookEntryRequest;
+import com.estimate.adapter.in.web.pricebook.dto.PriceBookEntryResponse;
+import com.estimate.adapter.in.web.pricebook.dto.RepriceResponse;
+import com.estimate.domain.model.PriceBookEntry;
+import com.estimate.domain.port.in.pricebook.*;
+import com.estimate.infrastructure.security.UserPrincipal;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/api/price-book")
+@RequiredArgsConstructor
+public class PriceBookController {
+    
+    private final SetMaterialPriceUseCase setMaterialPriceUseCase;
+    private final FindPriceBookUseCase findPriceBookUseCase;
+    private final DeletePriceBookEntryUseCase deletePriceBookEntryUseCase;
+    private final RepriceOpenEstimatesUseCase repriceOpenEstimatesUseCase;
+    
+    @GetMapping
+    public Flux<PriceBookEntryResponse> getPriceBook(@AuthenticationPrincipal UserPrincipal principal) {
+        return findPriceBookUseCase.findByUserId(principal.getId())
+                .map(this::toResponse);
+    }
+    
+    @PostMapping
+    public Mono<PriceBookEntryResponse> setPrice(
+            @AuthenticationPrincipal UserPrincipal principal,
+            @Valid @RequestBody PriceBookEntryRequest request) {
+        SetMaterialPriceCommand command = SetMaterialPriceCommand.builder()
+                .userId(principal.getId())
+                .materialName(request.getMaterialName())
+                .unit(request.getUnit())
+                .pricePerUnit(request.getPricePerUnit())
+                .effectiveFrom(request.getEffectiveFrom())
+                .build();
+        
+        return setMaterialPriceUseCase.setPrice(command)
+                .map(this::toResponse);
+    }
+    
+    @PostMapping("/reprice")
+    public Mono<RepriceResponse> repriceOpenEstimates(@AuthenticationPrincipal UserPrincipal principal) {
+        return repriceOpenEstimatesUseCase.reprice(principal.getId())
+                .map(result -> new RepriceResponse(result.getScanned(), result.getUpdated(), result.getConflicts()));
+    }
+    
+    @DeleteMapping("/{id}")
+    public Mono<Void> deleteEntry(
+            @AuthenticationPrincipal UserPrincipal principal,
+            @PathVariable String id) {
+        return deletePriceBookEntryUseCase.delete(id, principal.getId());
+    }
+    
+    private PriceBookEntryResponse toResponse(PriceBookEntry entry) {
+        return PriceBookEntryResponse.builder()
+                .id(entry.getId())
+                .materialName(entry.getMaterialName())
+                .unit(entry.getUnit())
+                .pricePerUnit(entry.getPricePerUnit())
+                .effectiveFrom(entry.getEffectiveFrom())
+                .createdAt(entry.getCreatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,31 @@
+package com.estimate.adapter.in.web.pricebook.dto;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PriceBookEntryRequest {
+    
+    @NotBlank(message = "Material name is required")
+    private String materialName;
+    
+    @NotBlank(message = "Unit is required")
+    private String unit;
+    
+    @NotNull(message = "Price is required")
+    @DecimalMin(value = "0", message = "Price must not be negative")
+    private BigDecimal pricePerUnit;
+    
+    private LocalDate effectiveFrom;
+}
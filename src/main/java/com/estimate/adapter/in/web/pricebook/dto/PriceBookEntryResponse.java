@@ -0,0 +1,24 @@
+package com.estimate.adapter.in.web.pricebook.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PriceBookEntryResponse {
+    
+    private String id;
+    private String materialName;
+    private String unit;
+    private BigDecimal pricePerUnit;
+    private LocalDate effectiveFrom;
+    private Instant createdAt;
+}
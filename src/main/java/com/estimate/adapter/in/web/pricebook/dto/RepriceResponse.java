@@ -0,0 +1,15 @@
+package com.estimate.adapter.in.web.pricebook.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RepriceResponse {
+    
+    private long scanned;
+    private long updated;
+    private long conflicts;
+}
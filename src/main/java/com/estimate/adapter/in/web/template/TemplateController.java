@@ -1,12 +1,17 @@
 package com.estimate.adapter.in.web.template;
 
+import com.estimate.adapter.in.web.template.dto.ExpandedTemplateResponse;
 import com.estimate.adapter.in.web.template.dto.TemplateRequest;
 import com.estimate.adapter.in.web.template.dto.TemplateResponse;
 import com.estimate.domain.model.RenovationTemplate;
 import com.estimate.domain.port.in.template.*;
 import com.estimate.infrastructure.security.UserPrincipal;
+import com.estimate.infrastructure.web.ConditionalRequests;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import reactor.core.publisher.Flux;
@@ -21,19 +26,37 @@ public class TemplateController {
     private final UpdateTemplateUseCase updateTemplateUseCase;
     private final DeleteTemplateUseCase deleteTemplateUseCase;
     private final FindTemplateUseCase findTemplateUseCase;
+    private final ExpandTemplateUseCase expandTemplateUseCase;
     
-    @GetMapping
+    @GetMapping(produces = {
+            MediaType.APPLICATION_JSON_VALUE,
+            MediaType.APPLICATION_NDJSON_VALUE,
+            MediaType.TEXT_EVENT_STREAM_VALUE
+    })
     public Flux<TemplateResponse> getTemplates(@AuthenticationPrincipal UserPrincipal principal) {
         return findTemplateUseCase.findByUserId(principal.getId())
                 .map(this::toResponse);
     }
     
     @GetMapping("/{id}")
-    public Mono<TemplateResponse> getTemplate(
+    public Mono<ResponseEntity<TemplateResponse>> getTemplate(
             @AuthenticationPrincipal UserPrincipal principal,
             @PathVariable String id) {
         return findTemplateUseCase.findById(id, principal.getId())
-                .map(this::toResponse);
+                .map(template -> ConditionalRequests.versioned(template.getVersion(), toResponse(template)));
+    }
+    
+    @GetMapping("/{id}/expanded")
+    public Mono<ExpandedTemplateResponse> getExpandedTemplate(
+            @AuthenticationPrincipal UserPrincipal principal,
+            @PathVariable String id) {
+        return expandTemplateUseCase.expand(id, principal.getId())
+                .map(result -> ExpandedTemplateResponse.builder()
+                        .templateId(result.getTemplate().getId())
+                        .name(result.getTemplate().getName())
+                        .workItems(result.getWorkItems())
+                        .missingWorkIds(result.getMissingWorkIds())
+                        .build());
     }
     
     @PostMapping
@@ -51,19 +74,21 @@ public class TemplateController {
     }
     
     @PutMapping("/{id}")
-    public Mono<TemplateResponse> updateTemplate(
+    public Mono<ResponseEntity<TemplateResponse>> updateTemplate(
             @AuthenticationPrincipal UserPrincipal principal,
             @PathVariable String id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody TemplateRequest request) {
         UpdateTemplateCommand command = UpdateTemplateCommand.builder()
                 .templateId(id)
                 .userId(principal.getId())
+                .expectedVersion(ConditionalRequests.expectedVersion(ifMatch))
                 .name(request.getName())
                 .workIds(request.getWorkIds())
                 .build();
         
         return updateTemplateUseCase.update(command)
-                .map(this::toResponse);
+                .map(template -> ConditionalRequests.versioned(template.getVersion(), toResponse(template)));
     }
     
     @DeleteMapping("/{id}")
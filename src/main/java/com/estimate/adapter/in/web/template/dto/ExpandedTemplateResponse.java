@@ -0,0 +1,21 @@
+package com.estimate.adapter.in.web.template.dto;
+
+import com.estimate.domain.model.EstimateWorkItem;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExpandedTemplateResponse {
+    
+    private String templateId;
+    private String name;
+    private List<EstimateWorkItem> workItems;
+    private List<String> missingWorkIds;
+}
@@ -1,39 +1,71 @@
 package com.estimate.adapter.in.web.work;
 
+import com.estimate.adapter.in.web.work.dto.WorkCsvRecord;
+import com.estimate.adapter.in.web.work.dto.WorkImportResponse;
 import com.estimate.adapter.in.web.work.dto.WorkRequest;
 import com.estimate.adapter.in.web.work.dto.WorkResponse;
+import com.estimate.domain.model.Material;
 import com.estimate.domain.model.Work;
 import com.estimate.domain.port.in.work.*;
 import com.estimate.infrastructure.security.UserPrincipal;
+import com.estimate.infrastructure.web.ConditionalRequests;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.StringDecoder;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
+import reactor.util.function.Tuples;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/works")
 @RequiredArgsConstructor
 public class WorkController {
     
+    private static final String TEXT_CSV_VALUE = "text/csv";
+    // Bounds the rows of one work that are held in memory while a CSV import merges them
+    private static final int MAX_CSV_MATERIALS_PER_WORK = 500;
+    
     private final CreateWorkUseCase createWorkUseCase;
     private final UpdateWorkUseCase updateWorkUseCase;
     private final DeleteWorkUseCase deleteWorkUseCase;
     private final FindWorkUseCase findWorkUseCase;
+    private final ImportWorksUseCase importWorksUseCase;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final StringDecoder lineDecoder = StringDecoder.allMimeTypes();
     
-    @GetMapping
+    @GetMapping(produces = {
+            MediaType.APPLICATION_JSON_VALUE,
+            MediaType.APPLICATION_NDJSON_VALUE,
+            MediaType.TEXT_EVENT_STREAM_VALUE
+    })
     public Flux<WorkResponse> getWorks(@AuthenticationPrincipal UserPrincipal principal) {
         return findWorkUseCase.findByUserId(principal.getId())
                 .map(this::toResponse);
     }
     
     @GetMapping("/{id}")
-    public Mono<WorkResponse> getWork(
+    public Mono<ResponseEntity<WorkResponse>> getWork(
             @AuthenticationPrincipal UserPrincipal principal,
             @PathVariable String id) {
         return findWorkUseCase.findById(id, principal.getId())
-                .map(this::toResponse);
+                .map(work -> ConditionalRequests.versioned(work.getVersion(), toResponse(work)));
     }
     
     @PostMapping
@@ -52,22 +84,63 @@ public class WorkController {
     }
     
     @PutMapping("/{id}")
-    public Mono<WorkResponse> updateWork(
+    public Mono<ResponseEntity<WorkResponse>> updateWork(
             @AuthenticationPrincipal UserPrincipal principal,
             @PathVariable String id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody WorkRequest request) {
         UpdateWorkCommand command = UpdateWorkCommand.builder()
                 .workId(id)
                 .userId(principal.getId())
+                .expectedVersion(ConditionalRequests.expectedVersion(ifMatch))
                 .name(request.getName())
                 .unit(request.getUnit())
                 .materials(request.getMaterials())
                 .build();
         
         return updateWorkUseCase.update(command)
+                .map(work -> ConditionalRequests.versioned(work.getVersion(), toResponse(work)));
+    }
+    
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public Mono<WorkImportResponse> importNdjson(
+            @AuthenticationPrincipal UserPrincipal principal,
+            @RequestBody Flux<DataBuffer> body) {
+        Flux<ImportWorkCommand> works = lines(body)
+                .map(line -> fromJson(line.getT1(), line.getT2()));
+        
+        return importWorksUseCase.importWorks(principal.getId(), works)
+                .map(this::toImportResponse);
+    }
+    
+    @PostMapping(value = "/import", consumes = TEXT_CSV_VALUE)
+    public Mono<WorkImportResponse> importCsv(
+            @AuthenticationPrincipal UserPrincipal principal,
+            @RequestBody Flux<DataBuffer> body) {
+        Flux<ImportWorkCommand> works = lines(body)
+                .filter(line -> line.getT1() > 1 || !line.getT2().trim().equalsIgnoreCase(WorkCsvRecord.HEADER))
+                .map(line -> fromCsv(line.getT1(), line.getT2()))
+                .windowUntilChanged(WorkController::csvWorkKey)
+                .concatMap(this::mergeCsvRows);
+        
+        return importWorksUseCase.importWorks(principal.getId(), works)
+                .map(this::toImportResponse);
+    }
+    
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<WorkResponse> exportNdjson(@AuthenticationPrincipal UserPrincipal principal) {
+        return findWorkUseCase.exportByUserId(principal.getId())
                 .map(this::toResponse);
     }
     
+    @GetMapping(value = "/export", produces = TEXT_CSV_VALUE)
+    public Flux<String> exportCsv(@AuthenticationPrincipal UserPrincipal principal) {
+        return findWorkUseCase.exportByUserId(principal.getId())
+                .flatMapIterable(work -> WorkCsvRecord.fromWork(work.getName(), work.getUnit(), work.getMaterials()))
+                .map(record -> record.toLine() + "\n")
+                .startWith(WorkCsvRecord.HEADER + "\n");
+    }
+    
     @DeleteMapping("/{id}")
     public Mono<Void> deleteWork(
             @AuthenticationPrincipal UserPrincipal principal,
@@ -75,6 +148,93 @@ public class WorkController {
         return deleteWorkUseCase.delete(id, principal.getId());
     }
     
+    private Flux<Tuple2<Long, String>> lines(Flux<DataBuffer> body) {
+        return lineDecoder.decode(body, ResolvableType.forClass(String.class), null, Collections.emptyMap())
+                .index((index, line) -> Tuples.of(index + 1, line))
+                .filter(line -> !line.getT2().isBlank());
+    }
+    
+    private ImportWorkCommand fromJson(long line, String json) {
+        try {
+            return toImportCommand(line, objectMapper.readValue(json, WorkRequest.class));
+        } catch (JsonProcessingException e) {
+            return ImportWorkCommand.builder().line(line).error("Invalid JSON: " + e.getOriginalMessage()).build();
+        }
+    }
+    
+    private ImportWorkCommand fromCsv(long line, String csv) {
+        try {
+            WorkCsvRecord record = WorkCsvRecord.parse(csv);
+            Material material = record.toMaterial();
+            return ImportWorkCommand.builder()
+                    .line(line)
+                    .name(record.getName())
+                    .unit(record.getUnit())
+                    .materials(material != null ? List.of(material) : List.of())
+                    .build();
+        } catch (IllegalArgumentException e) {
+            return ImportWorkCommand.builder().line(line).error(e.getMessage()).build();
+        }
+    }
+    
+    private static String csvWorkKey(ImportWorkCommand row) {
+        return row.getError() != null ? "#" + row.getLine() : row.getName() + "\u0000" + row.getUnit();
+    }
+    
+    /**
+     * Merges the rows of one work into a single command. Rows past {@link #MAX_CSV_MATERIALS_PER_WORK} are
+     * reported as errors one by one instead of being collected.
+     */
+    private Flux<ImportWorkCommand> mergeCsvRows(Flux<ImportWorkCommand> rows) {
+        return rows.index()
+                .bufferUntil(row -> row.getT1() >= MAX_CSV_MATERIALS_PER_WORK - 1)
+                .map(batch -> batch.get(0).getT1() < MAX_CSV_MATERIALS_PER_WORK
+                        ? mergeCsvWork(batch.stream().map(Tuple2::getT2).toList())
+                        : ImportWorkCommand.builder()
+                                .line(batch.get(0).getT2().getLine())
+                                .error("A work can have at most " + MAX_CSV_MATERIALS_PER_WORK + " materials")
+                                .build());
+    }
+    
+    private ImportWorkCommand mergeCsvWork(List<ImportWorkCommand> rows) {
+        ImportWorkCommand first = rows.get(0);
+        if (first.getError() != null) {
+            return first;
+        }
+        WorkRequest request = WorkRequest.builder()
+                .name(first.getName())
+                .unit(first.getUnit())
+                .materials(rows.stream().flatMap(row -> row.getMaterials().stream()).toList())
+                .build();
+        return toImportCommand(first.getLine(), request);
+    }
+    
+    private ImportWorkCommand toImportCommand(long line, WorkRequest request) {
+        String violations = validator.validate(request).stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining("; "));
+        if (!violations.isEmpty()) {
+            return ImportWorkCommand.builder().line(line).error(violations).build();
+        }
+        return ImportWorkCommand.builder()
+                .line(line)
+                .name(request.getName())
+                .unit(request.getUnit())
+                .materials(request.getMaterials())
+                .build();
+    }
+    
+    private WorkImportResponse toImportResponse(ImportWorksResult result) {
+        return WorkImportResponse.builder()
+                .imported(result.getImported())
+                .failed(result.getFailed())
+                .errors(result.getErrors().entrySet().stream()
+                        .map(error -> new WorkImportResponse.RowError(error.getKey(), error.getValue()))
+                        .toList())
+                .build();
+    }
+    
     private WorkResponse toResponse(Work work) {
         return WorkResponse.builder()
                 .id(work.getId())
@@ -0,0 +1,120 @@
+package com.estimate.adapter.in.web.work.dto;
+
+import com.estimate.domain.model.Material;
+import lombok.Builder;
+import lombok.Value;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One line of the work catalog CSV format. A work spans consecutive lines with the same name and unit,
+ * one line per material; a work without materials leaves the material columns empty.
+ * Quoted fields may contain commas and doubled quotes, but not line breaks.
+ */
+@Value
+@Builder
+public class WorkCsvRecord {
+    
+    public static final String HEADER = "name,unit,materialName,materialUnit,consumptionPerWorkUnit";
+    private static final int COLUMNS = 5;
+    
+    String name;
+    String unit;
+    String materialName;
+    String materialUnit;
+    BigDecimal consumptionPerWorkUnit;
+    
+    public static WorkCsvRecord parse(String line) {
+        List<String> fields = split(line);
+        if (fields.size() != COLUMNS) {
+            throw new IllegalArgumentException("Expected " + COLUMNS + " columns but got " + fields.size());
+        }
+        BigDecimal consumption;
+        try {
+            consumption = fields.get(4).isBlank() ? null : new BigDecimal(fields.get(4).trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid consumptionPerWorkUnit: " + fields.get(4));
+        }
+        return WorkCsvRecord.builder()
+                .name(fields.get(0).trim())
+                .unit(fields.get(1).trim())
+                .materialName(fields.get(2).trim())
+                .materialUnit(fields.get(3).trim())
+                .consumptionPerWorkUnit(consumption)
+                .build();
+    }
+    
+    public static List<WorkCsvRecord> fromWork(String name, String unit, List<Material> materials) {
+        if (materials == null || materials.isEmpty()) {
+            return List.of(WorkCsvRecord.builder().name(name).unit(unit).build());
+        }
+        return materials.stream()
+                .map(material -> WorkCsvRecord.builder()
+                        .name(name)
+                        .unit(unit)
+                        .materialName(material.getName())
+                        .materialUnit(material.getUnit())
+                        .consumptionPerWorkUnit(material.getConsumptionPerWorkUnit())
+                        .build())
+                .toList();
+    }
+    
+    public Material toMaterial() {
+        if (materialName == null || materialName.isBlank()) {
+            return null;
+        }
+        return new Material(materialName, materialUnit, consumptionPerWorkUnit);
+    }
+    
+    public String toLine() {
+        return String.join(",",
+                escape(name),
+                escape(unit),
+                escape(materialName),
+                escape(materialUnit),
+                consumptionPerWorkUnit != null ? consumptionPerWorkUnit.toPlainString() : "");
+    }
+    
+    private static List<String> split(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted field");
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+    
+    private static String escape(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.contains(",") || value.contains("\"") || value.contains("\n") || value.contains("\r")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+}
@@ -0,0 +1,181 @@
+package com.estimate.adapter.out.persistence.cache;
+
+import com.estimate.adapter.out.persistence.mongodb.adapter.WorkRepositoryAdapter;
+import com.estimate.domain.event.UserDeletedEvent;
+import com.estimate.domain.event.WorkCreatedEvent;
+import com.estimate.domain.event.WorkDeletedEvent;
+import com.estimate.domain.event.WorkUpdatedEvent;
+import com.estimate.domain.model.BulkInsertResult;
+import com.estimate.domain.model.Work;
+import com.estimate.domain.port.out.WorkRepositoryPort;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Per-user work catalog cache in front of {@link WorkRepositoryAdapter}.
+ * Catalogs are bounded by the total number of cached works. Writes through this adapter invalidate
+ * immediately; work domain events cover writes that bypass it.
+ */
+@Primary
+@Component
+public class CachingWorkRepositoryAdapter implements WorkRepositoryPort {
+    
+    public static final String CATALOG_CACHE_NAME = "workCatalog";
+    public static final String WORK_CACHE_NAME = "works";
+    
+    private final WorkRepositoryAdapter delegate;
+    private final AsyncCache<String, List<Work>> catalogs;
+    private final AsyncCache<String, Work> works;
+    
+    public CachingWorkRepositoryAdapter(
+            WorkRepositoryAdapter delegate,
+            MeterRegistry meterRegistry,
+            @Value("${app.cache.work-catalog.max-works:100000}") long maxWorks,
+            @Value("${app.cache.work-catalog.expire-after-write:10m}") Duration expireAfterWrite) {
+        this.delegate = delegate;
+        this.catalogs = Caffeine.newBuilder()
+                .maximumWeight(maxWorks)
+                .<String, List<Work>>weigher((userId, catalog) -> Math.max(1, catalog.size()))
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .buildAsync();
+        this.works = Caffeine.newBuilder()
+                .maximumSize(maxWorks)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, catalogs, CATALOG_CACHE_NAME);
+        CaffeineCacheMetrics.monitor(meterRegistry, works, WORK_CACHE_NAME);
+    }
+    
+    @Override
+    public Mono<Work> save(Work work) {
+        return delegate.save(work)
+                .doOnNext(saved -> invalidate(saved.getUserId(), saved.getId()));
+    }
+    
+    @Override
+    public Mono<BulkInsertResult> insertAll(List<Work> works) {
+        // A failed unordered insert may still have stored some of the works
+        return delegate.insertAll(works)
+                .doFinally(signal -> works.stream()
+                        .map(Work::getUserId)
+                        .distinct()
+                        .forEach(catalogs.synchronous()::invalidate));
+    }
+    
+    @Override
+    public Mono<Work> findById(String id) {
+        return Mono.fromFuture(() -> works.get(id, (key, executor) -> delegate.findById(key).toFuture()), true);
+    }
+    
+    @Override
+    public Flux<Work> findByUserId(String userId) {
+        return catalog(userId).flatMapIterable(catalog -> catalog);
+    }
+    
+    @Override
+    public Flux<Work> streamByUserId(String userId) {
+        return delegate.streamByUserId(userId);
+    }
+    
+    @Override
+    public Flux<Work> findByUserIdAndIdIn(String userId, List<String> ids) {
+        Set<String> wanted = new HashSet<>(ids);
+        return findByUserId(userId)
+                .filter(work -> wanted.contains(work.getId()));
+    }
+    
+    @Override
+    public Flux<Work> findAll() {
+        return delegate.findAll();
+    }
+    
+    @Override
+    public Mono<Work> updateIfOwned(String id, String userId, Long expectedVersion, Work changes) {
+        return delegate.updateIfOwned(id, userId, expectedVersion, changes)
+                .doOnNext(updated -> invalidate(userId, id));
+    }
+    
+    @Override
+    public Mono<Void> deleteById(String id) {
+        return delegate.deleteById(id)
+                .doOnSuccess(v -> evictWork(id, null));
+    }
+    
+    @Override
+    public Mono<Boolean> deleteIfOwned(String id, String userId) {
+        return delegate.deleteIfOwned(id, userId)
+                .doOnNext(deleted -> invalidate(userId, id));
+    }
+    
+    @Override
+    public Mono<Void> deleteByUserId(String userId) {
+        return delegate.deleteByUserId(userId)
+                .doOnSuccess(v -> catalogs.synchronous().invalidate(userId));
+    }
+    
+    @Override
+    public Mono<Long> deleteBatchByUserId(String userId, int batchSize) {
+        return delegate.deleteBatchByUserId(userId, batchSize)
+                .doOnNext(deleted -> catalogs.synchronous().invalidate(userId));
+    }
+    
+    @EventListener
+    public void onWorkCreated(WorkCreatedEvent event) {
+        invalidate(event.getUserId(), event.getWorkId());
+    }
+    
+    @EventListener
+    public void onWorkUpdated(WorkUpdatedEvent event) {
+        invalidate(event.getUserId(), event.getWorkId());
+    }
+    
+    @EventListener
+    public void onWorkDeleted(WorkDeletedEvent event) {
+        invalidate(event.getUserId(), event.getWorkId());
+    }
+    
+    @EventListener
+    public void onUserDeleted(UserDeletedEvent event) {
+        catalogs.synchronous().invalidate(event.getUserId());
+    }
+    
+    public void evictWork(String workId, String userId) {
+        works.synchronous().invalidate(workId);
+        if (userId != null) {
+            catalogs.synchronous().invalidate(userId);
+        } else {
+            catalogs.synchronous().asMap().values()
+                    .removeIf(catalog -> catalog.stream().anyMatch(work -> workId.equals(work.getId())));
+        }
+    }
+    
+    public void evictAll() {
+        catalogs.synchronous().invalidateAll();
+        works.synchronous().invalidateAll();
+    }
+    
+    private void invalidate(String userId, String workId) {
+        catalogs.synchronous().invalidate(userId);
+        works.synchronous().invalidate(workId);
+    }
+    
+    private Mono<List<Work>> catalog(String userId) {
+        return Mono.fromFuture(() -> catalogs.get(userId, (key, executor) ->
+                delegate.findByUserId(key).collectList().map(List::copyOf).toFuture()), true);
+    }
+}
@@ -1,20 +1,41 @@
 package com.estimate.adapter.out.persistence.mongodb.adapter;
 
+import com.estimate.adapter.out.persistence.mongodb.entity.EstimateEntity;
 import com.estimate.adapter.out.persistence.mongodb.mapper.EstimateEntityMapper;
 import com.estimate.adapter.out.persistence.mongodb.repository.EstimateMongoRepository;
 import com.estimate.domain.model.Estimate;
+import com.estimate.domain.model.EstimateCursor;
+import com.estimate.domain.model.EstimateSummary;
+import com.estimate.domain.model.MaterialPrice;
 import com.estimate.domain.port.out.EstimateRepositoryPort;
+import com.mongodb.client.result.DeleteResult;
+import com.mongodb.client.result.UpdateResult;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.ReactiveBulkOperations;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
 @Component
 @RequiredArgsConstructor
 public class EstimateRepositoryAdapter implements EstimateRepositoryPort {
     
     private final EstimateMongoRepository mongoRepository;
     private final EstimateEntityMapper mapper;
+    private final ReactiveMongoTemplate mongoTemplate;
     
     @Override
     public Mono<Estimate> save(Estimate estimate) {
@@ -24,31 +45,217 @@ public class EstimateRepositoryAdapter implements EstimateRepositoryPort {
                 .map(mapper::toDomain);
     }
     
+    @Override
+    public Flux<Estimate> insertAll(List<Estimate> estimates) {
+        return mongoTemplate.insertAll(estimates.stream().map(mapper::toEntity).toList())
+                .map(mapper::toDomain);
+    }
+    
     @Override
     public Mono<Estimate> findById(String id) {
         return mongoRepository.findById(id)
                 .map(mapper::toDomain);
     }
     
+    @Override
+    public Flux<Estimate> findAllById(List<String> ids) {
+        return mongoRepository.findAllById(ids)
+                .map(mapper::toDomain);
+    }
+    
     @Override
     public Flux<Estimate> findByUserId(String userId) {
         return mongoRepository.findByUserId(userId)
                 .map(mapper::toDomain);
     }
     
+    @Override
+    public Flux<EstimateSummary> findSummariesByUserId(String userId, EstimateCursor after, int limit) {
+        Criteria criteria = Criteria.where("userId").is(userId);
+        if (after != null) {
+            criteria = criteria.orOperator(
+                    Criteria.where("createdAt").lt(after.getCreatedAt()),
+                    Criteria.where("createdAt").is(after.getCreatedAt()).and("id").lt(after.getId())
+            );
+        }
+        
+        Query query = Query.query(criteria)
+                .with(Sort.by(Sort.Direction.DESC, "createdAt", "id"))
+                .limit(limit);
+        query.fields()
+                .include("userId", "investorName", "investorAddress", "materialDiscount", "laborDiscount",
+                        "materialCost", "laborCost", "totalCost", "validUntil", "startDate", "createdAt", "updatedAt");
+        
+        return mongoTemplate.find(query, EstimateEntity.class)
+                .map(mapper::toSummary);
+    }
+    
     @Override
     public Flux<Estimate> findAll() {
         return mongoRepository.findAll()
                 .map(mapper::toDomain);
     }
     
+    @Override
+    public Flux<Estimate> findByPricingVersionLessThan(int pricingVersion) {
+        return mongoRepository.findByPricingVersionLessThan(pricingVersion)
+                .map(mapper::toDomain);
+    }
+    
+    @Override
+    public Mono<Estimate> updateIfOwned(String id, String userId, Long expectedVersion, Estimate changes) {
+        Update update = new Update()
+                .set("investorName", changes.getInvestorName())
+                .set("investorAddress", changes.getInvestorAddress())
+                .set("templateIds", changes.getTemplateIds())
+                .set("workItems", changes.getWorkItems())
+                .set("materialNames", mapper.materialNames(changes.getWorkItems()))
+                .set("materialDiscount", changes.getMaterialDiscount())
+                .set("laborDiscount", changes.getLaborDiscount())
+                .set("notes", changes.getNotes())
+                .set("validUntil", changes.getValidUntil())
+                .set("startDate", changes.getStartDate())
+                .set("materialCost", changes.getMaterialCost())
+                .set("laborCost", changes.getLaborCost())
+                .set("totalCost", changes.getTotalCost())
+                .set("pricingVersion", changes.getPricingVersion())
+                .inc("version", 1)
+                .currentDate("updatedAt");
+        
+        Query query = ownedBy(id, userId);
+        if (expectedVersion != null) {
+            query.addCriteria(VersionCriteria.versionIs(expectedVersion));
+        }
+        
+        return mongoTemplate.findAndModify(query, update,
+                        FindAndModifyOptions.options().returnNew(true), EstimateEntity.class)
+                .map(mapper::toDomain);
+    }
+    
+    @Override
+    public Flux<Estimate> findOpenByUserIdAndMaterialNames(String userId, Collection<String> materialNames, LocalDate date) {
+        Query query = Query.query(Criteria.where("userId").is(userId)
+                        .and("materialNames").in(materialNames.stream().map(MaterialPrice::nameKey).toList())
+                        .orOperator(Criteria.where("validUntil").is(null), Criteria.where("validUntil").gte(date)))
+                .cursorBatchSize(100);
+        
+        return mongoTemplate.find(query, EstimateEntity.class)
+                .map(mapper::toDomain);
+    }
+    
+    @Override
+    public Mono<Boolean> updateTotals(Estimate estimate) {
+        Query query = Query.query(Criteria.where("id").is(estimate.getId())
+                .and("version").is(estimate.getVersion()));
+        Update update = new Update()
+                .set("materialCost", estimate.getMaterialCost())
+                .set("laborCost", estimate.getLaborCost())
+                .set("totalCost", estimate.getTotalCost())
+                .set("pricingVersion", estimate.getPricingVersion())
+                .set("materialNames", mapper.materialNames(estimate.getWorkItems()))
+                .inc("version", 1);
+        
+        return mongoTemplate.updateFirst(query, update, EstimateEntity.class)
+                .map(result -> result.getModifiedCount() > 0);
+    }
+    
+    @Override
+    public Flux<String> updatePricesIfUnchanged(List<Estimate> estimates) {
+        if (estimates.isEmpty()) {
+            return Flux.empty();
+        }
+        // Marks the documents this call wrote, since their version may have moved on by the time they are read back
+        String repriceToken = UUID.randomUUID().toString();
+        ReactiveBulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, EstimateEntity.class);
+        List<String> ids = new ArrayList<>();
+        for (Estimate estimate : estimates) {
+            long version = estimate.getVersion() != null ? estimate.getVersion() : 0L;
+            ids.add(estimate.getId());
+            Query query = ownedBy(estimate.getId(), estimate.getUserId()).addCriteria(VersionCriteria.versionIs(version));
+            Update update = new Update()
+                    .set("workItems", estimate.getWorkItems())
+                    .set("materialNames", mapper.materialNames(estimate.getWorkItems()))
+                    .set("materialCost", estimate.getMaterialCost())
+                    .set("laborCost", estimate.getLaborCost())
+                    .set("totalCost", estimate.getTotalCost())
+                    .set("pricingVersion", estimate.getPricingVersion())
+                    .set("repriceToken", repriceToken)
+                    .inc("version", 1)
+                    .currentDate("updatedAt");
+            bulk.updateOne(query, update);
+        }
+        
+        return bulk.execute()
+                .flatMapMany(result -> {
+                    if (result.getMatchedCount() == estimates.size()) {
+                        return Flux.fromIterable(ids);
+                    }
+                    Query written = Query.query(Criteria.where("id").in(ids).and("repriceToken").is(repriceToken));
+                    written.fields().include("id");
+                    return mongoTemplate.find(written, EstimateEntity.class)
+                            .map(EstimateEntity::getId);
+                });
+    }
+    
+    @Override
+    public Mono<Long> markWorksDeleted(List<String> workIds) {
+        Query query = Query.query(Criteria.where("workItems").elemMatch(
+                Criteria.where("workId").in(workIds).and("workDeleted").ne(true)));
+        Update update = new Update()
+                .set("workItems.$[item].workDeleted", true)
+                .filterArray(Criteria.where("item.workId").in(workIds))
+                .inc("version", 1)
+                .currentDate("updatedAt");
+        
+        return mongoTemplate.updateMulti(query, update, EstimateEntity.class)
+                .map(UpdateResult::getModifiedCount);
+    }
+    
     @Override
     public Mono<Void> deleteById(String id) {
         return mongoRepository.deleteById(id);
     }
     
+    @Override
+    public Mono<Boolean> deleteIfOwned(String id, String userId) {
+        return mongoTemplate.remove(ownedBy(id, userId), EstimateEntity.class)
+                .map(result -> result.getDeletedCount() > 0);
+    }
+    
+    @Override
+    public Flux<String> deleteAllIfOwned(String userId, List<String> ids) {
+        Query owned = Query.query(Criteria.where("id").in(ids).and("userId").is(userId));
+        owned.fields().include("id");
+        
+        return mongoTemplate.find(owned, EstimateEntity.class)
+                .map(EstimateEntity::getId)
+                .collectList()
+                .filter(ownedIds -> !ownedIds.isEmpty())
+                .flatMapMany(ownedIds -> mongoTemplate.remove(
+                                Query.query(Criteria.where("id").in(ownedIds).and("userId").is(userId)), EstimateEntity.class)
+                        .thenMany(Flux.fromIterable(ownedIds)));
+    }
+    
     @Override
     public Mono<Void> deleteByUserId(String userId) {
         return mongoRepository.deleteByUserId(userId);
     }
+    
+    @Override
+    public Mono<Long> deleteBatchByUserId(String userId, int batchSize) {
+        Query batch = Query.query(Criteria.where("userId").is(userId)).limit(batchSize);
+        batch.fields().include("id");
+        
+        return mongoTemplate.find(batch, EstimateEntity.class)
+                .map(EstimateEntity::getId)
+                .collectList()
+                .flatMap(ids -> ids.isEmpty()
+                        ? Mono.just(0L)
+                        : mongoTemplate.remove(Query.query(Criteria.where("id").in(ids)), EstimateEntity.class)
+                                .map(DeleteResult::getDeletedCount));
+    }
+    
+    private Query ownedBy(String id, String userId) {
+        return Query.query(Criteria.where("id").is(id).and("userId").is(userId));
+    }
 }
@@ -0,0 +1,32 @@
+package com.estimate.adapter.out.persistence.mongodb.adapter;
+
+import com.estimate.domain.port.out.TransactionPort;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.ReactiveMongoDatabaseFactory;
+import org.springframework.data.mongodb.ReactiveMongoTransactionManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+
+/**
+ * Runs work in a MongoDB transaction when transactions are enabled. MongoDB only supports
+ * transactions on a replica set, so on a standalone server the work runs as is.
+ */
+@Component
+public class MongoTransactionAdapter implements TransactionPort {
+    
+    private final TransactionalOperator transactionalOperator;
+    
+    public MongoTransactionAdapter(
+            ReactiveMongoDatabaseFactory databaseFactory,
+            @Value("${app.mongodb.transactions.enabled:false}") boolean enabled) {
+        this.transactionalOperator = enabled
+                ? TransactionalOperator.create(new ReactiveMongoTransactionManager(databaseFactory))
+                : null;
+    }
+    
+    @Override
+    public <T> Mono<T> inTransaction(Mono<T> work) {
+        return transactionalOperator != null ? transactionalOperator.transactional(work) : work;
+    }
+}
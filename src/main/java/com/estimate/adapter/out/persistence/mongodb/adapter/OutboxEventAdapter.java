@@ -0,0 +1,105 @@
+package com.estimate.adapter.out.persistence.mongodb.adapter;
+
+import com.estimate.adapter.out.persistence.mongodb.entity.OutboxEventEntity;
+import com.estimate.adapter.out.persistence.mongodb.mapper.OutboxEventEntityMapper;
+import com.estimate.domain.event.DomainEvent;
+import com.estimate.domain.event.DomainEventPublisher;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Publishes domain events by inserting them into the outbox collection. When called inside
+ * a MongoDB transaction the event is stored atomically with the aggregate write;
+ * {@link #relayBatch} later hands stored events to the in-process subscribers.
+ */
+@Slf4j
+@Primary
+@Component
+@ConditionalOnProperty(name = "app.events.outbox.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class OutboxEventAdapter implements DomainEventPublisher {
+    
+    private final ReactiveMongoTemplate mongoTemplate;
+    private final OutboxEventEntityMapper mapper;
+    
+    @Override
+    public Mono<Void> publish(DomainEvent event) {
+        return Mono.fromCallable(() -> mapper.toEntity(event))
+                .flatMap(mongoTemplate::insert)
+                .doOnNext(saved -> log.debug("Domain event {} stored in outbox: {}", saved.getType(), saved.getId()))
+                .then();
+    }
+    
+    /**
+     * Claims up to {@code batchSize} pending events for {@code lease}, passes them to {@code handler} in
+     * insertion order and marks them dispatched once the handler completes. A handler that fails or
+     * does not complete within the lease leaves the batch undispatched; its events become claimable
+     * again when the lease runs out, so delivery is at least once.
+     *
+     * @return the number of events relayed
+     */
+    public Mono<Integer> relayBatch(int batchSize, Duration lease, Function<List<DomainEvent>, Mono<Void>> handler) {
+        return claim(batchSize, lease)
+                .flatMap(claimed -> claimed.isEmpty()
+                        ? Mono.just(0)
+                        : handler.apply(claimed.stream().map(mapper::toEvent).toList())
+                                .timeout(lease)
+                                .then(markDispatched(claimed))
+                                .thenReturn(claimed.size()));
+    }
+    
+    private Mono<List<OutboxEventEntity>> claim(int batchSize, Duration lease) {
+        Instant now = Instant.now();
+        String claimToken = UUID.randomUUID().toString();
+        Query pending = Query.query(claimable(now))
+                .with(Sort.by(Sort.Direction.ASC, "createdAt"))
+                .limit(batchSize);
+        pending.fields().include("_id");
+        
+        return mongoTemplate.find(pending, OutboxEventEntity.class)
+                .map(OutboxEventEntity::getId)
+                .collectList()
+                .filter(ids -> !ids.isEmpty())
+                .flatMap(ids -> mongoTemplate.updateMulti(
+                                Query.query(Criteria.where("id").in(ids).andOperator(claimable(now))),
+                                new Update().set("claimToken", claimToken).set("claimedUntil", now.plus(lease)),
+                                OutboxEventEntity.class)
+                        .then(mongoTemplate.find(
+                                        Query.query(Criteria.where("claimToken").is(claimToken))
+                                                .with(Sort.by(Sort.Direction.ASC, "createdAt")),
+                                        OutboxEventEntity.class)
+                                .collectList()))
+                .defaultIfEmpty(List.of());
+    }
+    
+    private Mono<Void> markDispatched(List<OutboxEventEntity> claimed) {
+        return mongoTemplate.updateMulti(
+                        Query.query(Criteria.where("id").in(claimed.stream().map(OutboxEventEntity::getId).toList())),
+                        new Update().set("dispatchedAt", Instant.now()).unset("claimToken").unset("claimedUntil"),
+                        OutboxEventEntity.class)
+                .then();
+    }
+    
+    private static Criteria claimable(Instant now) {
+        return new Criteria().andOperator(
+                Criteria.where("dispatchedAt").is(null),
+                new Criteria().orOperator(
+                        Criteria.where("claimedUntil").is(null),
+                        Criteria.where("claimedUntil").lt(now)));
+    }
+}
@@ -0,0 +1,85 @@
+package com.estimate.adapter.out.persistence.mongodb.adapter;
+
+import com.estimate.adapter.out.persistence.mongodb.entity.PriceBookEntryEntity;
+import com.estimate.adapter.out.persistence.mongodb.mapper.PriceBookEntryEntityMapper;
+import com.estimate.adapter.out.persistence.mongodb.repository.PriceBookMongoRepository;
+import com.estimate.domain.model.PriceBookEntry;
+import com.estimate.domain.port.out.PriceBookRepositoryPort;
+import com.mongodb.client.result.DeleteResult;
+import com.mongodb.client.result.UpdateResult;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+
+@Component
+@RequiredArgsConstructor
+public class PriceBookRepositoryAdapter implements PriceBookRepositoryPort {
+    
+    private final PriceBookMongoRepository mongoRepository;
+    private final PriceBookEntryEntityMapper mapper;
+    private final ReactiveMongoTemplate mongoTemplate;
+    
+    @Override
+    public Mono<PriceBookEntry> save(PriceBookEntry entry) {
+        return Mono.just(entry)
+                .map(mapper::toEntity)
+                .flatMap(mongoRepository::save)
+                .map(mapper::toDomain);
+    }
+    
+    @Override
+    public Mono<PriceBookEntry> findById(String id) {
+        return mongoRepository.findById(id)
+                .map(mapper::toDomain);
+    }
+    
+    @Override
+    public Flux<PriceBookEntry> findByUserId(String userId) {
+        return mongoRepository.findByUserId(userId)
+                .map(mapper::toDomain);
+    }
+    
+    @Override
+    public Flux<String> findUserIdsWithRepricePendingOn(LocalDate date) {
+        return mongoTemplate.findDistinct(Query.query(repricePendingOn(date)), "userId", PriceBookEntryEntity.class, String.class);
+    }
+    
+    @Override
+    public Mono<Long> clearRepricePendingOn(String userId, LocalDate date) {
+        return mongoTemplate.updateMulti(Query.query(repricePendingOn(date).and("userId").is(userId)),
+                        new Update().unset("repricePending"), PriceBookEntryEntity.class)
+                .map(UpdateResult::getModifiedCount);
+    }
+    
+    @Override
+    public Mono<Boolean> deleteIfOwned(String id, String userId) {
+        return mongoTemplate.remove(Query.query(Criteria.where("id").is(id).and("userId").is(userId)),
+                        PriceBookEntryEntity.class)
+                .map(result -> result.getDeletedCount() > 0);
+    }
+    
+    @Override
+    public Mono<Long> deleteBatchByUserId(String userId, int batchSize) {
+        Query batch = Query.query(Criteria.where("userId").is(userId)).limit(batchSize);
+        batch.fields().include("id");
+        
+        return mongoTemplate.find(batch, PriceBookEntryEntity.class)
+                .map(PriceBookEntryEntity::getId)
+                .collectList()
+                .flatMap(ids -> ids.isEmpty()
+                        ? Mono.just(0L)
+                        : mongoTemplate.remove(Query.query(Criteria.where("id").in(ids)), PriceBookEntryEntity.class)
+                                .map(DeleteResult::getDeletedCount));
+    }
+    
+    private static Criteria repricePendingOn(LocalDate date) {
+        return Criteria.where("repricePending").is(true).and("effectiveFrom").lte(date);
+    }
+}
@@ -1,20 +1,31 @@
 package com.estimate.adapter.out.persistence.mongodb.adapter;
 
+import com.estimate.adapter.out.persistence.mongodb.entity.RenovationTemplateEntity;
 import com.estimate.adapter.out.persistence.mongodb.mapper.RenovationTemplateEntityMapper;
 import com.estimate.adapter.out.persistence.mongodb.repository.RenovationTemplateMongoRepository;
 import com.estimate.domain.model.RenovationTemplate;
 import com.estimate.domain.port.out.RenovationTemplateRepositoryPort;
+import com.mongodb.client.result.DeleteResult;
+import com.mongodb.client.result.UpdateResult;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
 @Component
 @RequiredArgsConstructor
 public class RenovationTemplateRepositoryAdapter implements RenovationTemplateRepositoryPort {
     
     private final RenovationTemplateMongoRepository mongoRepository;
     private final RenovationTemplateEntityMapper mapper;
+    private final ReactiveMongoTemplate mongoTemplate;
     
     @Override
     public Mono<RenovationTemplate> save(RenovationTemplate template) {
@@ -36,19 +47,79 @@ public class RenovationTemplateRepositoryAdapter implements RenovationTemplateRe
                 .map(mapper::toDomain);
     }
     
+    @Override
+    public Flux<RenovationTemplate> findByUserIdAndIdIn(String userId, List<String> ids) {
+        return mongoRepository.findByUserIdAndIdIn(userId, ids)
+                .map(mapper::toDomain);
+    }
+    
     @Override
     public Flux<RenovationTemplate> findAll() {
         return mongoRepository.findAll()
                 .map(mapper::toDomain);
     }
     
+    @Override
+    public Mono<RenovationTemplate> updateIfOwned(String id, String userId, Long expectedVersion, RenovationTemplate changes) {
+        Update update = new Update()
+                .set("name", changes.getName())
+                .set("workIds", changes.getWorkIds())
+                .inc("version", 1)
+                .currentDate("updatedAt");
+        
+        Query query = ownedBy(id, userId);
+        if (expectedVersion != null) {
+            query.addCriteria(VersionCriteria.versionIs(expectedVersion));
+        }
+        
+        return mongoTemplate.findAndModify(query, update,
+                        FindAndModifyOptions.options().returnNew(true), RenovationTemplateEntity.class)
+                .map(mapper::toDomain);
+    }
+    
+    @Override
+    public Mono<Long> removeWorkReferences(List<String> workIds) {
+        Update update = new Update()
+                .pullAll("workIds", workIds.toArray())
+                .inc("version", 1)
+                .currentDate("updatedAt");
+        
+        return mongoTemplate.updateMulti(Query.query(Criteria.where("workIds").in(workIds)), update,
+                        RenovationTemplateEntity.class)
+                .map(UpdateResult::getModifiedCount);
+    }
+    
     @Override
     public Mono<Void> deleteById(String id) {
         return mongoRepository.deleteById(id);
     }
     
+    @Override
+    public Mono<Boolean> deleteIfOwned(String id, String userId) {
+        return mongoTemplate.remove(ownedBy(id, userId), RenovationTemplateEntity.class)
+                .map(result -> result.getDeletedCount() > 0);
+    }
+    
     @Override
     public Mono<Void> deleteByUserId(String userId) {
         return mongoRepository.deleteByUserId(userId);
     }
+    
+    @Override
+    public Mono<Long> deleteBatchByUserId(String userId, int batchSize) {
+        Query batch = Query.query(Criteria.where("userId").is(userId)).limit(batchSize);
+        batch.fields().include("id");
+        
+        return mongoTemplate.find(batch, RenovationTemplateEntity.class)
+                .map(RenovationTemplateEntity::getId)
+                .collectList()
+                .flatMap(ids -> ids.isEmpty()
+                        ? Mono.just(0L)
+                        : mongoTemplate.remove(Query.query(Criteria.where("id").in(ids)), RenovationTemplateEntity.class)
+                                .map(DeleteResult::getDeletedCount));
+    }
+    
+    private Query ownedBy(String id, String userId) {
+        return Query.query(Criteria.where("id").is(id).and("userId").is(userId));
+    }
 }
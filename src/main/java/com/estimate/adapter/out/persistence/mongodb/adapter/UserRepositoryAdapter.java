@@ -1,20 +1,30 @@
 package com.estimate.adapter.out.persistence.mongodb.adapter;
 
+import com.estimate.adapter.out.persistence.mongodb.entity.UserEntity;
 import com.estimate.adapter.out.persistence.mongodb.mapper.UserEntityMapper;
 import com.estimate.adapter.out.persistence.mongodb.repository.UserMongoRepository;
 import com.estimate.domain.model.User;
 import com.estimate.domain.port.out.UserRepositoryPort;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
+import java.time.Instant;
+
 @Component
 @RequiredArgsConstructor
 public class UserRepositoryAdapter implements UserRepositoryPort {
     
     private final UserMongoRepository mongoRepository;
     private final UserEntityMapper mapper;
+    private final ReactiveMongoTemplate mongoTemplate;
     
     @Override
     public Mono<User> save(User user) {
@@ -26,13 +36,13 @@ public class UserRepositoryAdapter implements UserRepositoryPort {
     
     @Override
     public Mono<User> findById(String id) {
-        return mongoRepository.findById(id)
+        return mongoRepository.findByIdAndDeletionRequestedAtIsNull(id)
                 .map(mapper::toDomain);
     }
     
     @Override
     public Mono<User> findByEmail(String email) {
-        return mongoRepository.findByEmail(email)
+        return mongoRepository.findByEmailAndDeletionRequestedAtIsNull(email)
                 .map(mapper::toDomain);
     }
     
@@ -41,9 +51,14 @@ public class UserRepositoryAdapter implements UserRepositoryPort {
         return mongoRepository.existsByEmail(email);
     }
     
+    @Override
+    public Mono<Boolean> existsById(String id) {
+        return mongoRepository.existsById(id);
+    }
+    
     @Override
     public Flux<User> findAll() {
-        return mongoRepository.findAll()
+        return mongoRepository.findByDeletionRequestedAtIsNull()
                 .map(mapper::toDomain);
     }
     
@@ -51,4 +66,27 @@ public class UserRepositoryAdapter implements UserRepositoryPort {
     public Mono<Void> deleteById(String id) {
         return mongoRepository.deleteById(id);
     }
+    
+    @Override
+    public Mono<Boolean> requestDeletion(String id) {
+        return mongoTemplate.updateFirst(
+                        Query.query(Criteria.where("id").is(id).and("deletionRequestedAt").is(null)),
+                        new Update().set("deletionRequestedAt", Instant.now()),
+                        UserEntity.class)
+                .map(result -> result.getModifiedCount() > 0);
+    }
+    
+    @Override
+    public Mono<User> claimPendingDeletion(Duration lease) {
+        Instant now = Instant.now();
+        Query pending = Query.query(new Criteria().andOperator(
+                Criteria.where("deletionRequestedAt").ne(null),
+                new Criteria().orOperator(
+                        Criteria.where("purgeClaimedUntil").is(null),
+                        Criteria.where("purgeClaimedUntil").lt(now))));
+        
+        return mongoTemplate.findAndModify(pending, new Update().set("purgeClaimedUntil", now.plus(lease)),
+                        FindAndModifyOptions.options().returnNew(true), UserEntity.class)
+                .map(mapper::toDomain);
+    }
 }
@@ -0,0 +1,16 @@
+package com.estimate.adapter.out.persistence.mongodb.adapter;
+
+import org.springframework.data.mongodb.core.query.Criteria;
+
+/**
+ * Optimistic concurrency criteria shared by the adapters of versioned documents.
+ */
+interface VersionCriteria {
+    
+    // Documents written before versioning have no version field and are treated as version 0
+    static Criteria versionIs(long version) {
+        return version == 0
+                ? Criteria.where("version").in(0L, null)
+                : Criteria.where("version").is(version);
+    }
+}
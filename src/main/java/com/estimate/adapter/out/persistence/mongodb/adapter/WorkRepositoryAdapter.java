@@ -1,22 +1,39 @@
 package com.estimate.adapter.out.persistence.mongodb.adapter;
 
+import com.estimate.adapter.out.persistence.mongodb.entity.WorkEntity;
 import com.estimate.adapter.out.persistence.mongodb.mapper.WorkEntityMapper;
 import com.estimate.adapter.out.persistence.mongodb.repository.WorkMongoRepository;
+import com.estimate.domain.model.BulkInsertResult;
 import com.estimate.domain.model.Work;
 import com.estimate.domain.port.out.WorkRepositoryPort;
+import com.mongodb.ErrorCategory;
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.client.result.DeleteResult;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 @Component
 @RequiredArgsConstructor
 public class WorkRepositoryAdapter implements WorkRepositoryPort {
     
+    private static final int STREAM_BATCH_SIZE = 500;
+    
     private final WorkMongoRepository mongoRepository;
     private final WorkEntityMapper mapper;
+    private final ReactiveMongoTemplate mongoTemplate;
     
     @Override
     public Mono<Work> save(Work work) {
@@ -26,6 +43,22 @@ public class WorkRepositoryAdapter implements WorkRepositoryPort {
                 .map(mapper::toDomain);
     }
     
+    @Override
+    public Mono<BulkInsertResult> insertAll(List<Work> works) {
+        if (works.isEmpty()) {
+            return Mono.just(BulkInsertResult.allInserted(0));
+        }
+        List<WorkEntity> entities = works.stream()
+                .map(mapper::toEntity)
+                .peek(entity -> entity.setVersion(0L))
+                .toList();
+        return mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, WorkEntity.class)
+                .insert(entities)
+                .execute()
+                .map(result -> BulkInsertResult.allInserted(result.getInsertedCount()))
+                .onErrorResume(e -> bulkWriteFailure(e) != null, e -> Mono.just(partialInsert(bulkWriteFailure(e))));
+    }
+    
     @Override
     public Mono<Work> findById(String id) {
         return mongoRepository.findById(id)
@@ -38,6 +71,14 @@ public class WorkRepositoryAdapter implements WorkRepositoryPort {
                 .map(mapper::toDomain);
     }
     
+    @Override
+    public Flux<Work> streamByUserId(String userId) {
+        Query query = Query.query(Criteria.where("userId").is(userId))
+                .cursorBatchSize(STREAM_BATCH_SIZE);
+        return mongoTemplate.find(query, WorkEntity.class)
+                .map(mapper::toDomain);
+    }
+    
     @Override
     public Flux<Work> findByUserIdAndIdIn(String userId, List<String> ids) {
         return mongoRepository.findByUserIdAndIdIn(userId, ids)
@@ -50,13 +91,76 @@ public class WorkRepositoryAdapter implements WorkRepositoryPort {
                 .map(mapper::toDomain);
     }
     
+    @Override
+    public Mono<Work> updateIfOwned(String id, String userId, Long expectedVersion, Work changes) {
+        Update update = new Update()
+                .set("name", changes.getName())
+                .set("unit", changes.getUnit())
+                .set("materials", changes.getMaterials())
+                .inc("version", 1)
+                .currentDate("updatedAt");
+        
+        Query query = ownedBy(id, userId);
+        if (expectedVersion != null) {
+            query.addCriteria(VersionCriteria.versionIs(expectedVersion));
+        }
+        
+        return mongoTemplate.findAndModify(query, update,
+                        FindAndModifyOptions.options().returnNew(true), WorkEntity.class)
+                .map(mapper::toDomain);
+    }
+    
     @Override
     public Mono<Void> deleteById(String id) {
         return mongoRepository.deleteById(id);
     }
     
+    @Override
+    public Mono<Boolean> deleteIfOwned(String id, String userId) {
+        return mongoTemplate.remove(ownedBy(id, userId), WorkEntity.class)
+                .map(result -> result.getDeletedCount() > 0);
+    }
+    
     @Override
     public Mono<Void> deleteByUserId(String userId) {
         return mongoRepository.deleteByUserId(userId);
     }
+    
+    @Override
+    public Mono<Long> deleteBatchByUserId(String userId, int batchSize) {
+        Query batch = Query.query(Criteria.where("userId").is(userId)).limit(batchSize);
+        batch.fields().include("id");
+        
+        return mongoTemplate.find(batch, WorkEntity.class)
+                .map(WorkEntity::getId)
+                .collectList()
+                .flatMap(ids -> ids.isEmpty()
+                        ? Mono.just(0L)
+                        : mongoTemplate.remove(Query.query(Criteria.where("id").in(ids)), WorkEntity.class)
+                                .map(DeleteResult::getDeletedCount));
+    }
+    
+    private Query ownedBy(String id, String userId) {
+        return Query.query(Criteria.where("id").is(id).and("userId").is(userId));
+    }
+    
+    // Spring may translate the driver exception, so look for it among the causes
+    private static MongoBulkWriteException bulkWriteFailure(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof MongoBulkWriteException bulkWriteException) {
+                return bulkWriteException;
+            }
+        }
+        return null;
+    }
+    
+    private static BulkInsertResult partialInsert(MongoBulkWriteException failure) {
+        Map<Integer, String> errors = new LinkedHashMap<>();
+        for (BulkWriteError error : failure.getWriteErrors()) {
+            errors.put(error.getIndex(), ErrorCategory.fromErrorCode(error.getCode()) == ErrorCategory.DUPLICATE_KEY
+                    ? "Already exists"
+                    : "Could not be stored");
+        }
+        return new BulkInsertResult(failure.getWriteResult().getInsertedCount(), errors);
+    }
 }
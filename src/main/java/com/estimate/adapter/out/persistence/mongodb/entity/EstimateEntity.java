@@ -8,6 +8,8 @@ import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
@@ -23,6 +25,9 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 @Document(collection = "estimates")
+@CompoundIndex(name = "userId_createdAt", def = "{'userId': 1, 'createdAt': -1, '_id': -1}")
+@CompoundIndex(name = "workItems_workId", def = "{'workItems.workId': 1}")
+@CompoundIndex(name = "userId_materialNames", def = "{'userId': 1, 'materialNames': 1}")
 public class EstimateEntity {
     
     @Id
@@ -41,6 +46,10 @@ public class EstimateEntity {
     @Builder.Default
     private List<EstimateWorkItem> workItems = new ArrayList<>();
     
+    // Lower-cased material names of the work items, so price book entries match them regardless of case
+    @Builder.Default
+    private List<String> materialNames = new ArrayList<>();
+    
     @Builder.Default
     private BigDecimal materialDiscount = BigDecimal.ZERO;
     
@@ -53,6 +62,20 @@ public class EstimateEntity {
     
     private LocalDate startDate;
     
+    private BigDecimal materialCost;
+    
+    private BigDecimal laborCost;
+    
+    private BigDecimal totalCost;
+    
+    private Integer pricingVersion;
+    
+    // Written by each batch re-price so it can tell which documents it updated
+    private String repriceToken;
+    
+    @Version
+    private Long version;
+    
     @CreatedDate
     private Instant createdAt;
     
@@ -0,0 +1,39 @@
+package com.estimate.adapter.out.persistence.mongodb.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "event_outbox")
+@CompoundIndex(name = "dispatchedAt_createdAt", def = "{'dispatchedAt': 1, 'createdAt': 1}")
+public class OutboxEventEntity {
+    
+    @Id
+    private String id;
+    
+    private String type;
+    
+    private org.bson.Document payload;
+    
+    private Instant occurredOn;
+    
+    private Instant createdAt;
+    
+    private String claimToken;
+    
+    private Instant claimedUntil;
+    
+    @Indexed(name = "dispatchedAt_ttl", expireAfter = "7d")
+    private Instant dispatchedAt;
+}
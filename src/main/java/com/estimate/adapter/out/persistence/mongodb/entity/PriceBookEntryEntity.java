@@ -0,0 +1,43 @@
+package com.estimate.adapter.out.persistence.mongodb.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "price_book")
+public class PriceBookEntryEntity {
+    
+    @Id
+    private String id;
+    
+    @Indexed
+    private String userId;
+    
+    private String materialName;
+    
+    private String unit;
+    
+    private BigDecimal pricePerUnit;
+    
+    private LocalDate effectiveFrom;
+    
+    @CreatedDate
+    private Instant createdAt;
+    
+    // Only stored while true, to keep the index small
+    @Indexed(sparse = true)
+    private Boolean repricePending;
+}
@@ -7,6 +7,7 @@ import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.annotation.Version;
 import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
@@ -29,9 +30,13 @@ public class RenovationTemplateEntity {
     
     private String name;
     
+    @Indexed
     @Builder.Default
     private List<String> workIds = new ArrayList<>();
     
+    @Version
+    private Long version;
+    
     @CreatedDate
     private Instant createdAt;
     
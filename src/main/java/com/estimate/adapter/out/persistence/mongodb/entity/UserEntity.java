@@ -39,6 +39,12 @@ public class UserEntity {
     
     private Instant lockedUntil;
     
+    // Set when the user is deleted; the document is removed once the user's data is purged
+    @Indexed(sparse = true)
+    private Instant deletionRequestedAt;
+    
+    private Instant purgeClaimedUntil;
+    
     @CreatedDate
     private Instant createdAt;
     
@@ -8,6 +8,7 @@ import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.annotation.Version;
 import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
@@ -35,6 +36,9 @@ public class WorkEntity {
     @Builder.Default
     private List<Material> materials = new ArrayList<>();
     
+    @Version
+    private Long version;
+    
     @CreatedDate
     private Instant createdAt;
     
@@ -2,8 +2,17 @@ package com.estimate.adapter.out.persistence.mongodb.mapper;
 
 import com.estimate.adapter.out.persistence.mongodb.entity.EstimateEntity;
 import com.estimate.domain.model.Estimate;
+import com.estimate.domain.model.EstimateMaterialPrice;
+import com.estimate.domain.model.EstimateSummary;
+import com.estimate.domain.model.EstimateWorkItem;
+import com.estimate.domain.model.MaterialPrice;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
 @Component
 public class EstimateEntityMapper {
     
@@ -18,11 +27,17 @@ public class EstimateEntityMapper {
                 .investorAddress(domain.getInvestorAddress())
                 .templateIds(domain.getTemplateIds())
                 .workItems(domain.getWorkItems())
+                .materialNames(materialNames(domain.getWorkItems()))
                 .materialDiscount(domain.getMaterialDiscount())
                 .laborDiscount(domain.getLaborDiscount())
                 .notes(domain.getNotes())
                 .validUntil(domain.getValidUntil())
                 .startDate(domain.getStartDate())
+                .materialCost(domain.getMaterialCost())
+                .laborCost(domain.getLaborCost())
+                .totalCost(domain.getTotalCost())
+                .pricingVersion(domain.getPricingVersion())
+                .version(domain.getVersion())
                 .createdAt(domain.getCreatedAt())
                 .updatedAt(domain.getUpdatedAt())
                 .build();
@@ -44,6 +59,46 @@ public class EstimateEntityMapper {
                 .notes(entity.getNotes())
                 .validUntil(entity.getValidUntil())
                 .startDate(entity.getStartDate())
+                .materialCost(entity.getMaterialCost())
+                .laborCost(entity.getLaborCost())
+                .totalCost(entity.getTotalCost())
+                .pricingVersion(entity.getPricingVersion())
+                .version(entity.getVersion())
+                .createdAt(entity.getCreatedAt())
+                .updatedAt(entity.getUpdatedAt())
+                .build();
+    }
+    
+    public List<String> materialNames(List<EstimateWorkItem> workItems) {
+        if (workItems == null) {
+            return new ArrayList<>();
+        }
+        return workItems.stream()
+                .filter(item -> item.getMaterialPrices() != null)
+                .flatMap(item -> item.getMaterialPrices().stream())
+                .map(EstimateMaterialPrice::getMaterialName)
+                .filter(Objects::nonNull)
+                .map(MaterialPrice::nameKey)
+                .distinct()
+                .collect(Collectors.toCollection(ArrayList::new));
+    }
+    
+    public EstimateSummary toSummary(EstimateEntity entity) {
+        if (entity == null) {
+            return null;
+        }
+        return EstimateSummary.builder()
+                .id(entity.getId())
+                .userId(entity.getUserId())
+                .investorName(entity.getInvestorName())
+                .investorAddress(entity.getInvestorAddress())
+                .materialDiscount(entity.getMaterialDiscount())
+                .laborDiscount(entity.getLaborDiscount())
+                .materialCost(entity.getMaterialCost())
+                .laborCost(entity.getLaborCost())
+                .totalCost(entity.getTotalCost())
+                .validUntil(entity.getValidUntil())
+                .startDate(entity.getStartDate())
                 .createdAt(entity.getCreatedAt())
                 .updatedAt(entity.getUpdatedAt())
                 .build();
@@ -0,0 +1,37 @@
+package com.estimate.adapter.out.persistence.mongodb.mapper;
+
+import com.estimate.adapter.out.persistence.mongodb.entity.OutboxEventEntity;
+import com.estimate.domain.event.DomainEvent;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+
+@Component
+@RequiredArgsConstructor
+public class OutboxEventEntityMapper {
+    
+    private final MongoConverter converter;
+    
+    public OutboxEventEntity toEntity(DomainEvent event) {
+        Document payload = new Document();
+        converter.write(event, payload);
+        return OutboxEventEntity.builder()
+                .type(event.getClass().getName())
+                .payload(payload)
+                .occurredOn(event.occurredOn())
+                .createdAt(Instant.now())
+                .build();
+    }
+    
+    public DomainEvent toEvent(OutboxEventEntity entity) {
+        try {
+            Class<? extends DomainEvent> type = Class.forName(entity.getType()).asSubclass(DomainEvent.class);
+            return converter.read(type, entity.getPayload());
+        } catch (ClassNotFoundException | ClassCastException e) {
+            throw new IllegalStateException("Unknown domain event type in outbox: " + entity.getType(), e);
+        }
+    }
+}
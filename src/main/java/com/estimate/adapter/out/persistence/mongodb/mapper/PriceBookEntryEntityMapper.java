@@ -0,0 +1,41 @@
+package com.estimate.adapter.out.persistence.mongodb.mapper;
+
+import com.estimate.adapter.out.persistence.mongodb.entity.PriceBookEntryEntity;
+import com.estimate.domain.model.PriceBookEntry;
+import org.springframework.stereotype.Component;
+
+@Component
+public class PriceBookEntryEntityMapper {
+    
+    public PriceBookEntryEntity toEntity(PriceBookEntry domain) {
+        if (domain == null) {
+            return null;
+        }
+        return PriceBookEntryEntity.builder()
+                .id(domain.getId())
+                .userId(domain.getUserId())
+                .materialName(domain.getMaterialName())
+                .unit(domain.getUnit())
+                .pricePerUnit(domain.getPricePerUnit())
+                .effectiveFrom(domain.getEffectiveFrom())
+                .createdAt(domain.getCreatedAt())
+                .repricePending(domain.isRepricePending() ? Boolean.TRUE : null)
+                .build();
+    }
+    
+    public PriceBookEntry toDomain(PriceBookEntryEntity entity) {
+        if (entity == null) {
+            return null;
+        }
+        return PriceBookEntry.builder()
+                .id(entity.getId())
+                .userId(entity.getUserId())
+                .materialName(entity.getMaterialName())
+                .unit(entity.getUnit())
+                .pricePerUnit(entity.getPricePerUnit())
+                .effectiveFrom(entity.getEffectiveFrom())
+                .createdAt(entity.getCreatedAt())
+                .repricePending(Boolean.TRUE.equals(entity.getRepricePending()))
+                .build();
+    }
+}
@@ -16,6 +16,7 @@ public class RenovationTemplateEntityMapper {
                 .userId(domain.getUserId())
                 .name(domain.getName())
                 .workIds(domain.getWorkIds())
+                .version(domain.getVersion())
                 .createdAt(domain.getCreatedAt())
                 .updatedAt(domain.getUpdatedAt())
                 .build();
@@ -30,6 +31,7 @@ public class RenovationTemplateEntityMapper {
                 .userId(entity.getUserId())
                 .name(entity.getName())
                 .workIds(entity.getWorkIds())
+                .version(entity.getVersion())
                 .createdAt(entity.getCreatedAt())
                 .updatedAt(entity.getUpdatedAt())
                 .build();
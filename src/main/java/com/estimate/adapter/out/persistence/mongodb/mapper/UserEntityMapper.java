@@ -20,6 +20,7 @@ public class UserEntityMapper {
                 .phone(domain.getPhone())
                 .failedLoginAttempts(domain.getFailedLoginAttempts())
                 .lockedUntil(domain.getLockedUntil())
+                .deletionRequestedAt(domain.getDeletionRequestedAt())
                 .createdAt(domain.getCreatedAt())
                 .updatedAt(domain.getUpdatedAt())
                 .build();
@@ -38,6 +39,7 @@ public class UserEntityMapper {
                 .phone(entity.getPhone())
                 .failedLoginAttempts(entity.getFailedLoginAttempts())
                 .lockedUntil(entity.getLockedUntil())
+                .deletionRequestedAt(entity.getDeletionRequestedAt())
                 .createdAt(entity.getCreatedAt())
                 .updatedAt(entity.getUpdatedAt())
                 .build();
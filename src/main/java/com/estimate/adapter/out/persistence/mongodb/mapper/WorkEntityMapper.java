@@ -17,6 +17,7 @@ public class WorkEntityMapper {
                 .name(domain.getName())
                 .unit(domain.getUnit())
                 .materials(domain.getMaterials())
+                .version(domain.getVersion())
                 .createdAt(domain.getCreatedAt())
                 .updatedAt(domain.getUpdatedAt())
                 .build();
@@ -32,6 +33,7 @@ public class WorkEntityMapper {
                 .name(entity.getName())
                 .unit(entity.getUnit())
                 .materials(entity.getMaterials())
+                .version(entity.getVersion())
                 .createdAt(entity.getCreatedAt())
                 .updatedAt(entity.getUpdatedAt())
                 .build();
@@ -1,13 +1,19 @@
 package com.estimate.adapter.out.persistence.mongodb.repository;
 
 import com.estimate.adapter.out.persistence.mongodb.entity.EstimateEntity;
+import org.springframework.data.mongodb.repository.Meta;
+import org.springframework.data.mongodb.repository.Query;
 import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 public interface EstimateMongoRepository extends ReactiveMongoRepository<EstimateEntity, String> {
     
+    @Meta(cursorBatchSize = 100)
     Flux<EstimateEntity> findByUserId(String userId);
     
+    @Query("{ $or: [ { 'pricingVersion': null }, { 'pricingVersion': { $lt: ?0 } } ] }")
+    Flux<EstimateEntity> findByPricingVersionLessThan(int pricingVersion);
+    
     Mono<Void> deleteByUserId(String userId);
 }
@@ -0,0 +1,10 @@
+package com.estimate.adapter.out.persistence.mongodb.repository;
+
+import com.estimate.adapter.out.persistence.mongodb.entity.PriceBookEntryEntity;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import reactor.core.publisher.Flux;
+
+public interface PriceBookMongoRepository extends ReactiveMongoRepository<PriceBookEntryEntity, String> {
+    
+    Flux<PriceBookEntryEntity> findByUserId(String userId);
+}
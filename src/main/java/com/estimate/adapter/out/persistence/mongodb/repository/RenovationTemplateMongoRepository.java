@@ -1,13 +1,19 @@
 package com.estimate.adapter.out.persistence.mongodb.repository;
 
 import com.estimate.adapter.out.persistence.mongodb.entity.RenovationTemplateEntity;
+import org.springframework.data.mongodb.repository.Meta;
 import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
 public interface RenovationTemplateMongoRepository extends ReactiveMongoRepository<RenovationTemplateEntity, String> {
     
+    @Meta(cursorBatchSize = 100)
     Flux<RenovationTemplateEntity> findByUserId(String userId);
     
+    Flux<RenovationTemplateEntity> findByUserIdAndIdIn(String userId, List<String> ids);
+    
     Mono<Void> deleteByUserId(String userId);
 }
@@ -2,11 +2,16 @@ package com.estimate.adapter.out.persistence.mongodb.repository;
 
 import com.estimate.adapter.out.persistence.mongodb.entity.UserEntity;
 import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 public interface UserMongoRepository extends ReactiveMongoRepository<UserEntity, String> {
     
-    Mono<UserEntity> findByEmail(String email);
+    Mono<UserEntity> findByIdAndDeletionRequestedAtIsNull(String id);
+    
+    Mono<UserEntity> findByEmailAndDeletionRequestedAtIsNull(String email);
+    
+    Flux<UserEntity> findByDeletionRequestedAtIsNull();
     
     Mono<Boolean> existsByEmail(String email);
 }
@@ -1,6 +1,7 @@
 package com.estimate.adapter.out.persistence.mongodb.repository;
 
 import com.estimate.adapter.out.persistence.mongodb.entity.WorkEntity;
+import org.springframework.data.mongodb.repository.Meta;
 import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -9,6 +10,7 @@ import java.util.List;
 
 public interface WorkMongoRepository extends ReactiveMongoRepository<WorkEntity, String> {
     
+    @Meta(cursorBatchSize = 100)
     Flux<WorkEntity> findByUserId(String userId);
     
     Flux<WorkEntity> findByUserIdAndIdIn(String userId, List<String> ids);
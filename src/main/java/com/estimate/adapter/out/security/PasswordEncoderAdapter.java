@@ -1,15 +1,72 @@
 package com.estimate.adapter.out.security;
 
+import com.estimate.domain.exception.ServiceOverloadedException;
 import com.estimate.domain.port.out.PasswordEncoderPort;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
 
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+@Slf4j
 @Component
-@RequiredArgsConstructor
 public class PasswordEncoderAdapter implements PasswordEncoderPort {
     
     private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor hashingExecutor;
+    private final Timer queueWaitTimer;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter rejectedCounter;
+    
+    public PasswordEncoderAdapter(
+            PasswordEncoder passwordEncoder,
+            MeterRegistry meterRegistry,
+            @Value("${app.security.password-hashing.parallelism:0}") int parallelism,
+            @Value("${app.security.password-hashing.queue-capacity:100}") int queueCapacity) {
+        this.passwordEncoder = passwordEncoder;
+        
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.hashingExecutor = new ThreadPoolExecutor(
+                threads,
+                threads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("password-hashing-"),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        
+        this.queueWaitTimer = Timer.builder("password.hashing.queue.wait")
+                .description("Time a hashing task waits for a free hashing thread")
+                .register(meterRegistry);
+        this.encodeTimer = Timer.builder("password.hashing.duration")
+                .tag("operation", "encode")
+                .register(meterRegistry);
+        this.matchesTimer = Timer.builder("password.hashing.duration")
+                .tag("operation", "matches")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("password.hashing.rejected")
+                .description("Hashing tasks rejected because the hashing queue was full")
+                .register(meterRegistry);
+        Gauge.builder("password.hashing.queue.size", hashingExecutor, executor -> executor.getQueue().size())
+                .register(meterRegistry);
+        Gauge.builder("password.hashing.active", hashingExecutor, ThreadPoolExecutor::getActiveCount)
+                .register(meterRegistry);
+    }
     
     @Override
     public String encode(String rawPassword) {
@@ -20,4 +77,34 @@ public class PasswordEncoderAdapter implements PasswordEncoderPort {
     public boolean matches(String rawPassword, String encodedPassword) {
         return passwordEncoder.matches(rawPassword, encodedPassword);
     }
+    
+    @Override
+    public Mono<String> encodeAsync(String rawPassword) {
+        return submit(encodeTimer, () -> passwordEncoder.encode(rawPassword));
+    }
+    
+    @Override
+    public Mono<Boolean> matchesAsync(String rawPassword, String encodedPassword) {
+        return submit(matchesTimer, () -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        hashingExecutor.shutdown();
+    }
+    
+    private <T> Mono<T> submit(Timer hashTimer, Supplier<T> task) {
+        return Mono.fromFuture(() -> {
+                    long submittedAt = System.nanoTime();
+                    return CompletableFuture.supplyAsync(() -> {
+                        queueWaitTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                        return hashTimer.record(task);
+                    }, hashingExecutor);
+                })
+                .onErrorMap(RejectedExecutionException.class, e -> {
+                    rejectedCounter.increment();
+                    log.warn("Password hashing queue is full, rejecting request");
+                    return new ServiceOverloadedException("Too many concurrent authentication requests, please retry later");
+                });
+    }
 }
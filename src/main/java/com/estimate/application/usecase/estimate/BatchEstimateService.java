@@ -0,0 +1,179 @@
+package com.estimate.application.usecase.estimate;
+
+import com.estimate.domain.event.DomainEventPublisher;
+import com.estimate.domain.event.EstimateCreatedEvent;
+import com.estimate.domain.model.Estimate;
+import com.estimate.domain.port.in.estimate.BatchEstimateUseCase;
+import com.estimate.domain.port.in.estimate.CreateEstimateCommand;
+import com.estimate.domain.port.in.estimate.EstimateBatchResult;
+import com.estimate.domain.port.in.estimate.EstimateBatchResult.Status;
+import com.estimate.domain.port.in.estimate.RepriceEstimatesCommand;
+import com.estimate.domain.port.out.EstimateRepositoryPort;
+import com.estimate.domain.port.out.TransactionPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+/**
+ * Creates, re-prices and deletes estimates in chunks, one bulk round trip per chunk, with a bounded
+ * number of chunks in flight. Results are reported per item in request order.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BatchEstimateService implements BatchEstimateUseCase {
+    
+    private static final int CHUNK_SIZE = 100;
+    private static final int CONCURRENCY = 4;
+    
+    private final EstimateRepositoryPort estimateRepository;
+    private final DomainEventPublisher eventPublisher;
+    private final TransactionPort transactionPort;
+    
+    @Override
+    public Flux<EstimateBatchResult> createAll(List<CreateEstimateCommand> commands) {
+        return Flux.range(0, commands.size())
+                .buffer(CHUNK_SIZE)
+                .flatMapSequential(indexes -> createChunk(commands, indexes), CONCURRENCY);
+    }
+    
+    @Override
+    public Flux<EstimateBatchResult> repriceAll(RepriceEstimatesCommand command) {
+        return requireDistinct(command.getEstimateIds())
+                .buffer(CHUNK_SIZE)
+                .flatMapSequential(chunk -> repriceChunk(command, chunk), CONCURRENCY)
+                .index((index, result) -> withIndex(result, index));
+    }
+    
+    @Override
+    public Flux<EstimateBatchResult> deleteAll(String userId, List<String> estimateIds) {
+        return requireDistinct(estimateIds)
+                .buffer(CHUNK_SIZE)
+                .flatMapSequential(chunk -> deleteChunk(userId, chunk), CONCURRENCY)
+                .index((index, result) -> withIndex(result, index));
+    }
+    
+    private Flux<EstimateBatchResult> createChunk(List<CreateEstimateCommand> commands, List<Integer> indexes) {
+        List<Estimate> estimates = indexes.stream()
+                .map(index -> commands.get(index).toEstimate())
+                .toList();
+        
+        return transactionPort.inTransaction(estimateRepository.insertAll(estimates)
+                        .concatMap(saved -> eventPublisher.publish(EstimateCreatedEvent.builder()
+                                        .estimateId(saved.getId())
+                                        .userId(saved.getUserId())
+                                        .build())
+                                .thenReturn(saved))
+                        .collectList())
+                .doOnNext(saved -> log.info("Batch created {} estimates", saved.size()))
+                .flatMapIterable(saved -> IntStream.range(0, saved.size())
+                        .mapToObj(i -> EstimateBatchResult.builder()
+                                .index(indexes.get(i))
+                                .estimateId(saved.get(i).getId())
+                                .status(Status.CREATED)
+                                .version(saved.get(i).getVersion())
+                                .build())
+                        .toList())
+                .onErrorResume(e -> {
+                    log.warn("Failed to create batch of {} estimates", indexes.size(), e);
+                    return Flux.fromIterable(indexes)
+                            .map(index -> EstimateBatchResult.builder()
+                                    .index(index)
+                                    .status(Status.FAILED)
+                                    .message("Could not be stored")
+                                    .build());
+                });
+    }
+    
+    private Flux<EstimateBatchResult> repriceChunk(RepriceEstimatesCommand command, List<String> chunk) {
+        Map<String, BigDecimal> laborPrices = command.getLaborPricesByWorkId() != null
+                ? command.getLaborPricesByWorkId() : Map.of();
+        
+        return estimateRepository.findAllById(chunk)
+                .collectMap(Estimate::getId)
+                .flatMapMany(found -> {
+                    List<Estimate> changed = found.values().stream()
+                            .filter(estimate -> estimate.getUserId().equals(command.getUserId()))
+                            .filter(estimate -> estimate.applyPrices(command.getMaterialPrices(), laborPrices))
+                            .toList();
+                    Set<String> changedIds = new HashSet<>(changed.stream().map(Estimate::getId).toList());
+                    return estimateRepository.updatePricesIfUnchanged(changed)
+                            .collect(HashSet<String>::new, Set::add)
+                            .flatMapIterable(updated -> chunk.stream()
+                                    .map(id -> repriceResult(id, found.get(id), command.getUserId(), changedIds, updated))
+                                    .toList());
+                });
+    }
+    
+    private EstimateBatchResult repriceResult(String id, Estimate estimate, String userId,
+                                              Set<String> changedIds, Set<String> updated) {
+        EstimateBatchResult.EstimateBatchResultBuilder result = EstimateBatchResult.builder().estimateId(id);
+        if (estimate == null) {
+            return result.status(Status.NOT_FOUND).build();
+        }
+        if (!estimate.getUserId().equals(userId)) {
+            return result.status(Status.FORBIDDEN).build();
+        }
+        long version = estimate.getVersion() != null ? estimate.getVersion() : 0L;
+        if (!changedIds.contains(id)) {
+            return result.status(Status.UNCHANGED).version(version).build();
+        }
+        if (!updated.contains(id)) {
+            return result.status(Status.CONFLICT).message("Estimate was modified by another request").build();
+        }
+        return result.status(Status.UPDATED).version(version + 1).build();
+    }
+    
+    private Flux<EstimateBatchResult> deleteChunk(String userId, List<String> chunk) {
+        return estimateRepository.deleteAllIfOwned(userId, chunk)
+                .collect(HashSet<String>::new, Set::add)
+                .flatMapMany(deleted -> {
+                    List<String> remaining = chunk.stream().filter(id -> !deleted.contains(id)).toList();
+                    log.info("Batch deleted {} of {} estimates for user: {}", deleted.size(), chunk.size(), userId);
+                    Mono<Set<String>> existing = remaining.isEmpty()
+                            ? Mono.just(Set.of())
+                            : estimateRepository.findAllById(remaining)
+                                    .map(Estimate::getId)
+                                    .collect(HashSet<String>::new, Set::add);
+                    return existing.flatMapIterable(others -> chunk.stream()
+                            .map(id -> EstimateBatchResult.builder()
+                                    .estimateId(id)
+                                    .status(deleted.contains(id) ? Status.DELETED
+                                            : others.contains(id) ? Status.FORBIDDEN : Status.NOT_FOUND)
+                                    .build())
+                            .toList());
+                });
+    }
+    
+    /**
+     * Rejects repeated ids, so the index of each result is the position of its id in the request.
+     */
+    private static Flux<String> requireDistinct(List<String> estimateIds) {
+        Set<String> seen = new HashSet<>();
+        for (String id : estimateIds) {
+            if (!seen.add(id)) {
+                return Flux.error(new IllegalArgumentException("Duplicate estimate id: " + id));
+            }
+        }
+        return Flux.fromIterable(estimateIds);
+    }
+    
+    private static EstimateBatchResult withIndex(EstimateBatchResult result, long index) {
+        return EstimateBatchResult.builder()
+                .index((int) index)
+                .estimateId(result.getEstimateId())
+                .status(result.getStatus())
+                .version(result.getVersion())
+                .message(result.getMessage())
+                .build();
+    }
+}
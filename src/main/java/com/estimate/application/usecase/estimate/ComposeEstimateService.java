@@ -0,0 +1,117 @@
+package com.estimate.application.usecase.estimate;
+
+import com.estimate.domain.model.Estimate;
+import com.estimate.domain.model.EstimateMaterialPrice;
+import com.estimate.domain.model.EstimateWorkItem;
+import com.estimate.domain.model.MaterialPrice;
+import com.estimate.domain.model.PriceBook;
+import com.estimate.domain.model.RenovationTemplate;
+import com.estimate.domain.model.Work;
+import com.estimate.domain.port.in.estimate.ComposeEstimateResult;
+import com.estimate.domain.port.in.estimate.ComposeEstimateUseCase;
+import com.estimate.domain.port.out.PriceBookRepositoryPort;
+import com.estimate.domain.port.out.RenovationTemplateRepositoryPort;
+import com.estimate.domain.port.out.WorkRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Composes a draft estimate from the union of the works of several templates. Materials are priced from the
+ * user's price book as of today; labor prices and quantities have no source and are left at zero.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ComposeEstimateService implements ComposeEstimateUseCase {
+    
+    private final RenovationTemplateRepositoryPort templateRepository;
+    private final WorkRepositoryPort workRepository;
+    private final PriceBookRepositoryPort priceBookRepository;
+    
+    @Override
+    public Mono<ComposeEstimateResult> compose(String userId, List<String> templateIds) {
+        List<String> distinctTemplateIds = new ArrayList<>(new LinkedHashSet<>(templateIds));
+        LocalDate today = LocalDate.now();
+        
+        Mono<Map<String, RenovationTemplate>> templatesById = templateRepository
+                .findByUserIdAndIdIn(userId, distinctTemplateIds)
+                .collectMap(RenovationTemplate::getId);
+        Mono<List<MaterialPrice>> prices = priceBookRepository.findByUserId(userId)
+                .collectList()
+                .map(entries -> new PriceBook(entries).effectivePrices(today));
+        
+        return Mono.zip(templatesById, prices)
+                .flatMap(loaded -> {
+                    Map<String, RenovationTemplate> templates = loaded.getT1();
+                    Set<String> workIds = new LinkedHashSet<>();
+                    List<String> missingTemplateIds = new ArrayList<>();
+                    for (String templateId : distinctTemplateIds) {
+                        RenovationTemplate template = templates.get(templateId);
+                        if (template == null) {
+                            missingTemplateIds.add(templateId);
+                        } else if (template.getWorkIds() != null) {
+                            workIds.addAll(template.getWorkIds());
+                        }
+                    }
+                    
+                    Mono<Map<String, Work>> works = workIds.isEmpty()
+                            ? Mono.just(Map.of())
+                            : workRepository.findByUserIdAndIdIn(userId, new ArrayList<>(workIds)).collectMap(Work::getId);
+                    
+                    return works.map(resolved -> toResult(userId, distinctTemplateIds, workIds, resolved,
+                            missingTemplateIds, loaded.getT2()));
+                });
+    }
+    
+    private ComposeEstimateResult toResult(String userId, List<String> templateIds, Set<String> workIds,
+                                           Map<String, Work> works, List<String> missingTemplateIds,
+                                           List<MaterialPrice> prices) {
+        List<EstimateWorkItem> workItems = new ArrayList<>();
+        List<String> missingWorkIds = new ArrayList<>();
+        for (String workId : workIds) {
+            Work work = works.get(workId);
+            if (work == null) {
+                missingWorkIds.add(workId);
+            } else {
+                workItems.add(EstimateWorkItem.draftFrom(work));
+            }
+        }
+        
+        List<String> resolvedTemplateIds = templateIds.stream()
+                .filter(id -> !missingTemplateIds.contains(id))
+                .toList();
+        Estimate draft = Estimate.builder()
+                .userId(userId)
+                .templateIds(new ArrayList<>(resolvedTemplateIds))
+                .workItems(workItems)
+                .build();
+        draft.applyPrices(prices, Map.of());
+        draft.recalculateTotals();
+        
+        List<String> unpricedMaterialNames = workItems.stream()
+                .flatMap(item -> item.getMaterialPrices().stream())
+                .filter(material -> prices.stream().noneMatch(price -> price.appliesTo(material)))
+                .map(EstimateMaterialPrice::getMaterialName)
+                .distinct()
+                .toList();
+        
+        log.debug("Composed draft estimate from {} templates with {} works for user: {}",
+                resolvedTemplateIds.size(), workItems.size(), userId);
+        
+        return ComposeEstimateResult.builder()
+                .draft(draft)
+                .missingTemplateIds(missingTemplateIds)
+                .missingWorkIds(missingWorkIds)
+                .unpricedMaterialNames(unpricedMaterialNames)
+                .build();
+    }
+}
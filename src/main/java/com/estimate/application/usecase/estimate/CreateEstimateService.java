@@ -1,9 +1,12 @@
 package com.estimate.application.usecase.estimate;
 
+import com.estimate.domain.event.DomainEventPublisher;
+import com.estimate.domain.event.EstimateCreatedEvent;
 import com.estimate.domain.model.Estimate;
 import com.estimate.domain.port.in.estimate.CreateEstimateCommand;
 import com.estimate.domain.port.in.estimate.CreateEstimateUseCase;
 import com.estimate.domain.port.out.EstimateRepositoryPort;
+import com.estimate.domain.port.out.TransactionPort;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -15,23 +18,17 @@ import reactor.core.publisher.Mono;
 public class CreateEstimateService implements CreateEstimateUseCase {
     
     private final EstimateRepositoryPort estimateRepository;
+    private final DomainEventPublisher eventPublisher;
+    private final TransactionPort transactionPort;
     
     @Override
     public Mono<Estimate> create(CreateEstimateCommand command) {
-        Estimate estimate = Estimate.builder()
-                .userId(command.getUserId())
-                .investorName(command.getInvestorName())
-                .investorAddress(command.getInvestorAddress())
-                .templateIds(command.getTemplateIds())
-                .workItems(command.getWorkItems())
-                .materialDiscount(command.getMaterialDiscount())
-                .laborDiscount(command.getLaborDiscount())
-                .notes(command.getNotes())
-                .validUntil(command.getValidUntil())
-                .startDate(command.getStartDate())
-                .build();
-        
-        return estimateRepository.save(estimate)
+        return transactionPort.inTransaction(estimateRepository.save(command.toEstimate())
+                        .flatMap(saved -> eventPublisher.publish(EstimateCreatedEvent.builder()
+                                        .estimateId(saved.getId())
+                                        .userId(saved.getUserId())
+                                        .build())
+                                .thenReturn(saved)))
                 .doOnNext(saved -> log.info("Estimate created: {} for user: {}", saved.getId(), saved.getUserId()));
     }
 }
@@ -18,14 +18,14 @@ public class DeleteEstimateService implements DeleteEstimateUseCase {
     
     @Override
     public Mono<Void> delete(String estimateId, String userId) {
+        return estimateRepository.deleteIfOwned(estimateId, userId)
+                .flatMap(deleted -> deleted ? Mono.<Void>empty() : rejectDelete(estimateId))
+                .doOnSuccess(v -> log.info("Estimate deleted: {}", estimateId));
+    }
+    
+    private Mono<Void> rejectDelete(String estimateId) {
         return estimateRepository.findById(estimateId)
                 .switchIfEmpty(Mono.error(new ResourceNotFoundException("Estimate not found")))
-                .flatMap(estimate -> {
-                    if (!estimate.getUserId().equals(userId)) {
-                        return Mono.error(new UnauthorizedAccessException("Not authorized to delete this estimate"));
-                    }
-                    return estimateRepository.deleteById(estimateId);
-                })
-                .doOnSuccess(v -> log.info("Estimate deleted: {}", estimateId));
+                .flatMap(existing -> Mono.error(new UnauthorizedAccessException("Not authorized to delete this estimate")));
     }
 }
@@ -3,6 +3,9 @@ package com.estimate.application.usecase.estimate;
 import com.estimate.domain.exception.ResourceNotFoundException;
 import com.estimate.domain.exception.UnauthorizedAccessException;
 import com.estimate.domain.model.Estimate;
+import com.estimate.domain.model.EstimateCursor;
+import com.estimate.domain.model.EstimateSummary;
+import com.estimate.domain.model.EstimateSummaryPage;
 import com.estimate.domain.port.in.estimate.FindEstimateUseCase;
 import com.estimate.domain.port.out.EstimateRepositoryPort;
 import lombok.RequiredArgsConstructor;
@@ -11,6 +14,8 @@ import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -26,12 +31,27 @@ public class FindEstimateService implements FindEstimateUseCase {
                     if (!estimate.getUserId().equals(userId)) {
                         return Mono.error(new UnauthorizedAccessException("Not authorized to view this estimate"));
                     }
-                    return Mono.just(estimate);
+                    return Mono.just(estimate.ensureCurrentTotals());
                 });
     }
     
     @Override
     public Flux<Estimate> findByUserId(String userId) {
-        return estimateRepository.findByUserId(userId);
+        return estimateRepository.findByUserId(userId)
+                .map(Estimate::ensureCurrentTotals);
+    }
+    
+    @Override
+    public Mono<EstimateSummaryPage> findSummariesByUserId(String userId, EstimateCursor after, int limit) {
+        return estimateRepository.findSummariesByUserId(userId, after, limit + 1)
+                .collectList()
+                .map(summaries -> {
+                    if (summaries.size() <= limit) {
+                        return new EstimateSummaryPage(summaries, null);
+                    }
+                    List<EstimateSummary> page = summaries.subList(0, limit);
+                    EstimateSummary last = page.get(page.size() - 1);
+                    return new EstimateSummaryPage(page, new EstimateCursor(last.getCreatedAt(), last.getId()));
+                });
     }
 }
@@ -0,0 +1,30 @@
+package com.estimate.application.usecase.estimate;
+
+import com.estimate.domain.model.Estimate;
+import com.estimate.domain.port.in.estimate.RecalculateEstimateTotalsUseCase;
+import com.estimate.domain.port.out.EstimateRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RecalculateEstimateTotalsService implements RecalculateEstimateTotalsUseCase {
+    
+    private static final int UPDATE_CONCURRENCY = 8;
+    
+    private final EstimateRepositoryPort estimateRepository;
+    
+    @Override
+    public Mono<Long> recalculateOutdated() {
+        return estimateRepository.findByPricingVersionLessThan(Estimate.PRICING_VERSION)
+                .map(Estimate::recalculateTotals)
+                .flatMap(estimateRepository::updateTotals, UPDATE_CONCURRENCY)
+                .filter(Boolean::booleanValue)
+                .count()
+                .doOnNext(count -> log.info("Recalculated totals of {} estimates to pricing version {}",
+                        count, Estimate.PRICING_VERSION));
+    }
+}
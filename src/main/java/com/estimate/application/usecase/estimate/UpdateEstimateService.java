@@ -2,7 +2,9 @@ package com.estimate.application.usecase.estimate;
 
 import com.estimate.domain.exception.ResourceNotFoundException;
 import com.estimate.domain.exception.UnauthorizedAccessException;
+import com.estimate.domain.exception.VersionConflictException;
 import com.estimate.domain.model.Estimate;
+import com.estimate.domain.model.EstimateWorkItem;
 import com.estimate.domain.port.in.estimate.UpdateEstimateCommand;
 import com.estimate.domain.port.in.estimate.UpdateEstimateUseCase;
 import com.estimate.domain.port.out.EstimateRepositoryPort;
@@ -10,35 +12,80 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
 
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Replaces the editable fields of an estimate. {@code workDeleted} on work items is owned by the server: items keep
+ * the flag when the stored estimate has it for the same work, whatever the request says. The write is conditioned on
+ * the version that was read, so a work flagged concurrently is not lost; without If-Match the update is retried.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class UpdateEstimateService implements UpdateEstimateUseCase {
     
+    private static final int MAX_ATTEMPTS = 3;
+    
     private final EstimateRepositoryPort estimateRepository;
     
     @Override
     public Mono<Estimate> update(UpdateEstimateCommand command) {
-        return estimateRepository.findById(command.getEstimateId())
+        Mono<Estimate> update = Mono.defer(() -> estimateRepository.findById(command.getEstimateId()))
                 .switchIfEmpty(Mono.error(new ResourceNotFoundException("Estimate not found")))
                 .flatMap(existing -> {
                     if (!existing.getUserId().equals(command.getUserId())) {
                         return Mono.error(new UnauthorizedAccessException("Not authorized to update this estimate"));
                     }
-                    
-                    existing.setInvestorName(command.getInvestorName());
-                    existing.setInvestorAddress(command.getInvestorAddress());
-                    existing.setTemplateIds(command.getTemplateIds());
-                    existing.setWorkItems(command.getWorkItems());
-                    existing.setMaterialDiscount(command.getMaterialDiscount());
-                    existing.setLaborDiscount(command.getLaborDiscount());
-                    existing.setNotes(command.getNotes());
-                    existing.setValidUntil(command.getValidUntil());
-                    existing.setStartDate(command.getStartDate());
-                    
-                    return estimateRepository.save(existing);
-                })
-                .doOnNext(updated -> log.info("Estimate updated: {}", updated.getId()));
+                    long currentVersion = existing.getVersion() != null ? existing.getVersion() : 0L;
+                    if (command.getExpectedVersion() != null && command.getExpectedVersion() != currentVersion) {
+                        return Mono.error(conflict());
+                    }
+                    return estimateRepository.updateIfOwned(command.getEstimateId(), command.getUserId(), currentVersion,
+                                    changes(command, deletedWorkIds(existing)))
+                            .switchIfEmpty(Mono.error(conflict()));
+                });
+        if (command.getExpectedVersion() == null) {
+            update = update.retryWhen(Retry.max(MAX_ATTEMPTS - 1)
+                    .filter(VersionConflictException.class::isInstance)
+                    .onRetryExhaustedThrow((spec, signal) -> signal.failure()));
+        }
+        return update.doOnNext(updated -> log.info("Estimate updated: {}", updated.getId()));
+    }
+    
+    private Estimate changes(UpdateEstimateCommand command, Set<String> deletedWorkIds) {
+        List<EstimateWorkItem> workItems = command.getWorkItems();
+        if (workItems != null) {
+            workItems.forEach(item -> item.setWorkDeleted(deletedWorkIds.contains(item.getWorkId())));
+        }
+        return Estimate.builder()
+                .investorName(command.getInvestorName())
+                .investorAddress(command.getInvestorAddress())
+                .templateIds(command.getTemplateIds())
+                .workItems(workItems)
+                .materialDiscount(command.getMaterialDiscount())
+                .laborDiscount(command.getLaborDiscount())
+                .notes(command.getNotes())
+                .validUntil(command.getValidUntil())
+                .startDate(command.getStartDate())
+                .build()
+                .recalculateTotals();
+    }
+    
+    private Set<String> deletedWorkIds(Estimate existing) {
+        if (existing.getWorkItems() == null) {
+            return Set.of();
+        }
+        return existing.getWorkItems().stream()
+                .filter(EstimateWorkItem::isWorkDeleted)
+                .map(EstimateWorkItem::getWorkId)
+                .collect(Collectors.toSet());
+    }
+    
+    private VersionConflictException conflict() {
+        return new VersionConflictException("Estimate was modified by another request");
     }
 }
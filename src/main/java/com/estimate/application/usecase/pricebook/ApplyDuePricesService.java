@@ -0,0 +1,42 @@
+package com.estimate.application.usecase.pricebook;
+
+import com.estimate.domain.port.in.pricebook.ApplyDuePricesUseCase;
+import com.estimate.domain.port.in.pricebook.RepriceOpenEstimatesUseCase;
+import com.estimate.domain.port.out.PriceBookRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+
+/**
+ * Re-prices users whose future-dated prices have taken effect. The pending flag of their entries is cleared only
+ * after the re-pricing succeeded, so a failed or interrupted run is repeated on the next one.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ApplyDuePricesService implements ApplyDuePricesUseCase {
+    
+    private final PriceBookRepositoryPort priceBookRepository;
+    private final RepriceOpenEstimatesUseCase repriceOpenEstimatesUseCase;
+    
+    @Override
+    public Mono<Long> applyDuePrices(LocalDate date) {
+        return priceBookRepository.findUserIdsWithRepricePendingOn(date)
+                .concatMap(userId -> repriceOpenEstimatesUseCase.reprice(userId)
+                        .then(Mono.defer(() -> priceBookRepository.clearRepricePendingOn(userId, date)))
+                        .thenReturn(userId)
+                        .onErrorResume(e -> {
+                            log.error("Failed to apply due prices of user: {}, retrying on next run", userId, e);
+                            return Mono.empty();
+                        }))
+                .count()
+                .doOnNext(count -> {
+                    if (count > 0) {
+                        log.info("Applied prices due on {} for {} users", date, count);
+                    }
+                });
+    }
+}
@@ -0,0 +1,31 @@
+package com.estimate.application.usecase.pricebook;
+
+import com.estimate.domain.exception.ResourceNotFoundException;
+import com.estimate.domain.exception.UnauthorizedAccessException;
+import com.estimate.domain.port.in.pricebook.DeletePriceBookEntryUseCase;
+import com.estimate.domain.port.out.PriceBookRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DeletePriceBookEntryService implements DeletePriceBookEntryUseCase {
+    
+    private final PriceBookRepositoryPort priceBookRepository;
+    
+    @Override
+    public Mono<Void> delete(String entryId, String userId) {
+        return priceBookRepository.deleteIfOwned(entryId, userId)
+                .flatMap(deleted -> deleted ? Mono.<Void>empty() : rejectDelete(entryId))
+                .doOnSuccess(v -> log.info("Price book entry deleted: {} by user: {}", entryId, userId));
+    }
+    
+    private Mono<Void> rejectDelete(String entryId) {
+        return priceBookRepository.findById(entryId)
+                .switchIfEmpty(Mono.error(new ResourceNotFoundException("Price book entry not found: " + entryId)))
+                .flatMap(existing -> Mono.error(new UnauthorizedAccessException("Not authorized to delete this price book entry")));
+    }
+}
@@ -0,0 +1,20 @@
+package com.estimate.application.usecase.pricebook;
+
+import com.estimate.domain.model.PriceBookEntry;
+import com.estimate.domain.port.in.pricebook.FindPriceBookUseCase;
+import com.estimate.domain.port.out.PriceBookRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+
+@Service
+@RequiredArgsConstructor
+public class FindPriceBookService implements FindPriceBookUseCase {
+    
+    private final PriceBookRepositoryPort priceBookRepository;
+    
+    @Override
+    public Flux<PriceBookEntry> findByUserId(String userId) {
+        return priceBookRepository.findByUserId(userId);
+    }
+}
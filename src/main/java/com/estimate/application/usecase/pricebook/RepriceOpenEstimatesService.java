@@ -0,0 +1,150 @@
+package com.estimate.application.usecase.pricebook;
+
+import com.estimate.domain.model.MaterialPrice;
+import com.estimate.domain.model.PriceBook;
+import com.estimate.domain.port.in.pricebook.RepriceOpenEstimatesResult;
+import com.estimate.domain.port.in.pricebook.RepriceOpenEstimatesUseCase;
+import com.estimate.domain.port.out.EstimateRepositoryPort;
+import com.estimate.domain.port.out.PriceBookRepositoryPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Applies the currently effective price book prices to the open estimates of a user. Affected
+ * estimates are streamed through the material name index and written back in bulk batches;
+ * estimates edited concurrently are skipped and counted as conflicts. Jobs of one user run one
+ * after another, so they do not conflict with each other.
+ */
+@Slf4j
+@Service
+public class RepriceOpenEstimatesService implements RepriceOpenEstimatesUseCase {
+    
+    private static final int BATCH_SIZE = 100;
+    
+    private final PriceBookRepositoryPort priceBookRepository;
+    private final EstimateRepositoryPort estimateRepository;
+    private final Counter scannedCounter;
+    private final Counter updatedCounter;
+    private final Counter conflictCounter;
+    private final Timer jobTimer;
+    private final AtomicInteger activeJobs = new AtomicInteger();
+    private final Map<String, Mono<Void>> lastJobs = new ConcurrentHashMap<>();
+    private final Set<String> requested = ConcurrentHashMap.newKeySet();
+    
+    public RepriceOpenEstimatesService(
+            PriceBookRepositoryPort priceBookRepository,
+            EstimateRepositoryPort estimateRepository,
+            MeterRegistry meterRegistry) {
+        this.priceBookRepository = priceBookRepository;
+        this.estimateRepository = estimateRepository;
+        this.scannedCounter = Counter.builder("estimates.reprice.scanned")
+                .description("Estimates read by re-price jobs")
+                .register(meterRegistry);
+        this.updatedCounter = Counter.builder("estimates.reprice.updated")
+                .description("Estimates whose prices were changed by re-price jobs")
+                .register(meterRegistry);
+        this.conflictCounter = Counter.builder("estimates.reprice.conflicts")
+                .description("Estimates skipped because they were modified during re-pricing")
+                .register(meterRegistry);
+        this.jobTimer = Timer.builder("estimates.reprice.duration")
+                .register(meterRegistry);
+        meterRegistry.gauge("estimates.reprice.active", activeJobs);
+    }
+    
+    @Override
+    public Mono<RepriceOpenEstimatesResult> reprice(String userId) {
+        return afterPreviousJob(userId, () -> { });
+    }
+    
+    @Override
+    public void requestReprice(String userId) {
+        if (!requested.add(userId)) {
+            log.debug("Re-pricing of user: {} is already queued", userId);
+            return;
+        }
+        afterPreviousJob(userId, () -> requested.remove(userId))
+                .subscribe(null, e -> log.error("Failed to re-price estimates of user: {}", userId, e));
+    }
+    
+    private Mono<RepriceOpenEstimatesResult> afterPreviousJob(String userId, Runnable onStart) {
+        return Mono.defer(() -> {
+            Sinks.Empty<Void> finished = Sinks.empty();
+            Mono<Void> job = finished.asMono();
+            Mono<Void> previous = lastJobs.put(userId, job);
+            return (previous != null ? previous : Mono.<Void>empty())
+                    .then(Mono.defer(() -> {
+                        onStart.run();
+                        return repriceNow(userId);
+                    }))
+                    .doFinally(signal -> {
+                        lastJobs.remove(userId, job);
+                        finished.tryEmitEmpty();
+                    });
+        });
+    }
+    
+    private Mono<RepriceOpenEstimatesResult> repriceNow(String userId) {
+        LocalDate today = LocalDate.now();
+        return priceBookRepository.findByUserId(userId)
+                .collectList()
+                .map(entries -> new PriceBook(entries).effectivePrices(today))
+                .flatMap(prices -> prices.isEmpty()
+                        ? Mono.just(RepriceOpenEstimatesResult.builder().build())
+                        : repriceEstimates(userId, prices, today));
+    }
+    
+    private Mono<RepriceOpenEstimatesResult> repriceEstimates(String userId, List<MaterialPrice> prices, LocalDate today) {
+        Set<String> materialNames = prices.stream().map(MaterialPrice::getMaterialName).collect(Collectors.toSet());
+        
+        return Mono.defer(() -> {
+            AtomicLong scanned = new AtomicLong();
+            AtomicLong updated = new AtomicLong();
+            AtomicLong conflicts = new AtomicLong();
+            Timer.Sample sample = Timer.start();
+            activeJobs.incrementAndGet();
+            
+            return estimateRepository.findOpenByUserIdAndMaterialNames(userId, materialNames, today)
+                    .doOnNext(estimate -> {
+                        scanned.incrementAndGet();
+                        scannedCounter.increment();
+                    })
+                    .filter(estimate -> estimate.applyPrices(prices, Map.of()))
+                    .buffer(BATCH_SIZE)
+                    .concatMap(batch -> estimateRepository.updatePricesIfUnchanged(batch)
+                            .count()
+                            .doOnNext(written -> {
+                                updated.addAndGet(written);
+                                conflicts.addAndGet(batch.size() - written);
+                                updatedCounter.increment(written);
+                                conflictCounter.increment(batch.size() - written);
+                                log.debug("Re-pricing estimates of user: {}, scanned {}, updated {}",
+                                        userId, scanned.get(), updated.get());
+                            }))
+                    .then(Mono.fromSupplier(() -> RepriceOpenEstimatesResult.builder()
+                            .scanned(scanned.get())
+                            .updated(updated.get())
+                            .conflicts(conflicts.get())
+                            .build()))
+                    .doOnNext(result -> log.info("Re-priced {} of {} open estimates of user: {}, {} conflicts",
+                            result.getUpdated(), result.getScanned(), userId, result.getConflicts()))
+                    .doFinally(signal -> {
+                        sample.stop(jobTimer);
+                        activeJobs.decrementAndGet();
+                    });
+        });
+    }
+}
@@ -0,0 +1,46 @@
+package com.estimate.application.usecase.pricebook;
+
+import com.estimate.domain.model.PriceBookEntry;
+import com.estimate.domain.port.in.pricebook.RepriceOpenEstimatesUseCase;
+import com.estimate.domain.port.in.pricebook.SetMaterialPriceCommand;
+import com.estimate.domain.port.in.pricebook.SetMaterialPriceUseCase;
+import com.estimate.domain.port.out.PriceBookRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SetMaterialPriceService implements SetMaterialPriceUseCase {
+    
+    private final PriceBookRepositoryPort priceBookRepository;
+    private final RepriceOpenEstimatesUseCase repriceOpenEstimatesUseCase;
+    
+    @Override
+    public Mono<PriceBookEntry> setPrice(SetMaterialPriceCommand command) {
+        LocalDate today = LocalDate.now();
+        LocalDate effectiveFrom = command.getEffectiveFrom() != null ? command.getEffectiveFrom() : today;
+        PriceBookEntry entry = PriceBookEntry.builder()
+                .userId(command.getUserId())
+                .materialName(command.getMaterialName())
+                .unit(command.getUnit())
+                .pricePerUnit(command.getPricePerUnit())
+                .effectiveFrom(effectiveFrom)
+                // Future prices are applied by ApplyDuePricesService once they take effect
+                .repricePending(effectiveFrom.isAfter(today))
+                .build();
+        
+        return priceBookRepository.save(entry)
+                .doOnNext(saved -> {
+                    log.info("Price of {} set to {} from {} for user: {}",
+                            saved.getMaterialName(), saved.getPricePerUnit(), saved.getEffectiveFrom(), saved.getUserId());
+                    if (!saved.isRepricePending()) {
+                        repriceOpenEstimatesUseCase.requestReprice(saved.getUserId());
+                    }
+                });
+    }
+}
@@ -18,14 +18,14 @@ public class DeleteTemplateService implements DeleteTemplateUseCase {
     
     @Override
     public Mono<Void> delete(String templateId, String userId) {
+        return templateRepository.deleteIfOwned(templateId, userId)
+                .flatMap(deleted -> deleted ? Mono.<Void>empty() : rejectDelete(templateId))
+                .doOnSuccess(v -> log.info("Template deleted: {}", templateId));
+    }
+    
+    private Mono<Void> rejectDelete(String templateId) {
         return templateRepository.findById(templateId)
                 .switchIfEmpty(Mono.error(new ResourceNotFoundException("Template not found")))
-                .flatMap(template -> {
-                    if (!template.getUserId().equals(userId)) {
-                        return Mono.error(new UnauthorizedAccessException("Not authorized to delete this template"));
-                    }
-                    return templateRepository.deleteById(templateId);
-                })
-                .doOnSuccess(v -> log.info("Template deleted: {}", templateId));
+                .flatMap(existing -> Mono.error(new UnauthorizedAccessException("Not authorized to delete this template")));
     }
 }
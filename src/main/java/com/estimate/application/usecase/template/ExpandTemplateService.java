@@ -0,0 +1,69 @@
+package com.estimate.application.usecase.template;
+
+import com.estimate.domain.exception.ResourceNotFoundException;
+import com.estimate.domain.exception.UnauthorizedAccessException;
+import com.estimate.domain.model.EstimateWorkItem;
+import com.estimate.domain.model.RenovationTemplate;
+import com.estimate.domain.model.Work;
+import com.estimate.domain.port.in.template.ExpandTemplateResult;
+import com.estimate.domain.port.in.template.ExpandTemplateUseCase;
+import com.estimate.domain.port.out.RenovationTemplateRepositoryPort;
+import com.estimate.domain.port.out.WorkRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ExpandTemplateService implements ExpandTemplateUseCase {
+    
+    private final RenovationTemplateRepositoryPort templateRepository;
+    private final WorkRepositoryPort workRepository;
+    
+    @Override
+    public Mono<ExpandTemplateResult> expand(String templateId, String userId) {
+        return templateRepository.findById(templateId)
+                .switchIfEmpty(Mono.error(new ResourceNotFoundException("Template not found")))
+                .flatMap(template -> {
+                    if (!template.getUserId().equals(userId)) {
+                        return Mono.error(new UnauthorizedAccessException("Not authorized to view this template"));
+                    }
+                    if (template.getWorkIds() == null || template.getWorkIds().isEmpty()) {
+                        return Mono.just(toResult(template, Map.of()));
+                    }
+                    return workRepository.findByUserIdAndIdIn(userId, template.getWorkIds())
+                            .collectMap(Work::getId)
+                            .map(works -> toResult(template, works));
+                });
+    }
+    
+    private ExpandTemplateResult toResult(RenovationTemplate template, Map<String, Work> works) {
+        List<EstimateWorkItem> workItems = new ArrayList<>();
+        List<String> missingWorkIds = new ArrayList<>();
+        if (template.getWorkIds() != null) {
+            for (String workId : template.getWorkIds()) {
+                Work work = works.get(workId);
+                if (work == null) {
+                    missingWorkIds.add(workId);
+                } else {
+                    workItems.add(EstimateWorkItem.draftFrom(work));
+                }
+            }
+        }
+        if (!missingWorkIds.isEmpty()) {
+            log.warn("Template {} references missing works: {}", template.getId(), missingWorkIds);
+        }
+        
+        return ExpandTemplateResult.builder()
+                .template(template)
+                .workItems(workItems)
+                .missingWorkIds(missingWorkIds)
+                .build();
+    }
+}
@@ -2,6 +2,7 @@ package com.estimate.application.usecase.template;
 
 import com.estimate.domain.exception.ResourceNotFoundException;
 import com.estimate.domain.exception.UnauthorizedAccessException;
+import com.estimate.domain.exception.VersionConflictException;
 import com.estimate.domain.model.RenovationTemplate;
 import com.estimate.domain.port.in.template.UpdateTemplateCommand;
 import com.estimate.domain.port.in.template.UpdateTemplateUseCase;
@@ -20,18 +21,24 @@ public class UpdateTemplateService implements UpdateTemplateUseCase {
     
     @Override
     public Mono<RenovationTemplate> update(UpdateTemplateCommand command) {
-        return templateRepository.findById(command.getTemplateId())
+        RenovationTemplate changes = RenovationTemplate.builder()
+                .name(command.getName())
+                .workIds(command.getWorkIds())
+                .build();
+        
+        return templateRepository.updateIfOwned(command.getTemplateId(), command.getUserId(), command.getExpectedVersion(), changes)
+                .switchIfEmpty(Mono.defer(() -> rejectUpdate(command.getTemplateId(), command.getUserId())))
+                .doOnNext(updated -> log.info("Template updated: {}", updated.getId()));
+    }
+    
+    private Mono<RenovationTemplate> rejectUpdate(String templateId, String userId) {
+        return templateRepository.findById(templateId)
                 .switchIfEmpty(Mono.error(new ResourceNotFoundException("Template not found")))
                 .flatMap(existing -> {
-                    if (!existing.getUserId().equals(command.getUserId())) {
+                    if (!existing.getUserId().equals(userId)) {
                         return Mono.error(new UnauthorizedAccessException("Not authorized to update this template"));
                     }
-                    
-                    existing.setName(command.getName());
-                    existing.setWorkIds(command.getWorkIds());
-                    
-                    return templateRepository.save(existing);
-                })
-                .doOnNext(updated -> log.info("Template updated: {}", updated.getId()));
+                    return Mono.error(new VersionConflictException("Template was modified by another request"));
+                });
     }
 }
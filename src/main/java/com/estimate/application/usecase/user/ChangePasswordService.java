@@ -23,14 +23,18 @@ public class ChangePasswordService implements ChangePasswordUseCase {
     public Mono<Void> changePassword(ChangePasswordCommand command) {
         return userRepository.findById(command.getUserId())
                 .switchIfEmpty(Mono.error(new ResourceNotFoundException("User not found")))
-                .flatMap(user -> {
-                    if (!passwordEncoder.matches(command.getOldPassword(), user.getPasswordHash())) {
-                        return Mono.error(new InvalidPasswordException("Old password is incorrect"));
-                    }
-                    
-                    user.setPasswordHash(passwordEncoder.encode(command.getNewPassword()));
-                    return userRepository.save(user);
-                })
+                .flatMap(user -> passwordEncoder.matchesAsync(command.getOldPassword(), user.getPasswordHash())
+                        .flatMap(matches -> {
+                            if (!matches) {
+                                return Mono.error(new InvalidPasswordException("Old password is incorrect"));
+                            }
+                            
+                            return passwordEncoder.encodeAsync(command.getNewPassword());
+                        })
+                        .flatMap(passwordHash -> {
+                            user.setPasswordHash(passwordHash);
+                            return userRepository.save(user);
+                        }))
                 .doOnNext(user -> log.info("Password changed for user: {}", user.getId()))
                 .then();
     }
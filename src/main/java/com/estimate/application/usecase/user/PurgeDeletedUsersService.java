@@ -0,0 +1,78 @@
+package com.estimate.application.usecase.user;
+
+import com.estimate.domain.event.DomainEventPublisher;
+import com.estimate.domain.event.UserDeletedEvent;
+import com.estimate.domain.port.in.user.PurgeDeletedUsersUseCase;
+import com.estimate.domain.port.out.EstimateRepositoryPort;
+import com.estimate.domain.port.out.PriceBookRepositoryPort;
+import com.estimate.domain.port.out.RenovationTemplateRepositoryPort;
+import com.estimate.domain.port.out.UserRepositoryPort;
+import com.estimate.domain.port.out.WorkRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.function.BiFunction;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PurgeDeletedUsersService implements PurgeDeletedUsersUseCase {
+    
+    private static final int PURGE_BATCH_SIZE = 1000;
+    
+    private final UserRepositoryPort userRepository;
+    private final WorkRepositoryPort workRepository;
+    private final RenovationTemplateRepositoryPort templateRepository;
+    private final EstimateRepositoryPort estimateRepository;
+    private final PriceBookRepositoryPort priceBookRepository;
+    private final DomainEventPublisher eventPublisher;
+    
+    @Override
+    public Mono<Long> purgePending(Duration lease) {
+        return purgeNext(lease)
+                .expand(purged -> purgeNext(lease))
+                .filter(Boolean::booleanValue)
+                .count();
+    }
+    
+    /**
+     * Purges one claimed user. Completes empty when no user is claimable and emits {@code false} when the purge
+     * failed; the user stays claimed until the lease runs out and is then retried.
+     */
+    private Mono<Boolean> purgeNext(Duration lease) {
+        return userRepository.claimPendingDeletion(lease)
+                .flatMap(user -> purgeUserData(user.getId())
+                        .thenReturn(true)
+                        .onErrorResume(e -> {
+                            log.error("Failed to purge data of deleted user, retrying after {}: {}", lease, user.getId(), e);
+                            return Mono.just(false);
+                        }));
+    }
+    
+    // The user document is removed last, so a purge interrupted at any point is resumed from the marker
+    private Mono<Void> purgeUserData(String userId) {
+        return Mono.when(
+                        purge("works", userId, workRepository::deleteBatchByUserId),
+                        purge("templates", userId, templateRepository::deleteBatchByUserId),
+                        purge("estimates", userId, estimateRepository::deleteBatchByUserId),
+                        purge("price book entries", userId, priceBookRepository::deleteBatchByUserId))
+                .then(Mono.defer(() -> eventPublisher.publish(UserDeletedEvent.builder().userId(userId).build())))
+                .then(Mono.defer(() -> userRepository.deleteById(userId)))
+                .doOnSuccess(v -> log.info("User and all related data deleted: {}", userId));
+    }
+    
+    private Mono<Long> purge(String collection, String userId, BiFunction<String, Integer, Mono<Long>> deleteBatch) {
+        return deleteBatch.apply(userId, PURGE_BATCH_SIZE)
+                // A page shrunk by a concurrent delete is not the last one, only an empty page is
+                .expand(deleted -> deleted == 0
+                        ? Mono.empty()
+                        : deleteBatch.apply(userId, PURGE_BATCH_SIZE))
+                .scan(Long::sum)
+                .doOnNext(total -> log.debug("Purged {} {} of user: {}", total, collection, userId))
+                .last(0L)
+                .doOnNext(total -> log.info("Purged {} {} of deleted user: {}", total, collection, userId));
+    }
+}
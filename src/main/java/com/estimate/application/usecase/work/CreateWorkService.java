@@ -1,8 +1,11 @@
 package com.estimate.application.usecase.work;
 
+import com.estimate.domain.event.DomainEventPublisher;
+import com.estimate.domain.event.WorkCreatedEvent;
 import com.estimate.domain.model.Work;
 import com.estimate.domain.port.in.work.CreateWorkCommand;
 import com.estimate.domain.port.in.work.CreateWorkUseCase;
+import com.estimate.domain.port.out.TransactionPort;
 import com.estimate.domain.port.out.WorkRepositoryPort;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -15,6 +18,8 @@ import reactor.core.publisher.Mono;
 public class CreateWorkService implements CreateWorkUseCase {
     
     private final WorkRepositoryPort workRepository;
+    private final DomainEventPublisher eventPublisher;
+    private final TransactionPort transactionPort;
     
     @Override
     public Mono<Work> create(CreateWorkCommand command) {
@@ -25,7 +30,12 @@ public class CreateWorkService implements CreateWorkUseCase {
                 .materials(command.getMaterials())
                 .build();
         
-        return workRepository.save(work)
+        return transactionPort.inTransaction(workRepository.save(work)
+                        .flatMap(saved -> eventPublisher.publish(WorkCreatedEvent.builder()
+                                        .workId(saved.getId())
+                                        .userId(saved.getUserId())
+                                        .build())
+                                .thenReturn(saved)))
                 .doOnNext(saved -> log.info("Work created: {} for user: {}", saved.getName(), saved.getUserId()));
     }
 }
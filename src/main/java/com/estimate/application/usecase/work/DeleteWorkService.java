@@ -1,8 +1,11 @@
 package com.estimate.application.usecase.work;
 
+import com.estimate.domain.event.DomainEventPublisher;
+import com.estimate.domain.event.WorkDeletedEvent;
 import com.estimate.domain.exception.UnauthorizedAccessException;
 import com.estimate.domain.exception.WorkNotFoundException;
 import com.estimate.domain.port.in.work.DeleteWorkUseCase;
+import com.estimate.domain.port.out.TransactionPort;
 import com.estimate.domain.port.out.WorkRepositoryPort;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -15,17 +18,23 @@ import reactor.core.publisher.Mono;
 public class DeleteWorkService implements DeleteWorkUseCase {
     
     private final WorkRepositoryPort workRepository;
+    private final DomainEventPublisher eventPublisher;
+    private final TransactionPort transactionPort;
     
     @Override
     public Mono<Void> delete(String workId, String userId) {
+        return transactionPort.inTransaction(workRepository.deleteIfOwned(workId, userId)
+                        .flatMap(deleted -> deleted ? Mono.<Void>empty() : rejectDelete(workId))
+                        .then(Mono.defer(() -> eventPublisher.publish(WorkDeletedEvent.builder()
+                                .workId(workId)
+                                .userId(userId)
+                                .build()))))
+                .doOnSuccess(v -> log.info("Work deleted: {} by user: {}", workId, userId));
+    }
+    
+    private Mono<Void> rejectDelete(String workId) {
         return workRepository.findById(workId)
                 .switchIfEmpty(Mono.error(new WorkNotFoundException(workId)))
-                .flatMap(work -> {
-                    if (!work.getUserId().equals(userId)) {
-                        return Mono.error(new UnauthorizedAccessException("Not authorized to delete this work"));
-                    }
-                    return workRepository.deleteById(workId);
-                })
-                .doOnSuccess(v -> log.info("Work deleted: {} by user: {}", workId, userId));
+                .flatMap(existing -> Mono.error(new UnauthorizedAccessException("Not authorized to delete this work")));
     }
 }
@@ -33,6 +33,11 @@ public class FindWorkService implements FindWorkUseCase {
         return workRepository.findByUserId(userId);
     }
     
+    @Override
+    public Flux<Work> exportByUserId(String userId) {
+        return workRepository.streamByUserId(userId);
+    }
+    
     @Override
     public Flux<Work> findAll() {
         return workRepository.findAll();
@@ -0,0 +1,91 @@
+package com.estimate.application.usecase.work;
+
+import com.estimate.domain.model.BulkInsertResult;
+import com.estimate.domain.model.Work;
+import com.estimate.domain.port.in.work.ImportWorkCommand;
+import com.estimate.domain.port.in.work.ImportWorksResult;
+import com.estimate.domain.port.in.work.ImportWorksUseCase;
+import com.estimate.domain.port.out.WorkRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Imports works in unordered batches while the input is still being read, so memory use does not
+ * grow with the size of the import. Rows that fail do not stop the import.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ImportWorksService implements ImportWorksUseCase {
+    
+    private static final int BATCH_SIZE = 500;
+    private static final int MAX_REPORTED_ERRORS = 1000;
+    
+    private final WorkRepositoryPort workRepository;
+    
+    @Override
+    public Mono<ImportWorksResult> importWorks(String userId, Flux<ImportWorkCommand> works) {
+        return works.buffer(BATCH_SIZE)
+                .concatMap(batch -> importBatch(userId, batch))
+                .reduceWith(() -> ImportWorksResult.builder().errors(new LinkedHashMap<>()).build(), this::merge)
+                .doOnNext(result -> log.info("Imported {} works for user: {}, {} rows failed",
+                        result.getImported(), userId, result.getFailed()));
+    }
+    
+    private Mono<ImportWorksResult> importBatch(String userId, List<ImportWorkCommand> batch) {
+        Map<Long, String> errors = new LinkedHashMap<>();
+        List<Long> lines = new ArrayList<>();
+        List<Work> works = new ArrayList<>();
+        for (ImportWorkCommand command : batch) {
+            if (command.getError() != null) {
+                errors.put(command.getLine(), command.getError());
+                continue;
+            }
+            lines.add(command.getLine());
+            works.add(Work.builder()
+                    .userId(userId)
+                    .name(command.getName())
+                    .unit(command.getUnit())
+                    .materials(command.getMaterials() != null ? command.getMaterials() : new ArrayList<>())
+                    .build());
+        }
+        
+        return workRepository.insertAll(works)
+                .onErrorResume(e -> {
+                    log.warn("Failed to store batch of {} imported works for user: {}", works.size(), userId, e);
+                    Map<Integer, String> failed = new LinkedHashMap<>();
+                    for (int i = 0; i < works.size(); i++) {
+                        failed.put(i, "Could not be stored");
+                    }
+                    return Mono.just(new BulkInsertResult(0, failed));
+                })
+                .map(result -> {
+                    result.getErrors().forEach((index, message) -> errors.put(lines.get(index), message));
+                    return ImportWorksResult.builder()
+                            .imported(result.getInserted())
+                            .failed(errors.size())
+                            .errors(errors)
+                            .build();
+                });
+    }
+    
+    private ImportWorksResult merge(ImportWorksResult total, ImportWorksResult batch) {
+        Map<Long, String> errors = total.getErrors();
+        batch.getErrors().entrySet().stream()
+                .limit(Math.max(0, MAX_REPORTED_ERRORS - errors.size()))
+                .forEach(error -> errors.put(error.getKey(), error.getValue()));
+        return ImportWorksResult.builder()
+                .imported(total.getImported() + batch.getImported())
+                .failed(total.getFailed() + batch.getFailed())
+                .errors(errors)
+                .build();
+    }
+}
@@ -0,0 +1,35 @@
+package com.estimate.application.usecase.work;
+
+import com.estimate.domain.port.in.work.RemoveWorkReferencesUseCase;
+import com.estimate.domain.port.out.EstimateRepositoryPort;
+import com.estimate.domain.port.out.RenovationTemplateRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Removes deleted works from templates and flags the matching estimate work items. Estimates keep
+ * their work item snapshots, since prices and quantities were agreed on. Both steps are idempotent.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RemoveWorkReferencesService implements RemoveWorkReferencesUseCase {
+    
+    private final RenovationTemplateRepositoryPort templateRepository;
+    private final EstimateRepositoryPort estimateRepository;
+    
+    @Override
+    public Mono<Void> removeReferences(List<String> workIds) {
+        if (workIds.isEmpty()) {
+            return Mono.empty();
+        }
+        return Mono.zip(templateRepository.removeWorkReferences(workIds), estimateRepository.markWorksDeleted(workIds))
+                .doOnNext(counts -> log.info("Removed {} deleted works from {} templates, flagged {} estimates",
+                        workIds.size(), counts.getT1(), counts.getT2()))
+                .then();
+    }
+}
@@ -1,10 +1,14 @@
 package com.estimate.application.usecase.work;
 
+import com.estimate.domain.event.DomainEventPublisher;
+import com.estimate.domain.event.WorkUpdatedEvent;
 import com.estimate.domain.exception.UnauthorizedAccessException;
+import com.estimate.domain.exception.VersionConflictException;
 import com.estimate.domain.exception.WorkNotFoundException;
 import com.estimate.domain.model.Work;
 import com.estimate.domain.port.in.work.UpdateWorkCommand;
 import com.estimate.domain.port.in.work.UpdateWorkUseCase;
+import com.estimate.domain.port.out.TransactionPort;
 import com.estimate.domain.port.out.WorkRepositoryPort;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -17,22 +21,36 @@ import reactor.core.publisher.Mono;
 public class UpdateWorkService implements UpdateWorkUseCase {
     
     private final WorkRepositoryPort workRepository;
+    private final DomainEventPublisher eventPublisher;
+    private final TransactionPort transactionPort;
     
     @Override
     public Mono<Work> update(UpdateWorkCommand command) {
-        return workRepository.findById(command.getWorkId())
-                .switchIfEmpty(Mono.error(new WorkNotFoundException(command.getWorkId())))
-                .flatMap(work -> {
-                    if (!work.getUserId().equals(command.getUserId())) {
+        Work changes = Work.builder()
+                .name(command.getName())
+                .unit(command.getUnit())
+                .materials(command.getMaterials())
+                .build();
+        
+        return transactionPort.inTransaction(workRepository
+                        .updateIfOwned(command.getWorkId(), command.getUserId(), command.getExpectedVersion(), changes)
+                        .switchIfEmpty(Mono.defer(() -> rejectUpdate(command.getWorkId(), command.getUserId())))
+                        .flatMap(saved -> eventPublisher.publish(WorkUpdatedEvent.builder()
+                                        .workId(saved.getId())
+                                        .userId(saved.getUserId())
+                                        .build())
+                                .thenReturn(saved)))
+                .doOnNext(saved -> log.info("Work updated: {} for user: {}", saved.getName(), saved.getUserId()));
+    }
+    
+    private Mono<Work> rejectUpdate(String workId, String userId) {
+        return workRepository.findById(workId)
+                .switchIfEmpty(Mono.error(new WorkNotFoundException(workId)))
+                .flatMap(existing -> {
+                    if (!existing.getUserId().equals(userId)) {
                         return Mono.error(new UnauthorizedAccessException("Not authorized to update this work"));
                     }
-                    
-                    work.setName(command.getName());
-                    work.setUnit(command.getUnit());
-                    work.setMaterials(command.getMaterials());
-                    
-                    return workRepository.save(work);
-                })
-                .doOnNext(saved -> log.info("Work updated: {} for user: {}", saved.getName(), saved.getUserId()));
+                    return Mono.error(new VersionConflictException("Work was modified by another request"));
+                });
     }
 }
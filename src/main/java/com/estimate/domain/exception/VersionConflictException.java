@@ -0,0 +1,7 @@
+package com.estimate.domain.exception;
+
+public class VersionConflictException extends DomainException {
+    public VersionConflictException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,19 @@
+package com.estimate.domain.model;
+
+import lombok.Value;
+
+import java.util.Map;
+
+/**
+ * Outcome of an unordered bulk insert, where a failed document does not stop the others.
+ */
+@Value
+public class BulkInsertResult {
+    long inserted;
+    /** Error messages by position in the list passed to the insert. */
+    Map<Integer, String> errors;
+    
+    public static BulkInsertResult allInserted(long inserted) {
+        return new BulkInsertResult(inserted, Map.of());
+    }
+}
@@ -0,0 +1,129 @@
+package com.estimate.domain.model;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Sums estimate costs as scaled longs (unscaled value plus decimal scale) instead of chaining
+ * {@link BigDecimal} operations. Scales follow {@link BigDecimal} exactly - a product adds the scales of its
+ * factors, a sum takes the larger scale - so the result is equal in value and scale to the plain
+ * {@link BigDecimal} calculation. Any amount that does not fit in a {@code long} falls back to that calculation.
+ */
+public final class CostCalculator {
+    
+    private static final int MAX_PRECISION = 18;
+    private static final long[] POWERS_OF_TEN = {
+            1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L,
+            1_000_000_000L, 10_000_000_000L, 100_000_000_000L, 1_000_000_000_000L, 10_000_000_000_000L,
+            100_000_000_000_000L, 1_000_000_000_000_000L, 10_000_000_000_000_000L, 100_000_000_000_000_000L,
+            1_000_000_000_000_000_000L
+    };
+    
+    private CostCalculator() {
+    }
+    
+    public static BigDecimal materialCost(List<EstimateWorkItem> workItems) {
+        if (workItems == null) {
+            return BigDecimal.ZERO;
+        }
+        try {
+            ScaledSum sum = new ScaledSum();
+            for (EstimateWorkItem item : workItems) {
+                BigDecimal quantity = item.getQuantity();
+                List<EstimateMaterialPrice> materialPrices = item.getMaterialPrices();
+                if (quantity == null || materialPrices == null) {
+                    continue;
+                }
+                long unscaledQuantity = unscaled(quantity);
+                for (EstimateMaterialPrice materialPrice : materialPrices) {
+                    BigDecimal consumption = materialPrice.getConsumptionPerWorkUnit();
+                    BigDecimal price = materialPrice.getPricePerUnit();
+                    if (consumption == null || price == null) {
+                        continue;
+                    }
+                    long cost = Math.multiplyExact(
+                            Math.multiplyExact(unscaledQuantity, unscaled(consumption)), unscaled(price));
+                    sum.add(cost, quantity.scale() + consumption.scale() + price.scale());
+                }
+            }
+            return sum.toBigDecimal();
+        } catch (ArithmeticException e) {
+            return decimalMaterialCost(workItems);
+        }
+    }
+    
+    public static BigDecimal laborCost(List<EstimateWorkItem> workItems) {
+        if (workItems == null) {
+            return BigDecimal.ZERO;
+        }
+        try {
+            ScaledSum sum = new ScaledSum();
+            for (EstimateWorkItem item : workItems) {
+                BigDecimal quantity = item.getQuantity();
+                BigDecimal price = item.getLaborPricePerUnit();
+                if (quantity == null || price == null) {
+                    continue;
+                }
+                sum.add(Math.multiplyExact(unscaled(quantity), unscaled(price)), quantity.scale() + price.scale());
+            }
+            return sum.toBigDecimal();
+        } catch (ArithmeticException e) {
+            return decimalLaborCost(workItems);
+        }
+    }
+    
+    public static BigDecimal decimalMaterialCost(List<EstimateWorkItem> workItems) {
+        if (workItems == null) {
+            return BigDecimal.ZERO;
+        }
+        return workItems.stream()
+                .map(EstimateWorkItem::calculateMaterialCost)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+    
+    public static BigDecimal decimalLaborCost(List<EstimateWorkItem> workItems) {
+        if (workItems == null) {
+            return BigDecimal.ZERO;
+        }
+        return workItems.stream()
+                .map(EstimateWorkItem::calculateLaborCost)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+    
+    // Negative scales are left to the fallback, which keeps every scale in the sum non-negative,
+    // so skipped null terms (BigDecimal.ZERO with scale 0) never change the resulting scale
+    private static long unscaled(BigDecimal value) {
+        int scale = value.scale();
+        if (scale < 0 || value.precision() > MAX_PRECISION) {
+            throw new ArithmeticException("Amount does not fit in a scaled long: " + value);
+        }
+        return scale == 0 ? value.longValue() : value.movePointRight(scale).longValue();
+    }
+    
+    private static long rescale(long unscaled, int shift) {
+        if (shift >= POWERS_OF_TEN.length) {
+            throw new ArithmeticException("Scale difference too large: " + shift);
+        }
+        return Math.multiplyExact(unscaled, POWERS_OF_TEN[shift]);
+    }
+    
+    private static final class ScaledSum {
+        
+        private long unscaled;
+        private int scale;
+        
+        void add(long value, int valueScale) {
+            if (valueScale > scale) {
+                unscaled = rescale(unscaled, valueScale - scale);
+                scale = valueScale;
+            } else if (valueScale < scale) {
+                value = rescale(value, scale - valueScale);
+            }
+            unscaled = Math.addExact(unscaled, value);
+        }
+        
+        BigDecimal toBigDecimal() {
+            return BigDecimal.valueOf(unscaled, scale);
+        }
+    }
+}
@@ -11,6 +11,7 @@ import java.time.Instant;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 @Data
 @Builder
@@ -18,6 +19,9 @@ import java.util.List;
 @AllArgsConstructor
 public class Estimate {
     
+    // Bump when the cost formula or the stored pricing fields change so stored estimates get rewritten
+    public static final int PRICING_VERSION = 2;
+    
     private String id;
     private String userId;
     private String investorName;
@@ -33,25 +37,20 @@ public class Estimate {
     private String notes;
     private LocalDate validUntil;
     private LocalDate startDate;
+    private BigDecimal materialCost;
+    private BigDecimal laborCost;
+    private BigDecimal totalCost;
+    private Integer pricingVersion;
+    private Long version;
     private Instant createdAt;
     private Instant updatedAt;
     
     public BigDecimal calculateMaterialCost() {
-        if (workItems == null) {
-            return BigDecimal.ZERO;
-        }
-        return workItems.stream()
-                .map(EstimateWorkItem::calculateMaterialCost)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        return CostCalculator.materialCost(workItems);
     }
     
     public BigDecimal calculateLaborCost() {
-        if (workItems == null) {
-            return BigDecimal.ZERO;
-        }
-        return workItems.stream()
-                .map(EstimateWorkItem::calculateLaborCost)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        return CostCalculator.laborCost(workItems);
     }
     
     public BigDecimal calculateMaterialCostWithDiscount() {
@@ -80,6 +79,45 @@ public class Estimate {
         return calculateMaterialCostWithDiscount().add(calculateLaborCostWithDiscount());
     }
     
+    public Estimate recalculateTotals() {
+        this.materialCost = calculateMaterialCostWithDiscount();
+        this.laborCost = calculateLaborCostWithDiscount();
+        this.totalCost = materialCost.add(laborCost);
+        this.pricingVersion = PRICING_VERSION;
+        return this;
+    }
+    
+    public boolean hasCurrentTotals() {
+        return pricingVersion != null && pricingVersion == PRICING_VERSION && totalCost != null;
+    }
+    
+    public Estimate ensureCurrentTotals() {
+        if (!hasCurrentTotals()) {
+            recalculateTotals();
+        }
+        return this;
+    }
+    
+    /**
+     * Applies new material prices and labor prices (by work id) to the work items and recalculates
+     * the totals if any price changed.
+     *
+     * @return whether any price changed
+     */
+    public boolean applyPrices(List<MaterialPrice> materialPrices, Map<String, BigDecimal> laborPricesByWorkId) {
+        if (workItems == null) {
+            return false;
+        }
+        boolean changed = false;
+        for (EstimateWorkItem item : workItems) {
+            changed |= item.applyPrices(materialPrices, laborPricesByWorkId.get(item.getWorkId()));
+        }
+        if (changed) {
+            recalculateTotals();
+        }
+        return changed;
+    }
+    
     public void addWorkItem(EstimateWorkItem item) {
         if (this.workItems == null) {
             this.workItems = new ArrayList<>();
@@ -0,0 +1,11 @@
+package com.estimate.domain.model;
+
+import lombok.Value;
+
+import java.time.Instant;
+
+@Value
+public class EstimateCursor {
+    Instant createdAt;
+    String id;
+}
@@ -18,6 +18,15 @@ public class EstimateMaterialPrice {
     private BigDecimal consumptionPerWorkUnit;
     private BigDecimal pricePerUnit;
     
+    public static EstimateMaterialPrice draftFrom(Material material) {
+        return EstimateMaterialPrice.builder()
+                .materialName(material.getName())
+                .unit(material.getUnit())
+                .consumptionPerWorkUnit(material.getConsumptionPerWorkUnit())
+                .pricePerUnit(BigDecimal.ZERO)
+                .build();
+    }
+    
     public BigDecimal calculateCost(BigDecimal workQuantity) {
         if (workQuantity == null || consumptionPerWorkUnit == null || pricePerUnit == null) {
             return BigDecimal.ZERO;
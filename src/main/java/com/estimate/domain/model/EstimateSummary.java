@@ -0,0 +1,26 @@
+package com.estimate.domain.model;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+
+@Value
+@Builder
+public class EstimateSummary {
+    String id;
+    String userId;
+    String investorName;
+    String investorAddress;
+    BigDecimal materialDiscount;
+    BigDecimal laborDiscount;
+    BigDecimal materialCost;
+    BigDecimal laborCost;
+    BigDecimal totalCost;
+    LocalDate validUntil;
+    LocalDate startDate;
+    Instant createdAt;
+    Instant updatedAt;
+}
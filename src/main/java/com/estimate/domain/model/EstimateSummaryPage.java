@@ -0,0 +1,11 @@
+package com.estimate.domain.model;
+
+import lombok.Value;
+
+import java.util.List;
+
+@Value
+public class EstimateSummaryPage {
+    List<EstimateSummary> items;
+    EstimateCursor nextCursor;
+}
@@ -8,6 +8,7 @@ import lombok.NoArgsConstructor;
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
 
 @Data
 @Builder
@@ -22,6 +23,43 @@ public class EstimateWorkItem {
     private BigDecimal laborPricePerUnit;
     @Builder.Default
     private List<EstimateMaterialPrice> materialPrices = new ArrayList<>();
+    private boolean workDeleted;
+    
+    public static EstimateWorkItem draftFrom(Work work) {
+        List<EstimateMaterialPrice> materialPrices = work.getMaterials() == null
+                ? new ArrayList<>()
+                : work.getMaterials().stream()
+                        .map(EstimateMaterialPrice::draftFrom)
+                        .collect(Collectors.toCollection(ArrayList::new));
+        return EstimateWorkItem.builder()
+                .workId(work.getId())
+                .workName(work.getName())
+                .unit(work.getUnit())
+                .quantity(BigDecimal.ZERO)
+                .laborPricePerUnit(BigDecimal.ZERO)
+                .materialPrices(materialPrices)
+                .build();
+    }
+    
+    public boolean applyPrices(List<MaterialPrice> newMaterialPrices, BigDecimal newLaborPricePerUnit) {
+        boolean changed = false;
+        if (newLaborPricePerUnit != null && !samePrice(newLaborPricePerUnit, laborPricePerUnit)) {
+            laborPricePerUnit = newLaborPricePerUnit;
+            changed = true;
+        }
+        if (materialPrices != null) {
+            for (EstimateMaterialPrice materialPrice : materialPrices) {
+                for (MaterialPrice newPrice : newMaterialPrices) {
+                    if (newPrice.appliesTo(materialPrice)
+                            && !samePrice(newPrice.getPricePerUnit(), materialPrice.getPricePerUnit())) {
+                        materialPrice.setPricePerUnit(newPrice.getPricePerUnit());
+                        changed = true;
+                    }
+                }
+            }
+        }
+        return changed;
+    }
     
     public BigDecimal calculateLaborCost() {
         if (quantity == null || laborPricePerUnit == null) {
@@ -38,4 +76,8 @@ public class EstimateWorkItem {
                 .map(mp -> mp.calculateCost(quantity))
                 .reduce(BigDecimal.ZERO, BigDecimal::add);
     }
+    
+    private static boolean samePrice(BigDecimal a, BigDecimal b) {
+        return b != null && a.compareTo(b) == 0;
+    }
 }
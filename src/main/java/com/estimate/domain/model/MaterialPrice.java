@@ -0,0 +1,33 @@
+package com.estimate.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.Locale;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MaterialPrice {
+    
+    private String materialName;
+    private String unit;
+    private BigDecimal pricePerUnit;
+    
+    public boolean appliesTo(EstimateMaterialPrice materialPrice) {
+        return materialName != null
+                && materialName.equalsIgnoreCase(materialPrice.getMaterialName())
+                && (unit == null || unit.equalsIgnoreCase(materialPrice.getUnit()));
+    }
+    
+    /**
+     * Key under which a material name is stored and looked up, since names match regardless of case.
+     */
+    public static String nameKey(String materialName) {
+        return materialName.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,42 @@
+package com.estimate.domain.model;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BinaryOperator;
+import java.util.stream.Collectors;
+
+/**
+ * Material prices of one user. A material (name and unit) may have several entries; the one with the
+ * latest effective date not after the given day applies.
+ */
+public class PriceBook {
+    
+    private static final Comparator<PriceBookEntry> BY_EFFECTIVE_DATE = Comparator
+            .comparing(PriceBookEntry::getEffectiveFrom, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(PriceBookEntry::getCreatedAt, Comparator.nullsFirst(Comparator.naturalOrder()));
+    
+    private final List<PriceBookEntry> entries;
+    
+    public PriceBook(List<PriceBookEntry> entries) {
+        this.entries = entries;
+    }
+    
+    public List<MaterialPrice> effectivePrices(LocalDate date) {
+        Map<String, PriceBookEntry> latest = entries.stream()
+                .filter(entry -> entry.isEffectiveOn(date))
+                .collect(Collectors.toMap(PriceBook::materialKey, entry -> entry,
+                        BinaryOperator.maxBy(BY_EFFECTIVE_DATE)));
+        return latest.values().stream()
+                .map(entry -> new MaterialPrice(entry.getMaterialName(), entry.getUnit(), entry.getPricePerUnit()))
+                .toList();
+    }
+    
+    private static String materialKey(PriceBookEntry entry) {
+        return MaterialPrice.nameKey(entry.getMaterialName()) + "|"
+                + Objects.toString(entry.getUnit(), "").toLowerCase(Locale.ROOT);
+    }
+}
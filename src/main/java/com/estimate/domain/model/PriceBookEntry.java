@@ -0,0 +1,31 @@
+package com.estimate.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PriceBookEntry {
+    
+    private String id;
+    private String userId;
+    private String materialName;
+    private String unit;
+    private BigDecimal pricePerUnit;
+    private LocalDate effectiveFrom;
+    private Instant createdAt;
+    /** Set on future-dated entries until the open estimates have been re-priced with them. */
+    private boolean repricePending;
+    
+    public boolean isEffectiveOn(LocalDate date) {
+        return effectiveFrom == null || !effectiveFrom.isAfter(date);
+    }
+}
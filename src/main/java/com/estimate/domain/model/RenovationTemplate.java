@@ -20,6 +20,7 @@ public class RenovationTemplate {
     private String name;
     @Builder.Default
     private List<String> workIds = new ArrayList<>();
+    private Long version;
     private Instant createdAt;
     private Instant updatedAt;
     
@@ -23,6 +23,7 @@ public class User {
     @Builder.Default
     private int failedLoginAttempts = 0;
     private Instant lockedUntil;
+    private Instant deletionRequestedAt;
     private Instant createdAt;
     private Instant updatedAt;
     
@@ -46,4 +47,8 @@ public class User {
     public void lockAccount(Instant until) {
         this.lockedUntil = until;
     }
+    
+    public boolean isDeletionRequested() {
+        return deletionRequestedAt != null;
+    }
 }
@@ -21,6 +21,7 @@ public class Work {
     private String unit;
     @Builder.Default
     private List<Material> materials = new ArrayList<>();
+    private Long version;
     private Instant createdAt;
     private Instant updatedAt;
     
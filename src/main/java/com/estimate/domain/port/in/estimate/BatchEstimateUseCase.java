@@ -0,0 +1,11 @@
+package com.estimate.domain.port.in.estimate;
+
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+
+public interface BatchEstimateUseCase {
+    Flux<EstimateBatchResult> createAll(List<CreateEstimateCommand> commands);
+    Flux<EstimateBatchResult> repriceAll(RepriceEstimatesCommand command);
+    Flux<EstimateBatchResult> deleteAll(String userId, List<String> estimateIds);
+}
@@ -0,0 +1,16 @@
+package com.estimate.domain.port.in.estimate;
+
+import com.estimate.domain.model.Estimate;
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.List;
+
+@Value
+@Builder
+public class ComposeEstimateResult {
+    Estimate draft;
+    List<String> missingTemplateIds;
+    List<String> missingWorkIds;
+    List<String> unpricedMaterialNames;
+}
@@ -0,0 +1,9 @@
+package com.estimate.domain.port.in.estimate;
+
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+public interface ComposeEstimateUseCase {
+    Mono<ComposeEstimateResult> compose(String userId, List<String> templateIds);
+}
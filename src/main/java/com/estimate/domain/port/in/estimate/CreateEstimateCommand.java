@@ -1,5 +1,6 @@
 package com.estimate.domain.port.in.estimate;
 
+import com.estimate.domain.model.Estimate;
 import com.estimate.domain.model.EstimateWorkItem;
 import lombok.Builder;
 import lombok.Value;
@@ -21,4 +22,23 @@ public class CreateEstimateCommand {
     String notes;
     LocalDate validUntil;
     LocalDate startDate;
+    
+    /**
+     * Builds the new estimate with its totals calculated, ready to be stored.
+     */
+    public Estimate toEstimate() {
+        return Estimate.builder()
+                .userId(userId)
+                .investorName(investorName)
+                .investorAddress(investorAddress)
+                .templateIds(templateIds)
+                .workItems(workItems)
+                .materialDiscount(materialDiscount)
+                .laborDiscount(laborDiscount)
+                .notes(notes)
+                .validUntil(validUntil)
+                .startDate(startDate)
+                .build()
+                .recalculateTotals();
+    }
 }
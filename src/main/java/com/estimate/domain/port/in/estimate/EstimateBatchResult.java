@@ -0,0 +1,25 @@
+package com.estimate.domain.port.in.estimate;
+
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+public class EstimateBatchResult {
+    int index;
+    String estimateId;
+    Status status;
+    Long version;
+    String message;
+    
+    public enum Status {
+        CREATED,
+        UPDATED,
+        UNCHANGED,
+        DELETED,
+        NOT_FOUND,
+        FORBIDDEN,
+        CONFLICT,
+        FAILED
+    }
+}
@@ -1,10 +1,13 @@
 package com.estimate.domain.port.in.estimate;
 
 import com.estimate.domain.model.Estimate;
+import com.estimate.domain.model.EstimateCursor;
+import com.estimate.domain.model.EstimateSummaryPage;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 public interface FindEstimateUseCase {
     Mono<Estimate> findById(String estimateId, String userId);
     Flux<Estimate> findByUserId(String userId);
+    Mono<EstimateSummaryPage> findSummariesByUserId(String userId, EstimateCursor after, int limit);
 }
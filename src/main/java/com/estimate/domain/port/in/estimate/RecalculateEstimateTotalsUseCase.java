@@ -0,0 +1,7 @@
+package com.estimate.domain.port.in.estimate;
+
+import reactor.core.publisher.Mono;
+
+public interface RecalculateEstimateTotalsUseCase {
+    Mono<Long> recalculateOutdated();
+}
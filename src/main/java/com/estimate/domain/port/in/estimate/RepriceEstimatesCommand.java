@@ -0,0 +1,18 @@
+package com.estimate.domain.port.in.estimate;
+
+import com.estimate.domain.model.MaterialPrice;
+import lombok.Builder;
+import lombok.Value;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+@Value
+@Builder
+public class RepriceEstimatesCommand {
+    String userId;
+    List<String> estimateIds;
+    List<MaterialPrice> materialPrices;
+    Map<String, BigDecimal> laborPricesByWorkId;
+}
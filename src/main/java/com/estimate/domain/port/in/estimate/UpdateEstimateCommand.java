@@ -13,6 +13,7 @@ import java.util.List;
 public class UpdateEstimateCommand {
     String estimateId;
     String userId;
+    Long expectedVersion;
     String investorName;
     String investorAddress;
     List<String> templateIds;
@@ -0,0 +1,15 @@
+package com.estimate.domain.port.in.pricebook;
+
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+
+public interface ApplyDuePricesUseCase {
+    
+    /**
+     * Re-prices the open estimates of every user with future-dated prices that take effect on or before {@code date}.
+     *
+     * @return the number of users re-priced
+     */
+    Mono<Long> applyDuePrices(LocalDate date);
+}
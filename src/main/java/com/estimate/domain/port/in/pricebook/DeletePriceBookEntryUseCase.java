@@ -0,0 +1,7 @@
+package com.estimate.domain.port.in.pricebook;
+
+import reactor.core.publisher.Mono;
+
+public interface DeletePriceBookEntryUseCase {
+    Mono<Void> delete(String entryId, String userId);
+}
@@ -0,0 +1,8 @@
+package com.estimate.domain.port.in.pricebook;
+
+import com.estimate.domain.model.PriceBookEntry;
+import reactor.core.publisher.Flux;
+
+public interface FindPriceBookUseCase {
+    Flux<PriceBookEntry> findByUserId(String userId);
+}
@@ -0,0 +1,12 @@
+package com.estimate.domain.port.in.pricebook;
+
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+public class RepriceOpenEstimatesResult {
+    long scanned;
+    long updated;
+    long conflicts;
+}
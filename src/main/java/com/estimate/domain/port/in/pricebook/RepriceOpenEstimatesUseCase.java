@@ -0,0 +1,12 @@
+package com.estimate.domain.port.in.pricebook;
+
+import reactor.core.publisher.Mono;
+
+public interface RepriceOpenEstimatesUseCase {
+    Mono<RepriceOpenEstimatesResult> reprice(String userId);
+    
+    /**
+     * Re-prices in the background. A request for a user who already has one waiting to start is merged into it.
+     */
+    void requestReprice(String userId);
+}
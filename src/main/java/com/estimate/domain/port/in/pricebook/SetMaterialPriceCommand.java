@@ -0,0 +1,17 @@
+package com.estimate.domain.port.in.pricebook;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Value
+@Builder
+public class SetMaterialPriceCommand {
+    String userId;
+    String materialName;
+    String unit;
+    BigDecimal pricePerUnit;
+    LocalDate effectiveFrom;
+}
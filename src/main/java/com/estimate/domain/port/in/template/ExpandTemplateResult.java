@@ -0,0 +1,16 @@
+package com.estimate.domain.port.in.template;
+
+import com.estimate.domain.model.EstimateWorkItem;
+import com.estimate.domain.model.RenovationTemplate;
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.List;
+
+@Value
+@Builder
+public class ExpandTemplateResult {
+    RenovationTemplate template;
+    List<EstimateWorkItem> workItems;
+    List<String> missingWorkIds;
+}
@@ -0,0 +1,7 @@
+package com.estimate.domain.port.in.template;
+
+import reactor.core.publisher.Mono;
+
+public interface ExpandTemplateUseCase {
+    Mono<ExpandTemplateResult> expand(String templateId, String userId);
+}
@@ -10,6 +10,7 @@ import java.util.List;
 public class UpdateTemplateCommand {
     String templateId;
     String userId;
+    Long expectedVersion;
     String name;
     List<String> workIds;
 }
@@ -0,0 +1,15 @@
+package com.estimate.domain.port.in.user;
+
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+public interface PurgeDeletedUsersUseCase {
+    
+    /**
+     * Purges the data of users pending deletion and then removes the users, claiming each one for {@code lease}.
+     *
+     * @return the number of users removed
+     */
+    Mono<Long> purgePending(Duration lease);
+}
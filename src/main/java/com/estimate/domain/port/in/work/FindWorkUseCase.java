@@ -7,5 +7,6 @@ import reactor.core.publisher.Mono;
 public interface FindWorkUseCase {
     Mono<Work> findById(String workId, String userId);
     Flux<Work> findByUserId(String userId);
+    Flux<Work> exportByUserId(String userId);
     Flux<Work> findAll();
 }
@@ -0,0 +1,21 @@
+package com.estimate.domain.port.in.work;
+
+import com.estimate.domain.model.Material;
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * One work parsed from an import file. {@code error} is set instead of the work fields when the row
+ * could not be parsed or failed validation.
+ */
+@Value
+@Builder
+public class ImportWorkCommand {
+    long line;
+    String name;
+    String unit;
+    List<Material> materials;
+    String error;
+}
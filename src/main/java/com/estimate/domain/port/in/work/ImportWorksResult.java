@@ -0,0 +1,15 @@
+package com.estimate.domain.port.in.work;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.Map;
+
+@Value
+@Builder
+public class ImportWorksResult {
+    long imported;
+    long failed;
+    /** Error messages by line number, limited to the first failed rows. */
+    Map<Long, String> errors;
+}
@@ -0,0 +1,8 @@
+package com.estimate.domain.port.in.work;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface ImportWorksUseCase {
+    Mono<ImportWorksResult> importWorks(String userId, Flux<ImportWorkCommand> works);
+}
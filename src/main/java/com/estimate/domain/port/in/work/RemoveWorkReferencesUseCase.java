@@ -0,0 +1,9 @@
+package com.estimate.domain.port.in.work;
+
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+public interface RemoveWorkReferencesUseCase {
+    Mono<Void> removeReferences(List<String> workIds);
+}
@@ -11,6 +11,7 @@ import java.util.List;
 public class UpdateWorkCommand {
     String workId;
     String userId;
+    Long expectedVersion;
     String name;
     String unit;
     List<Material> materials;
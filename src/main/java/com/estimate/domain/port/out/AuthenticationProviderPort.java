@@ -15,5 +15,14 @@ public interface AuthenticationProviderPort {
     
     Mono<UserAuthInfo> extractUserInfo(String token);
     
+    /**
+     * Validates the token and extracts the user info in one step. Completes empty when the token is invalid.
+     */
+    default Mono<UserAuthInfo> verifyToken(String token) {
+        return validateToken(token)
+                .filter(isValid -> isValid)
+                .flatMap(isValid -> extractUserInfo(token));
+    }
+    
     boolean managesPasswords();
 }
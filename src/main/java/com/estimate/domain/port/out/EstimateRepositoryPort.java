@@ -1,20 +1,60 @@
 package com.estimate.domain.port.out;
 
 import com.estimate.domain.model.Estimate;
+import com.estimate.domain.model.EstimateCursor;
+import com.estimate.domain.model.EstimateSummary;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
 public interface EstimateRepositoryPort {
     
     Mono<Estimate> save(Estimate estimate);
     
+    Flux<Estimate> insertAll(List<Estimate> estimates);
+    
     Mono<Estimate> findById(String id);
     
+    Flux<Estimate> findAllById(List<String> ids);
+    
     Flux<Estimate> findByUserId(String userId);
     
+    Flux<EstimateSummary> findSummariesByUserId(String userId, EstimateCursor after, int limit);
+    
     Flux<Estimate> findAll();
     
+    Flux<Estimate> findByPricingVersionLessThan(int pricingVersion);
+    
+    /**
+     * Streams the estimates of a user that are still valid on {@code date} (or have no end date)
+     * and use at least one of the given materials.
+     */
+    Flux<Estimate> findOpenByUserIdAndMaterialNames(String userId, Collection<String> materialNames, LocalDate date);
+    
+    Mono<Boolean> updateTotals(Estimate estimate);
+    
+    Mono<Estimate> updateIfOwned(String id, String userId, Long expectedVersion, Estimate changes);
+    
+    /**
+     * Writes the work items and totals of each estimate in one unordered bulk write, skipping
+     * estimates whose stored version no longer matches.
+     *
+     * @return ids of the estimates that were updated
+     */
+    Flux<String> updatePricesIfUnchanged(List<Estimate> estimates);
+    
+    Mono<Long> markWorksDeleted(List<String> workIds);
+    
     Mono<Void> deleteById(String id);
     
+    Mono<Boolean> deleteIfOwned(String id, String userId);
+    
+    Flux<String> deleteAllIfOwned(String userId, List<String> ids);
+    
     Mono<Void> deleteByUserId(String userId);
+    
+    Mono<Long> deleteBatchByUserId(String userId, int batchSize);
 }
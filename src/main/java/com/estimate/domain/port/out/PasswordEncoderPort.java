@@ -1,8 +1,14 @@
 package com.estimate.domain.port.out;
 
+import reactor.core.publisher.Mono;
+
 public interface PasswordEncoderPort {
     
     String encode(String rawPassword);
     
     boolean matches(String rawPassword, String encodedPassword);
+    
+    Mono<String> encodeAsync(String rawPassword);
+    
+    Mono<Boolean> matchesAsync(String rawPassword, String encodedPassword);
 }
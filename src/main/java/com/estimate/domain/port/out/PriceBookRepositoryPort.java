@@ -0,0 +1,24 @@
+package com.estimate.domain.port.out;
+
+import com.estimate.domain.model.PriceBookEntry;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+
+public interface PriceBookRepositoryPort {
+    
+    Mono<PriceBookEntry> save(PriceBookEntry entry);
+    
+    Mono<PriceBookEntry> findById(String id);
+    
+    Flux<PriceBookEntry> findByUserId(String userId);
+    
+    Flux<String> findUserIdsWithRepricePendingOn(LocalDate date);
+    
+    Mono<Long> clearRepricePendingOn(String userId, LocalDate date);
+    
+    Mono<Boolean> deleteIfOwned(String id, String userId);
+    
+    Mono<Long> deleteBatchByUserId(String userId, int batchSize);
+}
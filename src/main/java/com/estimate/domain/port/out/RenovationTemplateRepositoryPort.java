@@ -4,6 +4,8 @@ import com.estimate.domain.model.RenovationTemplate;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
 public interface RenovationTemplateRepositoryPort {
     
     Mono<RenovationTemplate> save(RenovationTemplate template);
@@ -12,9 +14,19 @@ public interface RenovationTemplateRepositoryPort {
     
     Flux<RenovationTemplate> findByUserId(String userId);
     
+    Flux<RenovationTemplate> findByUserIdAndIdIn(String userId, List<String> ids);
+    
     Flux<RenovationTemplate> findAll();
     
+    Mono<RenovationTemplate> updateIfOwned(String id, String userId, Long expectedVersion, RenovationTemplate changes);
+    
+    Mono<Long> removeWorkReferences(List<String> workIds);
+    
     Mono<Void> deleteById(String id);
     
+    Mono<Boolean> deleteIfOwned(String id, String userId);
+    
     Mono<Void> deleteByUserId(String userId);
+    
+    Mono<Long> deleteBatchByUserId(String userId, int batchSize);
 }
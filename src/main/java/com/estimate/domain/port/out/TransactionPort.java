@@ -0,0 +1,8 @@
+package com.estimate.domain.port.out;
+
+import reactor.core.publisher.Mono;
+
+public interface TransactionPort {
+    
+    <T> Mono<T> inTransaction(Mono<T> work);
+}
@@ -4,17 +4,37 @@ import com.estimate.domain.model.User;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
+
 public interface UserRepositoryPort {
     
     Mono<User> save(User user);
     
+    /**
+     * Finds a user that is not pending deletion, as do {@link #findByEmail} and {@link #findAll}.
+     */
     Mono<User> findById(String id);
     
     Mono<User> findByEmail(String email);
     
     Mono<Boolean> existsByEmail(String email);
     
+    Mono<Boolean> existsById(String id);
+    
     Flux<User> findAll();
     
     Mono<Void> deleteById(String id);
+    
+    /**
+     * Marks the user as pending deletion.
+     *
+     * @return {@code false} if there is no such user or it is already pending deletion
+     */
+    Mono<Boolean> requestDeletion(String id);
+    
+    /**
+     * Claims one user pending deletion for {@code lease}. A user whose lease ran out, e.g. because the instance
+     * purging it stopped, can be claimed again.
+     */
+    Mono<User> claimPendingDeletion(Duration lease);
 }
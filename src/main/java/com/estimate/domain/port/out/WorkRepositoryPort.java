@@ -1,5 +1,6 @@
 package com.estimate.domain.port.out;
 
+import com.estimate.domain.model.BulkInsertResult;
 import com.estimate.domain.model.Work;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -10,15 +11,28 @@ public interface WorkRepositoryPort {
     
     Mono<Work> save(Work work);
     
+    Mono<BulkInsertResult> insertAll(List<Work> works);
+    
     Mono<Work> findById(String id);
     
     Flux<Work> findByUserId(String userId);
     
+    /**
+     * Streams the user's works from the database without caching them, for reads of the whole catalog such as exports.
+     */
+    Flux<Work> streamByUserId(String userId);
+    
     Flux<Work> findByUserIdAndIdIn(String userId, List<String> ids);
     
     Flux<Work> findAll();
     
+    Mono<Work> updateIfOwned(String id, String userId, Long expectedVersion, Work changes);
+    
     Mono<Void> deleteById(String id);
     
+    Mono<Boolean> deleteIfOwned(String id, String userId);
+    
     Mono<Void> deleteByUserId(String userId);
+    
+    Mono<Long> deleteBatchByUserId(String userId, int batchSize);
 }
@@ -9,6 +9,8 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 
 import java.io.FileInputStream;
 import java.io.IOException;
@@ -24,6 +26,12 @@ public class FirebaseConfig {
     @Value("${app.gcp.firebase.credentials-path:}")
     private String credentialsPath;
     
+    @Value("${app.gcp.firebase.scheduler.max-threads:16}")
+    private int schedulerMaxThreads;
+    
+    @Value("${app.gcp.firebase.scheduler.max-queued-tasks:1000}")
+    private int schedulerMaxQueuedTasks;
+    
     @Bean
     public FirebaseApp firebaseApp() throws IOException {
         if (FirebaseApp.getApps().isEmpty()) {
@@ -56,4 +64,9 @@ public class FirebaseConfig {
     public FirebaseAuth firebaseAuth(FirebaseApp firebaseApp) {
         return FirebaseAuth.getInstance(firebaseApp);
     }
+    
+    @Bean(destroyMethod = "dispose")
+    public Scheduler firebaseScheduler() {
+        return Schedulers.newBoundedElastic(schedulerMaxThreads, schedulerMaxQueuedTasks, "firebase");
+    }
 }
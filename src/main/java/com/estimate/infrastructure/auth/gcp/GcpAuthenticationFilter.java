@@ -2,6 +2,9 @@ package com.estimate.infrastructure.auth.gcp;
 
 import com.estimate.domain.port.out.AuthenticationProviderPort;
 import com.estimate.infrastructure.security.UserPrincipal;
+import com.estimate.infrastructure.tracing.ReactorObservations;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Profile;
@@ -16,6 +19,7 @@ import org.springframework.web.server.ServerWebExchange;
 import org.springframework.web.server.WebFilter;
 import org.springframework.web.server.WebFilterChain;
 import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
 
 import java.util.List;
 
@@ -26,16 +30,15 @@ import java.util.List;
 public class GcpAuthenticationFilter implements WebFilter {
     
     private final AuthenticationProviderPort authenticationProvider;
+    private final ObservationRegistry observationRegistry;
     
     @Override
     public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
         String token = getTokenFromRequest(exchange.getRequest());
         
         if (StringUtils.hasText(token)) {
-            return authenticationProvider.validateToken(token)
-                    .filter(isValid -> isValid)
-                    .flatMap(isValid -> authenticationProvider.extractUserInfo(token))
-                    .flatMap(userInfo -> {
+            return ReactorObservations.observe(authenticationProvider.verifyToken(token), this::observation)
+                    .map(userInfo -> {
                         var authorities = List.of(new SimpleGrantedAuthority("ROLE_" + userInfo.getRole()));
                         
                         var authentication = new UsernamePasswordAuthenticationToken(
@@ -44,18 +47,25 @@ public class GcpAuthenticationFilter implements WebFilter {
                                 authorities
                         );
                         
-                        return chain.filter(exchange)
-                                .contextWrite(ReactiveSecurityContextHolder.withAuthentication(authentication));
+                        return ReactiveSecurityContextHolder.withAuthentication(authentication);
                     })
                     .onErrorResume(e -> {
                         log.error("Could not set user authentication in security context", e);
-                        return chain.filter(exchange);
-                    });
+                        return Mono.empty();
+                    })
+                    .defaultIfEmpty(Context.empty())
+                    .flatMap(context -> chain.filter(exchange).contextWrite(context));
         }
         
         return chain.filter(exchange);
     }
     
+    private Observation observation() {
+        return Observation.createNotStarted("auth.filter", observationRegistry)
+                .contextualName("GcpAuthenticationFilter")
+                .lowCardinalityKeyValue("filter", "gcp");
+    }
+    
     private String getTokenFromRequest(ServerHttpRequest request) {
         String bearerToken = request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
         if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
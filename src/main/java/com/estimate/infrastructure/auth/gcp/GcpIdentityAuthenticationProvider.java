@@ -9,6 +9,7 @@ import com.estimate.domain.model.User;
 import com.estimate.domain.model.UserAuthInfo;
 import com.estimate.domain.port.out.AuthenticationProviderPort;
 import com.estimate.domain.port.out.UserRepositoryPort;
+import com.estimate.infrastructure.security.VerifiedTokenCache;
 import com.google.firebase.auth.FirebaseAuth;
 import com.google.firebase.auth.FirebaseAuthException;
 import com.google.firebase.auth.FirebaseToken;
@@ -18,6 +19,9 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.time.Instant;
 
 @Slf4j
 @Component
@@ -27,6 +31,8 @@ public class GcpIdentityAuthenticationProvider implements AuthenticationProvider
     
     private final UserRepositoryPort userRepository;
     private final FirebaseAuth firebaseAuth;
+    private final Scheduler firebaseScheduler;
+    private final VerifiedTokenCache tokenCache;
     
     @Override
     public Mono<AuthenticationResult> authenticate(String email, String password) {
@@ -55,6 +61,7 @@ public class GcpIdentityAuthenticationProvider implements AuthenticationProvider
                         throw new RuntimeException("Failed to create Firebase user", e);
                     }
                 })
+                .subscribeOn(firebaseScheduler)
                 .flatMap(userRecord -> {
                     User user = User.builder()
                             .id(userRecord.getUid())
@@ -65,6 +72,7 @@ public class GcpIdentityAuthenticationProvider implements AuthenticationProvider
                             .build();
                     
                     return userRepository.save(user)
+                            .publishOn(firebaseScheduler)
                             .map(savedUser -> {
                                 String customToken;
                                 try {
@@ -86,44 +94,63 @@ public class GcpIdentityAuthenticationProvider implements AuthenticationProvider
     
     @Override
     public Mono<Boolean> validateToken(String token) {
-        return Mono.fromCallable(() -> {
-            try {
-                firebaseAuth.verifyIdToken(token);
-                return true;
-            } catch (FirebaseAuthException e) {
-                log.warn("Invalid Firebase token: {}", e.getMessage());
-                return false;
-            }
-        });
+        return verifyIdToken(token)
+                .map(decodedToken -> true)
+                .defaultIfEmpty(false);
     }
     
     @Override
     public Mono<UserAuthInfo> extractUserInfo(String token) {
+        return verifyIdToken(token)
+                .switchIfEmpty(Mono.error(new InvalidCredentialsException()))
+                .flatMap(this::loadUserAuthInfo);
+    }
+    
+    @Override
+    public Mono<UserAuthInfo> verifyToken(String token) {
+        return tokenCache.get(token, () -> verifyIdToken(token)
+                .flatMap(decodedToken -> loadUserAuthInfo(decodedToken)
+                        .map(userInfo -> new VerifiedTokenCache.VerifiedToken(userInfo, getExpiration(decodedToken)))));
+    }
+    
+    @Override
+    public boolean managesPasswords() {
+        return false;
+    }
+    
+    private Mono<FirebaseToken> verifyIdToken(String token) {
         return Mono.fromCallable(() -> {
                     try {
-                        FirebaseToken decodedToken = firebaseAuth.verifyIdToken(token);
-                        return decodedToken;
+                        return firebaseAuth.verifyIdToken(token);
                     } catch (FirebaseAuthException e) {
-                        throw new InvalidCredentialsException();
+                        log.warn("Invalid Firebase token: {}", e.getMessage());
+                        return null;
                     }
                 })
-                .flatMap(decodedToken -> {
-                    String uid = decodedToken.getUid();
-                    String email = decodedToken.getEmail();
-                    
-                    return userRepository.findById(uid)
-                            .switchIfEmpty(syncUserFromFirebase(uid, email))
-                            .map(user -> new UserAuthInfo(
-                                    user.getId(),
-                                    user.getEmail(),
-                                    user.getRole().name()
-                            ));
-                });
+                .subscribeOn(firebaseScheduler);
     }
     
-    @Override
-    public boolean managesPasswords() {
-        return false;
+    private Mono<UserAuthInfo> loadUserAuthInfo(FirebaseToken decodedToken) {
+        String uid = decodedToken.getUid();
+        String email = decodedToken.getEmail();
+        
+        return userRepository.findById(uid)
+                // A user pending deletion still exists and must not be re-created until it is purged
+                .switchIfEmpty(Mono.defer(() -> userRepository.existsById(uid)
+                        .flatMap(exists -> exists ? Mono.empty() : syncUserFromFirebase(uid, email))))
+                .map(user -> new UserAuthInfo(
+                        user.getId(),
+                        user.getEmail(),
+                        user.getRole().name()
+                ));
+    }
+    
+    private Instant getExpiration(FirebaseToken decodedToken) {
+        Object exp = decodedToken.getClaims().get("exp");
+        if (exp instanceof Number seconds) {
+            return Instant.ofEpochSecond(seconds.longValue());
+        }
+        return Instant.now();
     }
     
     private Mono<User> syncUserFromFirebase(String uid, String email) {
@@ -12,6 +12,9 @@ import com.estimate.domain.port.out.AuthenticationProviderPort;
 import com.estimate.domain.port.out.PasswordEncoderPort;
 import com.estimate.domain.port.out.UserRepositoryPort;
 import com.estimate.infrastructure.security.JwtTokenProvider;
+import com.estimate.infrastructure.security.VerifiedTokenCache;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -31,6 +34,7 @@ public class CustomJwtAuthenticationProvider implements AuthenticationProviderPo
     private final UserRepositoryPort userRepository;
     private final PasswordEncoderPort passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
+    private final VerifiedTokenCache tokenCache;
     
     @Value("${app.security.max-login-attempts:5}")
     private int maxLoginAttempts;
@@ -54,15 +58,18 @@ public class CustomJwtAuthenticationProvider implements AuthenticationProviderPo
                         return Mono.error(new EmailAlreadyExistsException(userData.getEmail()));
                     }
                     
-                    User user = User.builder()
-                            .email(userData.getEmail())
-                            .passwordHash(passwordEncoder.encode(userData.getPassword()))
-                            .companyName(userData.getCompanyName())
-                            .phone(userData.getPhone())
-                            .role(User.Role.USER)
-                            .build();
-                    
-                    return userRepository.save(user);
+                    return passwordEncoder.encodeAsync(userData.getPassword())
+                            .flatMap(passwordHash -> {
+                                User user = User.builder()
+                                        .email(userData.getEmail())
+                                        .passwordHash(passwordHash)
+                                        .companyName(userData.getCompanyName())
+                                        .phone(userData.getPhone())
+                                        .role(User.Role.USER)
+                                        .build();
+                                
+                                return userRepository.save(user);
+                            });
                 })
                 .map(this::buildAuthenticationResult);
     }
@@ -74,12 +81,20 @@ public class CustomJwtAuthenticationProvider implements AuthenticationProviderPo
     
     @Override
     public Mono<UserAuthInfo> extractUserInfo(String token) {
-        return Mono.fromCallable(() -> {
-            String userId = jwtTokenProvider.getUserIdFromToken(token);
-            String email = jwtTokenProvider.getEmailFromToken(token);
-            String role = jwtTokenProvider.getRoleFromToken(token);
-            return new UserAuthInfo(userId, email, role);
-        });
+        return Mono.fromCallable(() -> toUserAuthInfo(jwtTokenProvider.parseClaims(token)));
+    }
+    
+    @Override
+    public Mono<UserAuthInfo> verifyToken(String token) {
+        return tokenCache.get(token, () -> Mono.fromCallable(() -> jwtTokenProvider.parseClaims(token))
+                .map(claims -> new VerifiedTokenCache.VerifiedToken(
+                        toUserAuthInfo(claims),
+                        claims.getExpiration().toInstant()
+                ))
+                .onErrorResume(e -> e instanceof JwtException || e instanceof IllegalArgumentException, e -> {
+                    log.warn("Invalid JWT token: {}", e.getMessage());
+                    return Mono.empty();
+                }));
     }
     
     @Override
@@ -92,12 +107,15 @@ public class CustomJwtAuthenticationProvider implements AuthenticationProviderPo
             return Mono.error(new AccountLockedException(user.getLockedUntil()));
         }
         
-        if (!passwordEncoder.matches(password, user.getPasswordHash())) {
-            return handleFailedLogin(user)
-                    .then(Mono.error(new InvalidCredentialsException()));
-        }
-        
-        return resetFailedAttempts(user);
+        return passwordEncoder.matchesAsync(password, user.getPasswordHash())
+                .flatMap(matches -> {
+                    if (!matches) {
+                        return handleFailedLogin(user)
+                                .then(Mono.error(new InvalidCredentialsException()));
+                    }
+                    
+                    return resetFailedAttempts(user);
+                });
     }
     
     private Mono<User> resetFailedAttempts(User user) {
@@ -120,6 +138,14 @@ public class CustomJwtAuthenticationProvider implements AuthenticationProviderPo
         return userRepository.save(user);
     }
     
+    private UserAuthInfo toUserAuthInfo(Claims claims) {
+        return new UserAuthInfo(
+                claims.getSubject(),
+                claims.get("email", String.class),
+                claims.get("role", String.class)
+        );
+    }
+    
     private AuthenticationResult buildAuthenticationResult(User user) {
         String token = jwtTokenProvider.generateToken(
                 user.getId(),
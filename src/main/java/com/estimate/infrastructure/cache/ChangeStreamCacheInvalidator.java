@@ -0,0 +1,123 @@
+package com.estimate.infrastructure.cache;
+
+import com.estimate.adapter.out.persistence.cache.CachingWorkRepositoryAdapter;
+import com.estimate.infrastructure.security.VerifiedTokenCache;
+import com.mongodb.MongoCommandException;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.mongodb.core.ChangeStreamEvent;
+import org.springframework.data.mongodb.core.ReactiveChangeStreamOperation.ChangeStreamWithFilterAndProjection;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Keeps the in-process caches of this instance coherent with writes made by other instances
+ * by following a MongoDB change stream. Requires MongoDB to run as a replica set.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.cache.change-streams.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class ChangeStreamCacheInvalidator implements ApplicationRunner {
+    
+    private static final String WORKS = "works";
+    private static final String USERS = "users";
+    private static final int CHANGE_STREAM_HISTORY_LOST = 286;
+    
+    private final ReactiveMongoTemplate mongoTemplate;
+    private final CachingWorkRepositoryAdapter workCache;
+    private final VerifiedTokenCache tokenCache;
+    private final AtomicReference<BsonValue> resumeToken = new AtomicReference<>();
+    private volatile Disposable subscription;
+    
+    @Override
+    public void run(ApplicationArguments args) {
+        subscription = Flux.defer(this::listen)
+                .doOnNext(this::handle)
+                .doOnError(this::onStreamError)
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1))
+                        .maxBackoff(Duration.ofMinutes(1))
+                        .transientErrors(true))
+                .subscribe();
+        log.info("Listening for changes in {} and {} to keep local caches coherent", WORKS, USERS);
+    }
+    
+    @PreDestroy
+    public void stop() {
+        if (subscription != null) {
+            subscription.dispose();
+        }
+    }
+    
+    private Flux<ChangeStreamEvent<Document>> listen() {
+        ChangeStreamWithFilterAndProjection<Document> changeStream = mongoTemplate.changeStream(Document.class)
+                .filter(Criteria.where("ns.coll").in(WORKS, USERS));
+        BsonValue token = resumeToken.get();
+        return token != null ? changeStream.resumeAfter(token).listen() : changeStream.listen();
+    }
+    
+    private void handle(ChangeStreamEvent<Document> event) {
+        switch (event.getOperationType()) {
+            case INSERT, UPDATE, REPLACE, DELETE -> evict(event);
+            default -> {
+                log.info("Change stream reported {}, flushing local caches", event.getOperationType());
+                flush();
+            }
+        }
+        resumeToken.set(event.getResumeToken());
+    }
+    
+    private void evict(ChangeStreamEvent<Document> event) {
+        String id = documentId(event.getRaw().getDocumentKey());
+        if (id == null) {
+            return;
+        }
+        if (WORKS.equals(event.getCollectionName())) {
+            Document body = event.getBody();
+            workCache.evictWork(id, body != null ? body.getString("userId") : null);
+        } else if (USERS.equals(event.getCollectionName())) {
+            tokenCache.invalidateUser(id);
+        }
+    }
+    
+    private void onStreamError(Throwable e) {
+        if (e instanceof MongoCommandException commandException
+                && commandException.getErrorCode() == CHANGE_STREAM_HISTORY_LOST) {
+            log.warn("Change stream resume point is no longer available, flushing local caches");
+            resumeToken.set(null);
+            flush();
+        } else {
+            log.warn("Change stream interrupted, resuming: {}", e.getMessage());
+        }
+    }
+    
+    private void flush() {
+        workCache.evictAll();
+        tokenCache.invalidateAll();
+    }
+    
+    private static String documentId(BsonDocument documentKey) {
+        if (documentKey == null || !documentKey.containsKey("_id")) {
+            return null;
+        }
+        BsonValue id = documentKey.get("_id");
+        if (id.isObjectId()) {
+            return id.asObjectId().getValue().toHexString();
+        }
+        return id.isString() ? id.asString().getValue() : null;
+    }
+}
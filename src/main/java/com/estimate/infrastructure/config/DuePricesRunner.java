@@ -0,0 +1,54 @@
+package com.estimate.infrastructure.config;
+
+import com.estimate.domain.port.in.pricebook.ApplyDuePricesUseCase;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDate;
+
+/**
+ * Applies future-dated price book prices once they take effect. The first poll runs at startup, so prices that took
+ * effect while no instance was running are applied too.
+ */
+@Slf4j
+@Component
+public class DuePricesRunner implements ApplicationRunner {
+    
+    private final ApplyDuePricesUseCase applyDuePricesUseCase;
+    private final Duration pollInterval;
+    private volatile Disposable subscription;
+    
+    public DuePricesRunner(
+            ApplyDuePricesUseCase applyDuePricesUseCase,
+            @Value("${app.price-book.due-prices.poll-interval:15m}") Duration pollInterval) {
+        this.applyDuePricesUseCase = applyDuePricesUseCase;
+        this.pollInterval = pollInterval;
+    }
+    
+    @Override
+    public void run(ApplicationArguments args) {
+        subscription = Flux.interval(Duration.ZERO, pollInterval)
+                .onBackpressureDrop()
+                .concatMap(tick -> applyDuePricesUseCase.applyDuePrices(LocalDate.now())
+                        .onErrorResume(e -> {
+                            log.warn("Applying due prices failed, retrying on next poll: {}", e.getMessage());
+                            return Mono.empty();
+                        }), 1)
+                .subscribe();
+    }
+    
+    @PreDestroy
+    public void stop() {
+        if (subscription != null) {
+            subscription.dispose();
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.estimate.infrastructure.config;
+
+import com.estimate.domain.port.in.estimate.RecalculateEstimateTotalsUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.estimates.recalculate-totals-on-startup", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class EstimateTotalsRecalculationRunner implements ApplicationRunner {
+    
+    private final RecalculateEstimateTotalsUseCase recalculateEstimateTotalsUseCase;
+    
+    @Override
+    public void run(ApplicationArguments args) {
+        recalculateEstimateTotalsUseCase.recalculateOutdated()
+                .subscribe(
+                        count -> {},
+                        e -> log.error("Failed to recalculate estimate totals", e)
+                );
+    }
+}
@@ -0,0 +1,55 @@
+package com.estimate.infrastructure.config;
+
+import com.estimate.domain.port.in.user.PurgeDeletedUsersUseCase;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * Purges deleted users on every poll. The first poll runs at startup, so purges interrupted by a restart resume.
+ */
+@Slf4j
+@Component
+public class UserPurgeRunner implements ApplicationRunner {
+    
+    private final PurgeDeletedUsersUseCase purgeDeletedUsersUseCase;
+    private final Duration pollInterval;
+    private final Duration lease;
+    private volatile Disposable subscription;
+    
+    public UserPurgeRunner(
+            PurgeDeletedUsersUseCase purgeDeletedUsersUseCase,
+            @Value("${app.users.purge.poll-interval:10s}") Duration pollInterval,
+            @Value("${app.users.purge.lease:10m}") Duration lease) {
+        this.purgeDeletedUsersUseCase = purgeDeletedUsersUseCase;
+        this.pollInterval = pollInterval;
+        this.lease = lease;
+    }
+    
+    @Override
+    public void run(ApplicationArguments args) {
+        subscription = Flux.interval(Duration.ZERO, pollInterval)
+                .onBackpressureDrop()
+                .concatMap(tick -> purgeDeletedUsersUseCase.purgePending(lease)
+                        .onErrorResume(e -> {
+                            log.warn("Purging deleted users failed, retrying on next poll: {}", e.getMessage());
+                            return Mono.empty();
+                        }), 1)
+                .subscribe();
+    }
+    
+    @PreDestroy
+    public void stop() {
+        if (subscription != null) {
+            subscription.dispose();
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.estimate.infrastructure.event;
+
+import com.estimate.adapter.out.persistence.mongodb.adapter.OutboxEventAdapter;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * Drains the event outbox into the {@link ReactiveDomainEventBus}. Every poll relays batches until
+ * the outbox has no more claimable events. A batch is marked dispatched only after every subscriber
+ * has handled it; otherwise it is relayed again once its lease expires.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.events.outbox.enabled", havingValue = "true")
+public class OutboxEventRelay implements ApplicationRunner {
+    
+    private final OutboxEventAdapter outbox;
+    private final ReactiveDomainEventBus eventBus;
+    private final Duration pollInterval;
+    private final int batchSize;
+    private final Duration lease;
+    private volatile Disposable subscription;
+    
+    public OutboxEventRelay(
+            OutboxEventAdapter outbox,
+            ReactiveDomainEventBus eventBus,
+            @Value("${app.events.outbox.poll-interval:1s}") Duration pollInterval,
+            @Value("${app.events.outbox.batch-size:100}") int batchSize,
+            @Value("${app.events.outbox.lease:30s}") Duration lease) {
+        this.outbox = outbox;
+        this.eventBus = eventBus;
+        this.pollInterval = pollInterval;
+        this.batchSize = batchSize;
+        this.lease = lease;
+    }
+    
+    @Override
+    public void run(ApplicationArguments args) {
+        subscription = Flux.interval(pollInterval)
+                .onBackpressureDrop()
+                .concatMap(tick -> drain(), 1)
+                .subscribe();
+        log.info("Relaying outbox events every {}", pollInterval);
+    }
+    
+    @PreDestroy
+    public void stop() {
+        if (subscription != null) {
+            subscription.dispose();
+        }
+    }
+    
+    private Mono<Void> drain() {
+        return relayBatch()
+                .expand(relayed -> relayed == batchSize ? relayBatch() : Mono.empty())
+                .onErrorResume(e -> {
+                    log.warn("Relaying outbox events failed, retrying on next poll: {}", e.getMessage());
+                    return Mono.empty();
+                })
+                .then();
+    }
+    
+    private Mono<Integer> relayBatch() {
+        return outbox.relayBatch(batchSize, lease, eventBus::deliver);
+    }
+}
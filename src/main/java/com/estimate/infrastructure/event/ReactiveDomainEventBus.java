@@ -0,0 +1,247 @@
+package com.estimate.infrastructure.event;
+
+import com.estimate.domain.event.DomainEvent;
+import com.estimate.domain.event.DomainEventPublisher;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.concurrent.Queues;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * In-process domain event bus. Each subscriber has its own queue of {@code buffer-capacity} events, consumed on a
+ * worker thread in micro-batches. An event is queued for all of its subscribers at once, only when every one of
+ * their queues has space, so it never reaches some subscribers and not others. While a queue is full, publishing
+ * waits for space; after the publish timeout the event is queued beyond the capacity and counted as overflowed
+ * instead of failing, because callers publish after their write has already been stored.
+ * Events are also forwarded to Spring {@code @EventListener} methods as one such subscriber.
+ * {@link #deliver} additionally waits until the subscribers have handled the events, for callers that must
+ * not forget an event before it is processed.
+ */
+@Slf4j
+@Component
+public class ReactiveDomainEventBus implements DomainEventPublisher {
+    
+    private static final Duration FULL_QUEUE_RETRY_DELAY = Duration.ofMillis(10);
+    
+    private final List<Subscription<?>> subscriptions = new CopyOnWriteArrayList<>();
+    private final Map<Class<?>, Counter> publishedCounters = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Counter> overflowedCounters = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+    private final Scheduler scheduler;
+    private final int bufferCapacity;
+    private final int batchSize;
+    private final Duration batchMaxWait;
+    private final Duration publishTimeout;
+    
+    public ReactiveDomainEventBus(
+            ApplicationEventPublisher applicationEventPublisher,
+            MeterRegistry meterRegistry,
+            @Value("${app.events.buffer-capacity:1024}") int bufferCapacity,
+            @Value("${app.events.batch-size:64}") int batchSize,
+            @Value("${app.events.batch-max-wait:50ms}") Duration batchMaxWait,
+            @Value("${app.events.publish-timeout:5s}") Duration publishTimeout) {
+        this.meterRegistry = meterRegistry;
+        this.scheduler = Schedulers.newBoundedElastic(
+                Schedulers.DEFAULT_BOUNDED_ELASTIC_SIZE, Schedulers.DEFAULT_BOUNDED_ELASTIC_QUEUESIZE, "domain-events");
+        this.bufferCapacity = bufferCapacity;
+        this.batchSize = batchSize;
+        this.batchMaxWait = batchMaxWait;
+        this.publishTimeout = publishTimeout;
+        
+        subscribe("spring", DomainEvent.class, events -> Mono.fromRunnable(() ->
+                events.forEach(applicationEventPublisher::publishEvent)));
+    }
+    
+    /**
+     * Completes once the event is queued for every subscriber of its type, not when it has been handled.
+     */
+    @Override
+    public Mono<Void> publish(DomainEvent event) {
+        return offer(event, null);
+    }
+    
+    /**
+     * Queues the events for every subscriber of their type and completes once all of those subscribers have
+     * handled them. Fails with the first subscriber error; events handled by other subscribers are not rolled back,
+     * so a caller retrying the delivery must expect subscribers to see an event more than once.
+     */
+    public Mono<Void> deliver(List<? extends DomainEvent> events) {
+        return Flux.fromIterable(events)
+                .concatMap(event -> {
+                    Sinks.Empty<Void> ack = Sinks.empty();
+                    return offer(event, ack).thenReturn(ack.asMono());
+                })
+                .collectList()
+                .flatMap(Mono::when);
+    }
+    
+    public <T extends DomainEvent> Disposable subscribe(String subscriber, Class<T> eventType,
+                                                        Function<List<T>, Mono<Void>> handler) {
+        Subscription<T> subscription = new Subscription<>(subscriber, eventType);
+        Disposable consumer = subscription.queue.asFlux()
+                .publishOn(scheduler, batchSize)
+                .bufferTimeout(batchSize, batchMaxWait, scheduler, true)
+                .concatMap(deliveries -> {
+                    List<T> events = deliveries.stream().map(Delivery::event).toList();
+                    events.forEach(subscription::recordLag);
+                    return Mono.defer(() -> handler.apply(events))
+                            .doOnSuccess(v -> deliveries.forEach(Delivery::acknowledge))
+                            .onErrorResume(e -> {
+                                log.error("Domain event subscriber {} failed to handle {} events", subscriber, events.size(), e);
+                                deliveries.forEach(delivery -> delivery.fail(e));
+                                return Mono.empty();
+                            })
+                            .doFinally(signal -> subscription.pending.addAndGet(-deliveries.size()));
+                })
+                .subscribe(null, e -> log.error("Domain event subscriber {} stopped", subscriber, e));
+        subscriptions.add(subscription);
+        return () -> {
+            subscriptions.remove(subscription);
+            subscription.queue.tryEmitComplete();
+            consumer.dispose();
+        };
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        subscriptions.forEach(subscription -> subscription.queue.tryEmitComplete());
+        subscriptions.clear();
+        scheduler.dispose();
+    }
+    
+    /**
+     * @param ack completed once every subscriber has handled the event, or {@code null} when nobody waits for it
+     */
+    private Mono<Void> offer(DomainEvent event, Sinks.Empty<Void> ack) {
+        return Mono.defer(() -> offer(event, ack, System.nanoTime() + publishTimeout.toNanos()));
+    }
+    
+    private Mono<Void> offer(DomainEvent event, Sinks.Empty<Void> ack, long deadline) {
+        List<Subscription<?>> targets = subscriptions.stream()
+                .filter(subscription -> subscription.accepts(event))
+                .toList();
+        List<Sinks.Empty<Void>> acks = ack != null ? new ArrayList<>() : null;
+        boolean overflow = System.nanoTime() - deadline >= 0;
+        // Space is reserved in every queue before the event is emitted to any of them
+        synchronized (this) {
+            if (!overflow && !targets.stream().allMatch(Subscription::hasSpace)) {
+                return Mono.delay(FULL_QUEUE_RETRY_DELAY).then(Mono.defer(() -> offer(event, ack, deadline)));
+            }
+            for (Subscription<?> subscription : targets) {
+                Sinks.Empty<Void> subscriberAck = ack != null ? Sinks.empty() : null;
+                if (subscriberAck != null) {
+                    acks.add(subscriberAck);
+                }
+                subscription.emit(event, subscriberAck);
+            }
+        }
+        if (overflow) {
+            countOverflowed(event);
+        }
+        countPublished(event);
+        if (ack != null) {
+            Mono.when(acks.stream().map(Sinks.Empty::asMono).toList())
+                    .subscribe(null, ack::tryEmitError, ack::tryEmitEmpty);
+        }
+        return Mono.empty();
+    }
+    
+    private void countPublished(DomainEvent event) {
+        log.debug("Published domain event: {}", event.getClass().getSimpleName());
+        publishedCounters.computeIfAbsent(event.getClass(), type -> Counter.builder("domain.events.published")
+                        .tag("type", type.getSimpleName())
+                        .register(meterRegistry))
+                .increment();
+    }
+    
+    private void countOverflowed(DomainEvent event) {
+        log.warn("Domain event subscribers did not make room for {} within {}, queueing it beyond their capacity",
+                event.getClass().getSimpleName(), publishTimeout);
+        overflowedCounters.computeIfAbsent(event.getClass(), type -> Counter.builder("domain.events.overflowed")
+                        .description("Events queued beyond a subscriber's capacity because its queue stayed full")
+                        .tag("type", type.getSimpleName())
+                        .register(meterRegistry))
+                .increment();
+    }
+    
+    private class Subscription<T extends DomainEvent> {
+        
+        private final String subscriber;
+        private final Class<T> eventType;
+        private final Sinks.Many<Delivery<T>> queue = Sinks.many().unicast().onBackpressureBuffer(Queues.<Delivery<T>>unboundedMultiproducer().get());
+        // Events queued and not yet handled; bounds the queue, which itself is unbounded so overflowed events fit
+        private final AtomicInteger pending = new AtomicInteger();
+        private final Map<Class<?>, Timer> lagTimers = new ConcurrentHashMap<>();
+        
+        Subscription(String subscriber, Class<T> eventType) {
+            this.subscriber = subscriber;
+            this.eventType = eventType;
+        }
+        
+        boolean accepts(DomainEvent event) {
+            return eventType.isInstance(event);
+        }
+        
+        boolean hasSpace() {
+            return pending.get() < bufferCapacity;
+        }
+        
+        /**
+         * Called by the bus while it holds its lock, since the sink rejects concurrent emissions.
+         */
+        void emit(DomainEvent event, Sinks.Empty<Void> ack) {
+            Delivery<T> delivery = new Delivery<>(eventType.cast(event), ack);
+            pending.incrementAndGet();
+            if (queue.tryEmitNext(delivery).isFailure()) {
+                log.debug("Domain event subscriber {} is stopped, skipping {}", subscriber, event.getClass().getSimpleName());
+                pending.decrementAndGet();
+                delivery.acknowledge();
+            }
+        }
+        
+        void recordLag(DomainEvent event) {
+            lagTimers.computeIfAbsent(event.getClass(), type -> Timer.builder("domain.events.lag")
+                            .description("Time between an event occurring and a subscriber handling it")
+                            .tag("type", type.getSimpleName())
+                            .tag("subscriber", subscriber)
+                            .register(meterRegistry))
+                    .record(Duration.between(event.occurredOn(), Instant.now()));
+        }
+    }
+    
+    private record Delivery<T>(T event, Sinks.Empty<Void> ack) {
+        
+        void acknowledge() {
+            if (ack != null) {
+                ack.tryEmitEmpty();
+            }
+        }
+        
+        void fail(Throwable error) {
+            if (ack != null) {
+                ack.tryEmitError(error);
+            }
+        }
+    }
+}
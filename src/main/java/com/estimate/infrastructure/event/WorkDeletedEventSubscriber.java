@@ -0,0 +1,31 @@
+package com.estimate.infrastructure.event;
+
+import com.estimate.domain.event.WorkDeletedEvent;
+import com.estimate.domain.port.in.work.RemoveWorkReferencesUseCase;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+
+/**
+ * Cleans up references to deleted works, one batched update per collection for each batch of events.
+ */
+@Component
+@RequiredArgsConstructor
+public class WorkDeletedEventSubscriber {
+    
+    private final ReactiveDomainEventBus eventBus;
+    private final RemoveWorkReferencesUseCase removeWorkReferencesUseCase;
+    
+    @PostConstruct
+    public void subscribe() {
+        eventBus.subscribe("work-references", WorkDeletedEvent.class, events ->
+                removeWorkReferencesUseCase.removeReferences(events.stream()
+                        .map(WorkDeletedEvent::getWorkId)
+                        .distinct()
+                        .toList())
+                        .retryWhen(Retry.backoff(3, Duration.ofSeconds(1))));
+    }
+}
@@ -0,0 +1,31 @@
+package com.estimate.infrastructure.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class MongoMetricsConfig {
+    
+    /**
+     * Per-command timers ({@code mongodb.driver.commands}, tagged by command and collection) and pool size gauges
+     * are registered by Spring Boot; this adds checkout wait times and pool saturation.
+     */
+    @Bean
+    public MongoClientSettingsBuilderCustomizer mongoPoolSaturationCustomizer(MeterRegistry meterRegistry) {
+        return settings -> settings.applyToConnectionPoolSettings(
+                pool -> pool.addConnectionPoolListener(new MongoPoolSaturationListener(meterRegistry)));
+    }
+    
+    @Bean
+    @ConditionalOnProperty(name = "app.mongodb.slow-command-log.enabled", havingValue = "true", matchIfMissing = true)
+    public MongoClientSettingsBuilderCustomizer mongoSlowCommandCustomizer(
+            @Value("${app.mongodb.slow-command-log.threshold:100ms}") Duration threshold) {
+        return settings -> settings.addCommandListener(new MongoSlowCommandListener(threshold));
+    }
+}
@@ -0,0 +1,115 @@
+package com.estimate.infrastructure.metrics;
+
+import com.mongodb.connection.ServerId;
+import com.mongodb.event.ConnectionCheckOutFailedEvent;
+import com.mongodb.event.ConnectionCheckedInEvent;
+import com.mongodb.event.ConnectionCheckedOutEvent;
+import com.mongodb.event.ConnectionPoolClosedEvent;
+import com.mongodb.event.ConnectionPoolCreatedEvent;
+import com.mongodb.event.ConnectionPoolListener;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Records how long requests wait for a pooled connection ({@code mongodb.driver.pool.checkout}) and the share of
+ * the pool in use per server ({@code mongodb.driver.pool.saturation}, 1.0 means every connection is checked out).
+ * Pool size and wait queue gauges come from Micrometer's own {@code MongoMetricsConnectionPoolListener}.
+ */
+public class MongoPoolSaturationListener implements ConnectionPoolListener {
+    
+    static final String CHECKOUT_METRIC = "mongodb.driver.pool.checkout";
+    static final String SATURATION_METRIC = "mongodb.driver.pool.saturation";
+    
+    private final MeterRegistry meterRegistry;
+    private final Map<ServerId, Pool> pools = new ConcurrentHashMap<>();
+    
+    public MongoPoolSaturationListener(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+    
+    @Override
+    public void connectionPoolCreated(ConnectionPoolCreatedEvent event) {
+        Tags tags = tags(event.getServerId());
+        Pool pool = new Pool(event.getSettings().getMaxSize());
+        pool.gauge = Gauge.builder(SATURATION_METRIC, pool, Pool::saturation)
+                .description("Share of the connection pool checked out")
+                .tags(tags)
+                .register(meterRegistry);
+        pool.checkedOutTimer = checkoutTimer(tags, "success");
+        pool.failedTimer = checkoutTimer(tags, "failed");
+        pools.put(event.getServerId(), pool);
+    }
+    
+    @Override
+    public void connectionCheckedOut(ConnectionCheckedOutEvent event) {
+        Pool pool = pools.get(event.getConnectionId().getServerId());
+        if (pool != null) {
+            pool.checkedOut.incrementAndGet();
+            pool.checkedOutTimer.record(event.getElapsedTime(TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS);
+        }
+    }
+    
+    @Override
+    public void connectionCheckOutFailed(ConnectionCheckOutFailedEvent event) {
+        Pool pool = pools.get(event.getServerId());
+        if (pool != null) {
+            pool.failedTimer.record(event.getElapsedTime(TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS);
+        }
+    }
+    
+    @Override
+    public void connectionCheckedIn(ConnectionCheckedInEvent event) {
+        Pool pool = pools.get(event.getConnectionId().getServerId());
+        if (pool != null) {
+            pool.checkedOut.decrementAndGet();
+        }
+    }
+    
+    @Override
+    public void connectionPoolClosed(ConnectionPoolClosedEvent event) {
+        Pool pool = pools.remove(event.getServerId());
+        if (pool != null) {
+            meterRegistry.remove(pool.gauge);
+            meterRegistry.remove(pool.checkedOutTimer);
+            meterRegistry.remove(pool.failedTimer);
+        }
+    }
+    
+    private Timer checkoutTimer(Tags tags, String outcome) {
+        return Timer.builder(CHECKOUT_METRIC)
+                .description("Time spent waiting for a pooled connection")
+                .tags(tags)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+    
+    private static Tags tags(ServerId serverId) {
+        return Tags.of("cluster.id", serverId.getClusterId().getValue(),
+                "server.address", serverId.getAddress().toString());
+    }
+    
+    private static class Pool {
+        
+        private final int maxSize;
+        private final AtomicInteger checkedOut = new AtomicInteger();
+        private Gauge gauge;
+        private Timer checkedOutTimer;
+        private Timer failedTimer;
+        
+        Pool(int maxSize) {
+            this.maxSize = maxSize;
+        }
+        
+        double saturation() {
+            return maxSize == 0 ? 0 : (double) checkedOut.get() / maxSize;
+        }
+    }
+}
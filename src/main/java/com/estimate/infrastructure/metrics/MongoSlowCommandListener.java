@@ -0,0 +1,109 @@
+package com.estimate.infrastructure.metrics;
+
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Logs Mongo commands that take longer than the threshold, with the collection and the shape of their filter.
+ * Field names and operators are kept and every value is replaced by {@code ?}, so
+ * {@code {userId: "u1", createdAt: {$lt: ...}}} is logged as {@code {"userId": "?", "createdAt": {"$lt": "?"}}}.
+ */
+@Slf4j
+public class MongoSlowCommandListener implements CommandListener {
+    
+    static final BsonString REDACTED = new BsonString("?");
+    
+    // Commands whose filter is worth logging, with the fields holding it
+    private static final Map<String, List<String>> FILTER_FIELDS = Map.of(
+            "find", List.of("filter", "sort", "projection"),
+            "aggregate", List.of("pipeline"),
+            "count", List.of("query"),
+            "distinct", List.of("query"),
+            "findAndModify", List.of("query", "sort"),
+            "update", List.of("updates"),
+            "delete", List.of("deletes"));
+    
+    private final long thresholdNanos;
+    private final Map<Integer, StartedCommand> started = new ConcurrentHashMap<>();
+    
+    public MongoSlowCommandListener(Duration threshold) {
+        this.thresholdNanos = threshold.toNanos();
+    }
+    
+    @Override
+    public void commandStarted(CommandStartedEvent event) {
+        // The command document is only valid during this callback, so its shape is captured up front
+        List<String> fields = FILTER_FIELDS.get(event.getCommandName());
+        if (fields != null) {
+            started.put(event.getRequestId(), new StartedCommand(collection(event), shape(event.getCommand(), fields)));
+        }
+    }
+    
+    @Override
+    public void commandSucceeded(CommandSucceededEvent event) {
+        complete(event.getRequestId(), event.getDatabaseName(), event.getCommandName(),
+                event.getElapsedTime(TimeUnit.NANOSECONDS), "succeeded");
+    }
+    
+    @Override
+    public void commandFailed(CommandFailedEvent event) {
+        complete(event.getRequestId(), event.getDatabaseName(), event.getCommandName(),
+                event.getElapsedTime(TimeUnit.NANOSECONDS), "failed");
+    }
+    
+    private void complete(int requestId, String database, String commandName, long elapsedNanos, String outcome) {
+        StartedCommand command = started.remove(requestId);
+        if (command == null || elapsedNanos < thresholdNanos) {
+            return;
+        }
+        log.warn("Slow Mongo command {} on {}.{} {} in {} ms: {}", commandName, database, command.collection(),
+                outcome, TimeUnit.NANOSECONDS.toMillis(elapsedNanos), command.shape());
+    }
+    
+    private static String collection(CommandStartedEvent event) {
+        BsonValue collection = event.getCommand().get(event.getCommandName());
+        return collection != null && collection.isString() ? collection.asString().getValue() : "unknown";
+    }
+    
+    static String shape(BsonDocument command, List<String> fields) {
+        BsonDocument shape = new BsonDocument();
+        for (String field : fields) {
+            BsonValue value = command.get(field);
+            if (value != null) {
+                shape.append(field, redact(value));
+            }
+        }
+        return shape.toJson();
+    }
+    
+    static BsonValue redact(BsonValue value) {
+        if (value.isDocument()) {
+            BsonDocument redacted = new BsonDocument();
+            value.asDocument().forEach((key, nested) -> redacted.append(key, redact(nested)));
+            return redacted;
+        }
+        // Arrays of sub-filters ($and, $or, pipelines, update statements) keep their structure, arrays of values do not
+        if (value.isArray() && !value.asArray().isEmpty() && value.asArray().get(0).isDocument()) {
+            BsonArray redacted = new BsonArray();
+            value.asArray().forEach(element -> redacted.add(redact(element)));
+            return redacted;
+        }
+        return REDACTED;
+    }
+    
+    private record StartedCommand(String collection, String shape) {
+    }
+}
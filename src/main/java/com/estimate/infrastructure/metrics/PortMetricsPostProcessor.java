@@ -0,0 +1,44 @@
+package com.estimate.infrastructure.metrics;
+
+import com.estimate.infrastructure.port.PortProxyPostProcessor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aopalliance.aop.Advice;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Wraps every bean implementing a {@code *UseCase} or {@code *RepositoryPort} interface in a proxy that
+ * records a {@code usecase.duration} or {@code repository.duration} timer per call, tagged with the
+ * port operation, the implementing class, the outcome and the error type.
+ */
+@Component
+@ConditionalOnProperty(name = "app.metrics.ports.enabled", havingValue = "true", matchIfMissing = true)
+public class PortMetricsPostProcessor extends PortProxyPostProcessor {
+    
+    static final String USE_CASE_METRIC = "usecase.duration";
+    static final String REPOSITORY_METRIC = "repository.duration";
+    
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    
+    public PortMetricsPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+    
+    @Override
+    protected List<Advice> advices(Class<?> beanClass) {
+        List<Advice> advices = new ArrayList<>();
+        addAdvice(advices, USE_CASE_METRIC, beanClass, ports(beanClass, "UseCase"));
+        addAdvice(advices, REPOSITORY_METRIC, beanClass, ports(beanClass, "RepositoryPort"));
+        return advices;
+    }
+    
+    private void addAdvice(List<Advice> advices, String metricName, Class<?> beanClass, List<Class<?>> ports) {
+        if (!ports.isEmpty()) {
+            advices.add(new PortTimingInterceptor(metricName, beanClass, ports, meterRegistry::getObject));
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.estimate.infrastructure.metrics;
+
+import com.estimate.infrastructure.port.PortProxyPostProcessor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Times calls to the methods of the given port interfaces. For {@link Mono} and {@link Flux} results
+ * the timer runs from subscription until the publisher terminates or is cancelled.
+ */
+class PortTimingInterceptor implements MethodInterceptor {
+    
+    private final String metricName;
+    private final String implementation;
+    private final List<Class<?>> ports;
+    private final Supplier<MeterRegistry> meterRegistry;
+    private final Map<Method, Optional<String>> operations = new ConcurrentHashMap<>();
+    private final Map<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+    
+    PortTimingInterceptor(String metricName, Class<?> implementation, List<Class<?>> ports,
+                          Supplier<MeterRegistry> meterRegistry) {
+        this.metricName = metricName;
+        this.implementation = implementation.getSimpleName();
+        this.ports = ports;
+        this.meterRegistry = meterRegistry;
+    }
+    
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Optional<String> operation = operations.computeIfAbsent(invocation.getMethod(),
+                method -> PortProxyPostProcessor.operation(ports, method));
+        if (operation.isEmpty()) {
+            return invocation.proceed();
+        }
+        long start = System.nanoTime();
+        Object result;
+        try {
+            result = invocation.proceed();
+        } catch (Throwable e) {
+            record(operation.get(), start, "error", e);
+            throw e;
+        }
+        if (result instanceof Mono<?> mono) {
+            return timed(mono, operation.get());
+        }
+        if (result instanceof Flux<?> flux) {
+            return timed(flux, operation.get());
+        }
+        record(operation.get(), start, "success", null);
+        return result;
+    }
+    
+    private <T> Mono<T> timed(Mono<T> mono, String operation) {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return mono
+                    .doOnSuccess(value -> record(operation, start, "success", null))
+                    .doOnError(e -> record(operation, start, "error", e))
+                    .doOnCancel(() -> record(operation, start, "cancelled", null));
+        });
+    }
+    
+    private <T> Flux<T> timed(Flux<T> flux, String operation) {
+        return Flux.defer(() -> {
+            long start = System.nanoTime();
+            return flux
+                    .doOnComplete(() -> record(operation, start, "success", null))
+                    .doOnError(e -> record(operation, start, "error", e))
+                    .doOnCancel(() -> record(operation, start, "cancelled", null));
+        });
+    }
+    
+    private void record(String operation, long start, String outcome, Throwable error) {
+        TimerKey key = new TimerKey(operation, outcome, error == null ? null : error.getClass());
+        timers.computeIfAbsent(key, this::timer).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+    
+    private Timer timer(TimerKey key) {
+        return Timer.builder(metricName)
+                .tag("operation", key.operation())
+                .tag("implementation", implementation)
+                .tag("outcome", key.outcome())
+                .tag("error", key.error() == null ? "none" : key.error().getSimpleName())
+                .publishPercentileHistogram()
+                .register(meterRegistry.get());
+    }
+    
+    private record TimerKey(String operation, String outcome, Class<?> error) {
+    }
+}
@@ -0,0 +1,69 @@
+package com.estimate.infrastructure.port;
+
+import org.aopalliance.aop.Advice;
+import org.springframework.aop.framework.Advised;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Base for post processors that advise calls to the domain port interfaces a bean implements. Beans that are
+ * already proxied get the advice added to the existing proxy, so several features share one proxy per bean.
+ * Post processors are created before most other beans, so subclasses resolve the registries their advice
+ * reports to on first use rather than in the constructor.
+ */
+public abstract class PortProxyPostProcessor implements BeanPostProcessor {
+    
+    @Override
+    public final Object postProcessAfterInitialization(Object bean, String beanName) {
+        Class<?> beanClass = ClassUtils.getUserClass(bean);
+        List<Advice> advices = advices(beanClass);
+        if (advices.isEmpty()) {
+            return bean;
+        }
+        if (bean instanceof Advised advised && !advised.isFrozen()) {
+            advices.forEach(advised::addAdvice);
+            return bean;
+        }
+        ProxyFactory proxyFactory = new ProxyFactory(bean);
+        proxyFactory.setProxyTargetClass(true);
+        advices.forEach(proxyFactory::addAdvice);
+        return proxyFactory.getProxy(beanClass.getClassLoader());
+    }
+    
+    /**
+     * @return the advice to apply to the bean, or an empty list to leave it unproxied
+     */
+    protected abstract List<Advice> advices(Class<?> beanClass);
+    
+    /**
+     * @return the domain port interfaces implemented by the class whose simple name ends with {@code suffix}
+     */
+    protected static List<Class<?>> ports(Class<?> beanClass, String suffix) {
+        return ClassUtils.getAllInterfacesForClassAsSet(beanClass).stream()
+                .filter(type -> type.getPackageName().startsWith("com.estimate.domain.port"))
+                .filter(type -> type.getSimpleName().endsWith(suffix))
+                .toList();
+    }
+    
+    /**
+     * @return {@code Port.method} for the port method the invoked method implements, or empty when it is not
+     * declared by any of the ports
+     */
+    public static Optional<String> operation(List<Class<?>> ports, Method method) {
+        for (Class<?> port : ports) {
+            for (Method portMethod : port.getMethods()) {
+                if (portMethod.getName().equals(method.getName())
+                        && Arrays.equals(portMethod.getParameterTypes(), method.getParameterTypes())) {
+                    return Optional.of(port.getSimpleName() + "." + method.getName());
+                }
+            }
+        }
+        return Optional.empty();
+    }
+}
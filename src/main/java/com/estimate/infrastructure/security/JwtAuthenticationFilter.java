@@ -1,6 +1,9 @@
 package com.estimate.infrastructure.security;
 
 import com.estimate.domain.port.out.AuthenticationProviderPort;
+import com.estimate.infrastructure.tracing.ReactorObservations;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Profile;
@@ -15,6 +18,7 @@ import org.springframework.web.server.ServerWebExchange;
 import org.springframework.web.server.WebFilter;
 import org.springframework.web.server.WebFilterChain;
 import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
 
 import java.util.List;
 
@@ -25,16 +29,15 @@ import java.util.List;
 public class JwtAuthenticationFilter implements WebFilter {
     
     private final AuthenticationProviderPort authenticationProvider;
+    private final ObservationRegistry observationRegistry;
     
     @Override
     public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
         String jwt = getJwtFromRequest(exchange.getRequest());
         
         if (StringUtils.hasText(jwt)) {
-            return authenticationProvider.validateToken(jwt)
-                    .filter(isValid -> isValid)
-                    .flatMap(isValid -> authenticationProvider.extractUserInfo(jwt))
-                    .flatMap(userInfo -> {
+            return ReactorObservations.observe(authenticationProvider.verifyToken(jwt), this::observation)
+                    .map(userInfo -> {
                         var authorities = List.of(new SimpleGrantedAuthority("ROLE_" + userInfo.getRole()));
                         
                         var authentication = new UsernamePasswordAuthenticationToken(
@@ -43,18 +46,25 @@ public class JwtAuthenticationFilter implements WebFilter {
                                 authorities
                         );
                         
-                        return chain.filter(exchange)
-                                .contextWrite(ReactiveSecurityContextHolder.withAuthentication(authentication));
+                        return ReactiveSecurityContextHolder.withAuthentication(authentication);
                     })
                     .onErrorResume(e -> {
                         log.error("Could not set user authentication in security context", e);
-                        return chain.filter(exchange);
-                    });
+                        return Mono.empty();
+                    })
+                    .defaultIfEmpty(Context.empty())
+                    .flatMap(context -> chain.filter(exchange).contextWrite(context));
         }
         
         return chain.filter(exchange);
     }
     
+    private Observation observation() {
+        return Observation.createNotStarted("auth.filter", observationRegistry)
+                .contextualName("JwtAuthenticationFilter")
+                .lowCardinalityKeyValue("filter", "jwt");
+    }
+    
     private String getJwtFromRequest(ServerHttpRequest request) {
         String bearerToken = request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
         if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
@@ -16,6 +16,7 @@ public class JwtTokenProvider {
     
     private final SecretKey key;
     private final long jwtExpirationMs;
+    private final JwtParser parser;
     
     public JwtTokenProvider(
             @Value("${app.jwt.secret}") String jwtSecret,
@@ -24,6 +25,7 @@ public class JwtTokenProvider {
                 java.util.Base64.getEncoder().encodeToString(jwtSecret.getBytes())
         ));
         this.jwtExpirationMs = jwtExpirationMs;
+        this.parser = Jwts.parser().verifyWith(key).build();
     }
     
     public String generateToken(String userId, String email, String role) {
@@ -40,36 +42,25 @@ public class JwtTokenProvider {
                 .compact();
     }
     
+    public Claims parseClaims(String token) {
+        return parser.parseSignedClaims(token).getPayload();
+    }
+    
     public String getUserIdFromToken(String token) {
-        return Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .getSubject();
+        return parseClaims(token).getSubject();
     }
     
     public String getEmailFromToken(String token) {
-        return Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .get("email", String.class);
+        return parseClaims(token).get("email", String.class);
     }
     
     public String getRoleFromToken(String token) {
-        return Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .get("role", String.class);
+        return parseClaims(token).get("role", String.class);
     }
     
     public boolean validateToken(String token) {
         try {
-            Jwts.parser().verifyWith(key).build().parseSignedClaims(token);
+            parseClaims(token);
             return true;
         } catch (MalformedJwtException e) {
             log.error("Invalid JWT token: {}", e.getMessage());
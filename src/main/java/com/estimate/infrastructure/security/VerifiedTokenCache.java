@@ -0,0 +1,92 @@
+package com.estimate.infrastructure.security;
+
+import com.estimate.domain.model.UserAuthInfo;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.function.Supplier;
+
+/**
+ * Bounded cache of already verified bearer tokens, keyed by the SHA-256 hash of the token.
+ * Entries expire together with the token, so a cached token is never accepted past its {@code exp}.
+ */
+@Component
+public class VerifiedTokenCache {
+    
+    public static final String CACHE_NAME = "verifiedTokens";
+    
+    private final Cache<String, VerifiedToken> cache;
+    
+    public VerifiedTokenCache(
+            @Value("${app.security.token-cache.max-size:10000}") long maxSize,
+            MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new TokenExpiry())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+    
+    public Mono<UserAuthInfo> get(String token, Supplier<Mono<VerifiedToken>> verifier) {
+        return Mono.defer(() -> {
+            String key = hash(token);
+            VerifiedToken cached = cache.getIfPresent(key);
+            if (cached != null) {
+                return Mono.just(cached.userInfo());
+            }
+            return verifier.get()
+                    .doOnNext(verified -> cache.put(key, verified))
+                    .map(VerifiedToken::userInfo);
+        });
+    }
+    
+    public void invalidateUser(String userId) {
+        cache.asMap().values().removeIf(verified -> userId.equals(verified.userInfo().getUserId()));
+    }
+    
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+    
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return Base64.getEncoder().encodeToString(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+    
+    public record VerifiedToken(UserAuthInfo userInfo, Instant expiresAt) {}
+    
+    private static class TokenExpiry implements Expiry<String, VerifiedToken> {
+        
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            return Math.max(0, Duration.between(Instant.now(), value.expiresAt()).toNanos());
+        }
+        
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+        
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.estimate.infrastructure.tracing;
+
+import com.estimate.infrastructure.port.PortProxyPostProcessor;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Observes {@link Mono} and {@link Flux} results of the given port interfaces' methods as spans named after
+ * the port operation ({@code FindEstimateUseCase.findById} is exported as {@code find-estimate-use-case.find-by-id}).
+ * Other return types are passed through untraced.
+ */
+class PortTracingInterceptor implements MethodInterceptor {
+    
+    private final String name;
+    private final String implementation;
+    private final List<Class<?>> ports;
+    private final Supplier<ObservationRegistry> observationRegistry;
+    private final Map<Method, Optional<String>> operations = new ConcurrentHashMap<>();
+    
+    PortTracingInterceptor(String name, Class<?> implementation, List<Class<?>> ports,
+                           Supplier<ObservationRegistry> observationRegistry) {
+        this.name = name;
+        this.implementation = implementation.getSimpleName();
+        this.ports = ports;
+        this.observationRegistry = observationRegistry;
+    }
+    
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Optional<String> operation = operations.computeIfAbsent(invocation.getMethod(),
+                method -> PortProxyPostProcessor.operation(ports, method));
+        Object result = invocation.proceed();
+        if (operation.isEmpty()) {
+            return result;
+        }
+        if (result instanceof Mono<?> mono) {
+            return ReactorObservations.observe(mono, () -> observation(operation.get()));
+        }
+        if (result instanceof Flux<?> flux) {
+            return ReactorObservations.observe(flux, () -> observation(operation.get()));
+        }
+        return result;
+    }
+    
+    private Observation observation(String operation) {
+        return Observation.createNotStarted(name, observationRegistry.get())
+                .contextualName(operation)
+                .lowCardinalityKeyValue("operation", operation)
+                .lowCardinalityKeyValue("implementation", implementation);
+    }
+}
@@ -0,0 +1,49 @@
+package com.estimate.infrastructure.tracing;
+
+import com.estimate.infrastructure.port.PortProxyPostProcessor;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.tracing.Tracer;
+import org.aopalliance.aop.Advice;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.util.function.SingletonSupplier;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Starts a span for every call to a {@code *UseCase}, {@code *RepositoryPort} or {@link
+ * com.estimate.domain.port.out.AuthenticationProviderPort} method, named after the port operation.
+ */
+@Component
+@ConditionalOnProperty(name = "app.tracing.ports.enabled", havingValue = "true", matchIfMissing = true)
+public class PortTracingPostProcessor extends PortProxyPostProcessor {
+    
+    static final String USE_CASE_SPAN = "usecase";
+    static final String REPOSITORY_SPAN = "repository";
+    static final String AUTHENTICATION_SPAN = "auth.provider";
+    
+    private final Supplier<ObservationRegistry> observationRegistry;
+    
+    public PortTracingPostProcessor(ObjectProvider<Tracer> tracer) {
+        this.observationRegistry = SingletonSupplier.of(
+                () -> TracingConfig.spanOnlyRegistry(tracer.getIfAvailable(() -> Tracer.NOOP)));
+    }
+    
+    @Override
+    protected List<Advice> advices(Class<?> beanClass) {
+        List<Advice> advices = new ArrayList<>();
+        addAdvice(advices, USE_CASE_SPAN, beanClass, ports(beanClass, "UseCase"));
+        addAdvice(advices, REPOSITORY_SPAN, beanClass, ports(beanClass, "RepositoryPort"));
+        addAdvice(advices, AUTHENTICATION_SPAN, beanClass, ports(beanClass, "AuthenticationProviderPort"));
+        return advices;
+    }
+    
+    private void addAdvice(List<Advice> advices, String spanName, Class<?> beanClass, List<Class<?>> ports) {
+        if (!ports.isEmpty()) {
+            advices.add(new PortTracingInterceptor(spanName, beanClass, ports, observationRegistry));
+        }
+    }
+}
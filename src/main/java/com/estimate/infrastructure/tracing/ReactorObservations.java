@@ -0,0 +1,60 @@
+package com.estimate.infrastructure.tracing;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.contextpropagation.ObservationThreadLocalAccessor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+import reactor.util.context.ContextView;
+
+import java.util.function.Supplier;
+
+/**
+ * Runs an {@link Observation} from subscription until the publisher terminates or is cancelled. The parent is
+ * taken from the Reactor context (where WebFlux puts the server request observation) and the observation is
+ * written back into the context, so observations started upstream - including Mongo commands - become its children.
+ */
+public final class ReactorObservations {
+    
+    static final String OUTCOME = "outcome";
+    
+    private ReactorObservations() {
+    }
+    
+    public static <T> Mono<T> observe(Mono<T> mono, Supplier<Observation> observation) {
+        return Mono.deferContextual(context -> {
+            Observation started = start(observation.get(), context);
+            return mono
+                    .doOnError(started::error)
+                    .doFinally(signal -> stop(started, signal))
+                    .contextWrite(ctx -> ctx.put(ObservationThreadLocalAccessor.KEY, started));
+        });
+    }
+    
+    public static <T> Flux<T> observe(Flux<T> flux, Supplier<Observation> observation) {
+        return Flux.deferContextual(context -> {
+            Observation started = start(observation.get(), context);
+            return flux
+                    .doOnError(started::error)
+                    .doFinally(signal -> stop(started, signal))
+                    .contextWrite(ctx -> ctx.put(ObservationThreadLocalAccessor.KEY, started));
+        });
+    }
+    
+    private static Observation start(Observation observation, ContextView context) {
+        Observation parent = context.getOrDefault(ObservationThreadLocalAccessor.KEY, null);
+        if (parent != null) {
+            observation.parentObservation(parent);
+        }
+        return observation.start();
+    }
+    
+    private static void stop(Observation observation, SignalType signal) {
+        String outcome = switch (signal) {
+            case ON_ERROR -> "error";
+            case CANCEL -> "cancelled";
+            default -> "success";
+        };
+        observation.lowCardinalityKeyValue(OUTCOME, outcome).stop();
+    }
+}
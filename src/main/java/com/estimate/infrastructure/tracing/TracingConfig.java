@@ -0,0 +1,36 @@
+package com.estimate.infrastructure.tracing;
+
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.handler.DefaultTracingObservationHandler;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.observability.ContextProviderFactory;
+import org.springframework.data.mongodb.observability.MongoObservationCommandListener;
+
+@Configuration
+public class TracingConfig {
+    
+    /**
+     * Records a span per Mongo command, parented to the observation found in the subscriber's Reactor context.
+     */
+    @Bean
+    public MongoClientSettingsBuilderCustomizer mongoTracingCustomizer(ObjectProvider<Tracer> tracer) {
+        ObservationRegistry observationRegistry = spanOnlyRegistry(tracer.getIfAvailable(() -> Tracer.NOOP));
+        return settings -> settings
+                .contextProvider(ContextProviderFactory.create(observationRegistry))
+                .addCommandListener(new MongoObservationCommandListener(observationRegistry));
+    }
+    
+    /**
+     * Port calls and Mongo commands are already timed by {@code usecase.duration}, {@code repository.duration} and
+     * {@code mongodb.driver.commands}, so their observations only produce spans instead of a second set of timers.
+     */
+    static ObservationRegistry spanOnlyRegistry(Tracer tracer) {
+        ObservationRegistry observationRegistry = ObservationRegistry.create();
+        observationRegistry.observationConfig().observationHandler(new DefaultTracingObservationHandler(tracer));
+        return observationRegistry;
+    }
+}
@@ -0,0 +1,37 @@
+package com.estimate.infrastructure.web;
+
+import org.springframework.http.ETag;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * ETag and If-Match handling for versioned resources. The ETag of a resource is its version.
+ */
+public final class ConditionalRequests {
+    
+    private ConditionalRequests() {
+    }
+    
+    public static <T> ResponseEntity<T> versioned(Long version, T body) {
+        return ResponseEntity.ok()
+                .eTag(String.valueOf(version != null ? version : 0L))
+                .body(body);
+    }
+    
+    /**
+     * Returns the version an If-Match header requires, or {@code null} when the header is absent or {@code *}.
+     */
+    public static Long expectedVersion(String ifMatch) {
+        if (ifMatch == null) {
+            return null;
+        }
+        ETag eTag = ETag.create(ifMatch);
+        if (eTag.isWildcard()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(eTag.tag());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid If-Match header");
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.estimate.adapter.in.web.estimate;
+
+import com.estimate.adapter.in.web.estimate.dto.EstimateSummaryPageResponse;
+import com.estimate.adapter.in.web.exception.GlobalExceptionHandler;
+import com.estimate.domain.model.EstimateCursor;
+import com.estimate.domain.model.EstimateSummary;
+import com.estimate.domain.model.EstimateSummaryPage;
+import com.estimate.domain.port.in.estimate.*;
+import com.estimate.infrastructure.security.UserPrincipal;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.core.ReactiveAdapterRegistry;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.web.reactive.result.method.annotation.AuthenticationPrincipalArgumentResolver;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class EstimateControllerTest {
+    
+    private static final Instant CREATED_AT = Instant.parse("2024-07-01T10:00:00.123456Z");
+    
+    private FindEstimateUseCase findEstimateUseCase;
+    private WebTestClient client;
+    
+    @BeforeEach
+    void setup() {
+        findEstimateUseCase = mock(FindEstimateUseCase.class);
+        EstimateController controller = new EstimateController(mock(CreateEstimateUseCase.class),
+                mock(UpdateEstimateUseCase.class), mock(DeleteEstimateUseCase.class), findEstimateUseCase,
+                mock(ComposeEstimateUseCase.class), mock(BatchEstimateUseCase.class));
+        UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                new UserPrincipal("user1", "user1@example.com", "USER"), null, List.of());
+        client = WebTestClient.bindToController(controller)
+                .controllerAdvice(new GlobalExceptionHandler())
+                .argumentResolvers(resolvers -> resolvers.addCustomResolver(
+                        new AuthenticationPrincipalArgumentResolver(ReactiveAdapterRegistry.getSharedInstance())))
+                .webFilter((exchange, chain) -> chain.filter(exchange)
+                        .contextWrite(ReactiveSecurityContextHolder.withAuthentication(authentication)))
+                .build();
+    }
+    
+    @Test
+    void shouldPassReturnedCursorBackUnchanged() {
+        EstimateCursor next = new EstimateCursor(CREATED_AT, "65a1f0c2e4b0a1b2c3d4e5f6");
+        when(findEstimateUseCase.findSummariesByUserId("user1", null, 2))
+                .thenReturn(Mono.just(new EstimateSummaryPage(List.of(summary("estimate1"), summary("estimate2")), next)));
+        when(findEstimateUseCase.findSummariesByUserId("user1", next, 2))
+                .thenReturn(Mono.just(new EstimateSummaryPage(List.of(summary("estimate3")), null)));
+        
+        EstimateSummaryPageResponse first = getPage("/api/estimates/summaries?limit=2");
+        assertEquals(2, first.getItems().size());
+        assertNotNull(first.getNextCursor());
+        
+        EstimateSummaryPageResponse last = getPage("/api/estimates/summaries?limit=2&cursor=" + first.getNextCursor());
+        assertEquals(1, last.getItems().size());
+        assertNull(last.getNextCursor());
+        verify(findEstimateUseCase).findSummariesByUserId("user1", next, 2);
+    }
+    
+    @ParameterizedTest
+    @ValueSource(strings = {"not*base64", "no-separator", "yesterday|estimate1"})
+    void shouldRejectMalformedCursor(String cursor) {
+        String encoded = cursor.contains("*") ? cursor
+                : Base64.getUrlEncoder().withoutPadding().encodeToString(cursor.getBytes(StandardCharsets.UTF_8));
+        
+        client.get().uri("/api/estimates/summaries?cursor=" + encoded)
+                .exchange()
+                .expectStatus().isBadRequest();
+        
+        verifyNoInteractions(findEstimateUseCase);
+    }
+    
+    @Test
+    void shouldRejectLimitOutOfRange() {
+        client.get().uri("/api/estimates/summaries?limit=101")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+    
+    private EstimateSummaryPageResponse getPage(String uri) {
+        return client.get().uri(uri)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(EstimateSummaryPageResponse.class)
+                .returnResult()
+                .getResponseBody();
+    }
+    
+    private EstimateSummary summary(String id) {
+        return EstimateSummary.builder()
+                .id(id)
+                .userId("user1")
+                .investorName("John Doe")
+                .createdAt(CREATED_AT)
+                .build();
+    }
+}
@@ -0,0 +1,159 @@
+package com.estimate.adapter.in.web.work;
+
+import com.estimate.adapter.in.web.exception.GlobalExceptionHandler;
+import com.estimate.adapter.in.web.work.dto.WorkCsvRecord;
+import com.estimate.adapter.in.web.work.dto.WorkRequest;
+import com.estimate.domain.exception.VersionConflictException;
+import com.estimate.domain.model.Work;
+import com.estimate.domain.port.in.work.*;
+import com.estimate.infrastructure.security.UserPrincipal;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ReactiveAdapterRegistry;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.web.reactive.result.method.annotation.AuthenticationPrincipalArgumentResolver;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class WorkControllerTest {
+    
+    private FindWorkUseCase findWorkUseCase;
+    private UpdateWorkUseCase updateWorkUseCase;
+    private ImportWorksUseCase importWorksUseCase;
+    private WebTestClient client;
+    
+    @BeforeEach
+    void setup() {
+        findWorkUseCase = mock(FindWorkUseCase.class);
+        updateWorkUseCase = mock(UpdateWorkUseCase.class);
+        importWorksUseCase = mock(ImportWorksUseCase.class);
+        WorkController controller = new WorkController(mock(CreateWorkUseCase.class), updateWorkUseCase,
+                mock(DeleteWorkUseCase.class), findWorkUseCase, importWorksUseCase, new ObjectMapper(),
+                Validation.buildDefaultValidatorFactory().getValidator());
+        UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                new UserPrincipal("user1", "user1@example.com", "USER"), null, List.of());
+        client = WebTestClient.bindToController(controller)
+                .controllerAdvice(new GlobalExceptionHandler())
+                .argumentResolvers(resolvers -> resolvers.addCustomResolver(
+                        new AuthenticationPrincipalArgumentResolver(ReactiveAdapterRegistry.getSharedInstance())))
+                .webFilter((exchange, chain) -> chain.filter(exchange)
+                        .contextWrite(ReactiveSecurityContextHolder.withAuthentication(authentication)))
+                .build();
+    }
+    
+    @Test
+    void shouldReturnVersionAsETag() {
+        when(findWorkUseCase.findById("work1", "user1")).thenReturn(Mono.just(work(3L)));
+        
+        client.get().uri("/api/works/work1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, "\"3\"")
+                .expectBody().jsonPath("$.name").isEqualTo("Painting");
+    }
+    
+    @Test
+    void shouldReturnNotModifiedWhenETagMatches() {
+        when(findWorkUseCase.findById("work1", "user1")).thenReturn(Mono.just(work(3L)));
+        
+        client.get().uri("/api/works/work1")
+                .header(HttpHeaders.IF_NONE_MATCH, "\"3\"")
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectBody().isEmpty();
+    }
+    
+    @Test
+    void shouldPassIfMatchVersionAndReturnNewETag() {
+        when(updateWorkUseCase.update(argThat(command -> command.getExpectedVersion() == 3L)))
+                .thenReturn(Mono.just(work(4L)));
+        
+        client.put().uri("/api/works/work1")
+                .header(HttpHeaders.IF_MATCH, "\"3\"")
+                .bodyValue(request())
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, "\"4\"");
+    }
+    
+    @Test
+    void shouldRejectStaleIfMatchWithPreconditionFailed() {
+        when(updateWorkUseCase.update(any())).thenReturn(Mono.error(new VersionConflictException("Work was modified")));
+        
+        client.put().uri("/api/works/work1")
+                .header(HttpHeaders.IF_MATCH, "\"2\"")
+                .bodyValue(request())
+                .exchange()
+                .expectStatus().isEqualTo(412);
+    }
+    
+    @Test
+    void shouldRejectMalformedIfMatch() {
+        client.put().uri("/api/works/work1")
+                .header(HttpHeaders.IF_MATCH, "\"abc\"")
+                .bodyValue(request())
+                .exchange()
+                .expectStatus().isBadRequest();
+        
+        verify(updateWorkUseCase, never()).update(any());
+    }
+    
+    @Test
+    void shouldReportCsvRowsBeyondMaterialLimitOfAWork() {
+        List<ImportWorkCommand> commands = new ArrayList<>();
+        when(importWorksUseCase.importWorks(eq("user1"), any())).thenAnswer(invocation -> {
+            Flux<ImportWorkCommand> works = invocation.getArgument(1);
+            return works.doOnNext(commands::add).then(Mono.just(ImportWorksResult.builder().errors(Map.of()).build()));
+        });
+        StringBuilder csv = new StringBuilder(WorkCsvRecord.HEADER).append('\n');
+        for (int i = 0; i < 502; i++) {
+            csv.append("Painting,m2,Paint ").append(i).append(",l,0.2\n");
+        }
+        csv.append("Tiling,m2,Tiles,m2,1\n");
+        
+        client.post().uri("/api/works/import")
+                .contentType(MediaType.parseMediaType("text/csv"))
+                .bodyValue(csv.toString())
+                .exchange()
+                .expectStatus().isOk();
+        
+        assertEquals(4, commands.size());
+        assertEquals(500, commands.get(0).getMaterials().size());
+        assertEquals(2L, commands.get(0).getLine());
+        assertEquals(List.of(502L, 503L), List.of(commands.get(1).getLine(), commands.get(2).getLine()));
+        assertNotNull(commands.get(1).getError());
+        assertEquals("Tiling", commands.get(3).getName());
+    }
+    
+    private Work work(Long version) {
+        return Work.builder()
+                .id("work1")
+                .userId("user1")
+                .name("Painting")
+                .unit("m2")
+                .materials(new ArrayList<>())
+                .version(version)
+                .build();
+    }
+    
+    private WorkRequest request() {
+        return WorkRequest.builder()
+                .name("Painting")
+                .unit("m2")
+                .materials(new ArrayList<>())
+                .build();
+    }
+}
@@ -0,0 +1,39 @@
+package com.estimate.adapter.in.web.work.dto;
+
+import com.estimate.domain.model.Material;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WorkCsvRecordTest {
+    
+    @Test
+    void shouldRoundTripQuotedFields() {
+        Material material = new Material("Paint, white \"matt\"", "l", new BigDecimal("0.25"));
+        
+        String line = WorkCsvRecord.fromWork("Painting", "m2", List.of(material)).get(0).toLine();
+        WorkCsvRecord parsed = WorkCsvRecord.parse(line);
+        
+        assertEquals("Painting,m2,\"Paint, white \"\"matt\"\"\",l,0.25", line);
+        assertEquals("Painting", parsed.getName());
+        assertEquals(material, parsed.toMaterial());
+    }
+    
+    @Test
+    void shouldParseWorkWithoutMaterials() {
+        WorkCsvRecord parsed = WorkCsvRecord.parse("Demolition,m2,,,");
+        
+        assertEquals("Demolition", parsed.getName());
+        assertNull(parsed.toMaterial());
+    }
+    
+    @Test
+    void shouldRejectMalformedLines() {
+        assertThrows(IllegalArgumentException.class, () -> WorkCsvRecord.parse("Painting,m2,Paint"));
+        assertThrows(IllegalArgumentException.class, () -> WorkCsvRecord.parse("Painting,m2,Paint,l,much"));
+        assertThrows(IllegalArgumentException.class, () -> WorkCsvRecord.parse("\"Painting,m2,Paint,l,1"));
+    }
+}
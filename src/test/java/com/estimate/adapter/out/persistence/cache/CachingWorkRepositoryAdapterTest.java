@@ -0,0 +1,96 @@
+package com.estimate.adapter.out.persistence.cache;
+
+import com.estimate.adapter.out.persistence.mongodb.adapter.WorkRepositoryAdapter;
+import com.estimate.domain.event.WorkUpdatedEvent;
+import com.estimate.domain.model.Work;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+
+class CachingWorkRepositoryAdapterTest {
+
+    private WorkRepositoryAdapter delegate;
+    private CachingWorkRepositoryAdapter repository;
+
+    @BeforeEach
+    void setup() {
+        delegate = mock(WorkRepositoryAdapter.class);
+        repository = new CachingWorkRepositoryAdapter(delegate, new SimpleMeterRegistry(), 100, Duration.ofMinutes(10));
+        when(delegate.findByUserId("user1")).thenAnswer(invocation -> Flux.just(work("work1"), work("work2")));
+    }
+
+    @Test
+    void shouldLoadCatalogOnlyOnce() {
+        StepVerifier.create(repository.findByUserId("user1"))
+                .expectNextCount(2)
+                .verifyComplete();
+        StepVerifier.create(repository.findByUserIdAndIdIn("user1", List.of("work2")))
+                .expectNextMatches(work -> work.getId().equals("work2"))
+                .verifyComplete();
+
+        verify(delegate, times(1)).findByUserId("user1");
+        verify(delegate, never()).findByUserIdAndIdIn(any(), any());
+    }
+
+    @Test
+    void shouldReloadCatalogAfterWorkChanged() {
+        StepVerifier.create(repository.findByUserId("user1"))
+                .expectNextCount(2)
+                .verifyComplete();
+
+        repository.onWorkUpdated(WorkUpdatedEvent.builder().workId("work1").userId("user1").build());
+
+        StepVerifier.create(repository.findByUserId("user1"))
+                .expectNextCount(2)
+                .verifyComplete();
+
+        verify(delegate, times(2)).findByUserId("user1");
+    }
+
+    @Test
+    void shouldEvictCatalogWhenBulkInsertFails() {
+        when(delegate.insertAll(anyList())).thenReturn(Mono.error(new IllegalStateException("write failed")));
+        StepVerifier.create(repository.findByUserId("user1"))
+                .expectNextCount(2)
+                .verifyComplete();
+
+        StepVerifier.create(repository.insertAll(List.of(work("work3"))))
+                .verifyError(IllegalStateException.class);
+        StepVerifier.create(repository.findByUserId("user1"))
+                .expectNextCount(2)
+                .verifyComplete();
+
+        verify(delegate, times(2)).findByUserId("user1");
+    }
+
+    @Test
+    void shouldStreamExportsWithoutCachingThem() {
+        when(delegate.streamByUserId("user1")).thenReturn(Flux.just(work("work1"), work("work2")));
+
+        StepVerifier.create(repository.streamByUserId("user1"))
+                .expectNextCount(2)
+                .verifyComplete();
+        StepVerifier.create(repository.findByUserId("user1"))
+                .expectNextCount(2)
+                .verifyComplete();
+
+        verify(delegate, times(1)).findByUserId("user1");
+    }
+
+    private Work work(String id) {
+        return Work.builder()
+                .id(id)
+                .userId("user1")
+                .name("Work " + id)
+                .unit("m2")
+                .build();
+    }
+}
@@ -0,0 +1,81 @@
+package com.estimate.adapter.out.persistence.mongodb.adapter;
+
+import com.estimate.adapter.out.persistence.mongodb.entity.EstimateEntity;
+import com.estimate.adapter.out.persistence.mongodb.mapper.EstimateEntityMapper;
+import com.estimate.domain.model.EstimateCursor;
+import com.estimate.domain.model.EstimateSummary;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataMongoTest
+@Import({EstimateRepositoryAdapter.class, EstimateEntityMapper.class})
+class EstimateRepositoryAdapterTest {
+    
+    private static final Instant CREATED_AT = Instant.parse("2024-07-01T10:00:00Z");
+    
+    @Autowired
+    private EstimateRepositoryAdapter estimateRepository;
+    
+    @Autowired
+    private ReactiveMongoTemplate mongoTemplate;
+    
+    @BeforeEach
+    void setup() {
+        mongoTemplate.remove(new Query(), EstimateEntity.class).block();
+    }
+    
+    @Test
+    void shouldBreakCreatedAtTiesByIdSoNoSummaryIsSkippedOrRepeated() {
+        List<EstimateEntity> stored = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            // Five estimates share one timestamp, so most page boundaries fall inside the tie
+            Instant createdAt = i < 5 ? CREATED_AT : CREATED_AT.minusSeconds(i);
+            stored.add(estimate("user1", createdAt));
+        }
+        stored.add(estimate("user2", CREATED_AT));
+        mongoTemplate.insertAll(stored).blockLast();
+        
+        List<String> paged = new ArrayList<>();
+        EstimateCursor after = null;
+        List<EstimateSummary> page;
+        do {
+            page = estimateRepository.findSummariesByUserId("user1", after, 2).collectList().block();
+            page.forEach(summary -> paged.add(summary.getId()));
+            if (!page.isEmpty()) {
+                EstimateSummary last = page.get(page.size() - 1);
+                after = new EstimateCursor(last.getCreatedAt(), last.getId());
+            }
+        } while (page.size() == 2);
+        
+        List<String> expected = stored.stream()
+                .filter(entity -> entity.getUserId().equals("user1"))
+                .sorted(Comparator.comparing(EstimateEntity::getCreatedAt)
+                        .thenComparing(EstimateEntity::getId)
+                        .reversed())
+                .map(EstimateEntity::getId)
+                .toList();
+        assertEquals(expected, paged);
+    }
+    
+    private EstimateEntity estimate(String userId, Instant createdAt) {
+        return EstimateEntity.builder()
+                .id(new ObjectId().toHexString())
+                .userId(userId)
+                .investorName("John Doe")
+                .createdAt(createdAt)
+                .build();
+    }
+}
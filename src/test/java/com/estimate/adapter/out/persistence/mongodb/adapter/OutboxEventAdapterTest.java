@@ -0,0 +1,132 @@
+package com.estimate.adapter.out.persistence.mongodb.adapter;
+
+import com.estimate.adapter.out.persistence.mongodb.entity.OutboxEventEntity;
+import com.estimate.adapter.out.persistence.mongodb.mapper.OutboxEventEntityMapper;
+import com.estimate.domain.event.DomainEvent;
+import com.estimate.domain.event.WorkDeletedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataMongoTest(properties = "app.events.outbox.enabled=true")
+@Import({OutboxEventAdapter.class, OutboxEventEntityMapper.class})
+class OutboxEventAdapterTest {
+    
+    private static final Duration LEASE = Duration.ofSeconds(30);
+    
+    @Autowired
+    private OutboxEventAdapter outbox;
+    
+    @Autowired
+    private ReactiveMongoTemplate mongoTemplate;
+    
+    @BeforeEach
+    void setup() {
+        mongoTemplate.remove(new Query(), OutboxEventEntity.class).block();
+    }
+    
+    @Test
+    void shouldRelayEventsInOrderAndMarkThemDispatched() {
+        store(3);
+        List<String> relayed = new CopyOnWriteArrayList<>();
+        
+        StepVerifier.create(outbox.relayBatch(10, LEASE, events -> collect(events, relayed)))
+                .expectNext(3)
+                .verifyComplete();
+        StepVerifier.create(outbox.relayBatch(10, LEASE, events -> Mono.error(new AssertionError("relayed twice"))))
+                .expectNext(0)
+                .verifyComplete();
+        
+        assertEquals(List.of("work0", "work1", "work2"), relayed);
+        assertEquals(0, mongoTemplate.count(Query.query(pending()), OutboxEventEntity.class).block());
+    }
+    
+    @Test
+    void shouldKeepFailedBatchClaimedUntilLeaseExpires() {
+        store(2);
+        
+        StepVerifier.create(outbox.relayBatch(10, LEASE, events -> Mono.error(new IllegalStateException("boom"))))
+                .verifyErrorMessage("boom");
+        StepVerifier.create(outbox.relayBatch(10, LEASE, events -> Mono.empty()))
+                .expectNext(0)
+                .verifyComplete();
+        
+        assertEquals(2, mongoTemplate.count(Query.query(pending()), OutboxEventEntity.class).block());
+    }
+    
+    @Test
+    void shouldRelayFailedBatchAgainAfterLeaseExpires() throws InterruptedException {
+        store(2);
+        List<String> relayed = new CopyOnWriteArrayList<>();
+        
+        StepVerifier.create(outbox.relayBatch(10, Duration.ofMillis(50), events -> Mono.error(new IllegalStateException("boom"))))
+                .verifyError(IllegalStateException.class);
+        Thread.sleep(100);
+        StepVerifier.create(outbox.relayBatch(10, LEASE, events -> collect(events, relayed)))
+                .expectNext(2)
+                .verifyComplete();
+        
+        assertEquals(List.of("work0", "work1"), relayed);
+    }
+    
+    @Test
+    void shouldFailBatchWhoseHandlerOutlivesLease() {
+        store(1);
+        
+        StepVerifier.create(outbox.relayBatch(10, Duration.ofMillis(100), events -> Mono.never()))
+                .verifyError(TimeoutException.class);
+        
+        assertEquals(1, mongoTemplate.count(Query.query(pending()), OutboxEventEntity.class).block());
+    }
+    
+    @Test
+    void shouldNotHandSameEventToTwoRelaysClaimingConcurrently() {
+        store(20);
+        List<String> first = new CopyOnWriteArrayList<>();
+        List<String> second = new CopyOnWriteArrayList<>();
+        
+        Flux.merge(
+                        outbox.relayBatch(20, LEASE, events -> collect(events, first)),
+                        outbox.relayBatch(20, LEASE, events -> collect(events, second)))
+                .blockLast();
+        
+        Set<String> relayed = new HashSet<>(first);
+        relayed.addAll(second);
+        assertEquals(20, first.size() + second.size());
+        assertEquals(20, relayed.size());
+    }
+    
+    private void store(int count) {
+        Flux.range(0, count)
+                .concatMap(i -> outbox.publish(WorkDeletedEvent.builder()
+                        .workId("work" + i)
+                        .userId("user1")
+                        .build()))
+                .blockLast();
+    }
+    
+    private Mono<Void> collect(List<DomainEvent> events, List<String> relayed) {
+        return Mono.fromRunnable(() -> events.forEach(event -> relayed.add(((WorkDeletedEvent) event).getWorkId())));
+    }
+    
+    private static Criteria pending() {
+        return Criteria.where("dispatchedAt").is(null);
+    }
+}
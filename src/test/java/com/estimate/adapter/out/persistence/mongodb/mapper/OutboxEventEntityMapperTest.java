@@ -0,0 +1,60 @@
+package com.estimate.adapter.out.persistence.mongodb.mapper;
+
+import com.estimate.adapter.out.persistence.mongodb.entity.OutboxEventEntity;
+import com.estimate.domain.event.DomainEvent;
+import com.estimate.domain.event.WorkDeletedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OutboxEventEntityMapperTest {
+    
+    private OutboxEventEntityMapper mapper;
+    
+    @BeforeEach
+    void setup() {
+        MongoCustomConversions conversions = new MongoCustomConversions(List.of());
+        MongoMappingContext mappingContext = new MongoMappingContext();
+        mappingContext.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        MappingMongoConverter converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+        converter.setCustomConversions(conversions);
+        converter.afterPropertiesSet();
+        mapper = new OutboxEventEntityMapper(converter);
+    }
+    
+    @Test
+    void shouldRestoreEventFromEntity() {
+        WorkDeletedEvent event = WorkDeletedEvent.builder()
+                .workId("work1")
+                .userId("user1")
+                .occurredOn(Instant.now().truncatedTo(ChronoUnit.MILLIS))
+                .build();
+        
+        OutboxEventEntity entity = mapper.toEntity(event);
+        DomainEvent restored = mapper.toEvent(entity);
+        
+        assertEquals(WorkDeletedEvent.class.getName(), entity.getType());
+        assertEquals(event.occurredOn(), entity.getOccurredOn());
+        assertNull(entity.getDispatchedAt());
+        assertEquals(event, restored);
+    }
+    
+    @Test
+    void shouldRejectUnknownEventType() {
+        OutboxEventEntity entity = OutboxEventEntity.builder()
+                .type("com.estimate.domain.event.RemovedEvent")
+                .payload(new org.bson.Document())
+                .build();
+        
+        assertThrows(IllegalStateException.class, () -> mapper.toEvent(entity));
+    }
+}
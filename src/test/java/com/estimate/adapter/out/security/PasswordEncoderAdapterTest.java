@@ -0,0 +1,72 @@
+package com.estimate.adapter.out.security;
+
+import com.estimate.domain.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import reactor.test.StepVerifier;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PasswordEncoderAdapterTest {
+    
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PasswordEncoderAdapter adapter = new PasswordEncoderAdapter(new BlockingEncoder(), meterRegistry, 1, 1);
+    
+    @AfterEach
+    void cleanup() {
+        release.countDown();
+        adapter.shutdown();
+    }
+    
+    @Test
+    void shouldHashOnDedicatedThread() {
+        release.countDown();
+        
+        StepVerifier.create(adapter.encodeAsync("secret"))
+                .expectNextMatches(hash -> hash.startsWith("hashed:") && hash.contains("password-hashing-"))
+                .verifyComplete();
+        
+        assertEquals(1, meterRegistry.get("password.hashing.duration").tag("operation", "encode").timer().count());
+    }
+    
+    @Test
+    void shouldRejectWhenQueueIsFull() {
+        adapter.encodeAsync("first").subscribe();
+        adapter.encodeAsync("second").subscribe();
+        
+        StepVerifier.create(adapter.matchesAsync("third", "hashed:third"))
+                .expectError(ServiceOverloadedException.class)
+                .verify();
+        
+        assertEquals(1.0, meterRegistry.get("password.hashing.rejected").counter().count());
+    }
+    
+    private class BlockingEncoder implements PasswordEncoder {
+        
+        @Override
+        public String encode(CharSequence rawPassword) {
+            await();
+            return "hashed:" + rawPassword + ":" + Thread.currentThread().getName();
+        }
+        
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            await();
+            return encodedPassword.equals("hashed:" + rawPassword);
+        }
+        
+        private void await() {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.estimate.application.usecase.estimate;
+
+import com.estimate.domain.event.DomainEventPublisher;
+import com.estimate.domain.model.Estimate;
+import com.estimate.domain.model.EstimateMaterialPrice;
+import com.estimate.domain.model.EstimateWorkItem;
+import com.estimate.domain.model.MaterialPrice;
+import com.estimate.domain.port.in.estimate.CreateEstimateCommand;
+import com.estimate.domain.port.in.estimate.EstimateBatchResult;
+import com.estimate.domain.port.in.estimate.EstimateBatchResult.Status;
+import com.estimate.domain.port.in.estimate.RepriceEstimatesCommand;
+import com.estimate.domain.port.out.EstimateRepositoryPort;
+import com.estimate.domain.port.out.TransactionPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class BatchEstimateServiceTest {
+    
+    private EstimateRepositoryPort estimateRepository;
+    private DomainEventPublisher eventPublisher;
+    private BatchEstimateService service;
+    
+    @BeforeEach
+    void setup() {
+        estimateRepository = mock(EstimateRepositoryPort.class);
+        eventPublisher = mock(DomainEventPublisher.class);
+        TransactionPort transactionPort = mock(TransactionPort.class);
+        service = new BatchEstimateService(estimateRepository, eventPublisher, transactionPort);
+        when(eventPublisher.publish(any())).thenReturn(Mono.empty());
+        when(transactionPort.inTransaction(any())).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+    
+    @Test
+    void shouldReportCreatedEstimatesInRequestOrderWhenChunksFinishOutOfOrder() {
+        when(estimateRepository.insertAll(anyList())).thenAnswer(invocation -> {
+            List<Estimate> estimates = invocation.getArgument(0);
+            // The first chunk completes last
+            Duration delay = estimates.get(0).getInvestorName().equals("investor0") ? Duration.ofMillis(100) : Duration.ZERO;
+            return Flux.fromIterable(estimates).map(this::stored).delaySequence(delay);
+        });
+        
+        List<EstimateBatchResult> results = service.createAll(commands(250)).collectList().block();
+        
+        assertEquals(IntStream.range(0, 250).boxed().toList(), results.stream().map(EstimateBatchResult::getIndex).toList());
+        assertTrue(results.stream().allMatch(result -> result.getStatus() == Status.CREATED));
+        assertEquals("estimate-investor249", results.get(249).getEstimateId());
+        verify(estimateRepository, times(3)).insertAll(anyList());
+    }
+    
+    @Test
+    void shouldFailOnlyTheChunkThatCouldNotBeStored() {
+        when(estimateRepository.insertAll(anyList())).thenAnswer(invocation -> {
+            List<Estimate> estimates = invocation.getArgument(0);
+            if (estimates.get(0).getInvestorName().equals("investor100")) {
+                return Flux.error(new IllegalStateException("write failed"));
+            }
+            return Flux.fromIterable(estimates).map(this::stored);
+        });
+        
+        List<EstimateBatchResult> results = service.createAll(commands(250)).collectList().block();
+        
+        assertEquals(250, results.size());
+        for (EstimateBatchResult result : results) {
+            boolean inFailedChunk = result.getIndex() >= 100 && result.getIndex() < 200;
+            assertEquals(inFailedChunk ? Status.FAILED : Status.CREATED, result.getStatus(), "index " + result.getIndex());
+        }
+        assertNull(results.get(150).getEstimateId());
+    }
+    
+    @Test
+    void shouldReportEveryRepriceOutcomeInRequestOrder() {
+        when(estimateRepository.findAllById(anyList())).thenReturn(Flux.just(
+                estimate("updated", "user1", 2L, "10"),
+                estimate("conflict", "user1", 5L, "10"),
+                estimate("unchanged", "user1", 1L, "25"),
+                estimate("foreign", "user2", 1L, "10")));
+        when(estimateRepository.updatePricesIfUnchanged(anyList())).thenReturn(Flux.just("updated"));
+        
+        RepriceEstimatesCommand command = RepriceEstimatesCommand.builder()
+                .userId("user1")
+                .estimateIds(List.of("foreign", "missing", "updated", "conflict", "unchanged"))
+                .materialPrices(List.of(MaterialPrice.builder().materialName("Paint").unit("l").pricePerUnit(new BigDecimal("25")).build()))
+                .laborPricesByWorkId(Map.of())
+                .build();
+        List<EstimateBatchResult> results = service.repriceAll(command).collectList().block();
+        
+        assertEquals(List.of("foreign", "missing", "updated", "conflict", "unchanged"),
+                results.stream().map(EstimateBatchResult::getEstimateId).toList());
+        assertEquals(List.of(Status.FORBIDDEN, Status.NOT_FOUND, Status.UPDATED, Status.CONFLICT, Status.UNCHANGED),
+                results.stream().map(EstimateBatchResult::getStatus).toList());
+        assertEquals(List.of(0, 1, 2, 3, 4), results.stream().map(EstimateBatchResult::getIndex).toList());
+        assertEquals(3L, results.get(2).getVersion());
+        assertEquals(1L, results.get(4).getVersion());
+        verify(estimateRepository).updatePricesIfUnchanged(argThat(changed ->
+                changed.stream().map(Estimate::getId).sorted().toList().equals(List.of("conflict", "updated"))));
+    }
+    
+    @Test
+    void shouldTellForeignEstimatesFromMissingOnesWhenDeleting() {
+        when(estimateRepository.deleteAllIfOwned("user1", List.of("own", "foreign", "missing"))).thenReturn(Flux.just("own"));
+        when(estimateRepository.findAllById(List.of("foreign", "missing")))
+                .thenReturn(Flux.just(estimate("foreign", "user2", 1L, "10")));
+        
+        List<EstimateBatchResult> results = service.deleteAll("user1", List.of("own", "foreign", "missing"))
+                .collectList()
+                .block();
+        
+        assertEquals(List.of(Status.DELETED, Status.FORBIDDEN, Status.NOT_FOUND),
+                results.stream().map(EstimateBatchResult::getStatus).toList());
+        assertEquals(List.of(0, 1, 2), results.stream().map(EstimateBatchResult::getIndex).toList());
+    }
+    
+    @Test
+    void shouldRejectDuplicateIdsSoIndexesMatchRequestPositions() {
+        RepriceEstimatesCommand command = RepriceEstimatesCommand.builder()
+                .userId("user1")
+                .estimateIds(List.of("estimate1", "estimate2", "estimate1"))
+                .materialPrices(List.of())
+                .laborPricesByWorkId(Map.of())
+                .build();
+        
+        StepVerifier.create(service.repriceAll(command))
+                .verifyErrorMessage("Duplicate estimate id: estimate1");
+        StepVerifier.create(service.deleteAll("user1", List.of("estimate1", "estimate1")))
+                .verifyError(IllegalArgumentException.class);
+        
+        verifyNoInteractions(estimateRepository);
+    }
+    
+    private List<CreateEstimateCommand> commands(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> CreateEstimateCommand.builder()
+                        .userId("user1")
+                        .investorName("investor" + i)
+                        .workItems(new ArrayList<>())
+                        .materialDiscount(BigDecimal.ZERO)
+                        .laborDiscount(BigDecimal.ZERO)
+                        .build())
+                .toList();
+    }
+    
+    private Estimate stored(Estimate estimate) {
+        estimate.setId("estimate-" + estimate.getInvestorName());
+        estimate.setVersion(0L);
+        return estimate;
+    }
+    
+    private Estimate estimate(String id, String userId, Long version, String paintPrice) {
+        EstimateMaterialPrice paint = EstimateMaterialPrice.builder()
+                .materialName("Paint")
+                .unit("l")
+                .consumptionPerWorkUnit(BigDecimal.ONE)
+                .pricePerUnit(new BigDecimal(paintPrice))
+                .build();
+        EstimateWorkItem painting = EstimateWorkItem.builder()
+                .workId("painting")
+                .quantity(BigDecimal.TEN)
+                .laborPricePerUnit(BigDecimal.ONE)
+                .materialPrices(new ArrayList<>(List.of(paint)))
+                .build();
+        return Estimate.builder()
+                .id(id)
+                .userId(userId)
+                .version(version)
+                .workItems(new ArrayList<>(List.of(painting)))
+                .build();
+    }
+}
@@ -0,0 +1,130 @@
+package com.estimate.application.usecase.estimate;
+
+import com.estimate.domain.model.EstimateWorkItem;
+import com.estimate.domain.model.Material;
+import com.estimate.domain.model.PriceBookEntry;
+import com.estimate.domain.model.RenovationTemplate;
+import com.estimate.domain.model.Work;
+import com.estimate.domain.port.out.PriceBookRepositoryPort;
+import com.estimate.domain.port.out.RenovationTemplateRepositoryPort;
+import com.estimate.domain.port.out.WorkRepositoryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ComposeEstimateServiceTest {
+    
+    private RenovationTemplateRepositoryPort templateRepository;
+    private WorkRepositoryPort workRepository;
+    private PriceBookRepositoryPort priceBookRepository;
+    private ComposeEstimateService service;
+    
+    @BeforeEach
+    void setup() {
+        templateRepository = mock(RenovationTemplateRepositoryPort.class);
+        workRepository = mock(WorkRepositoryPort.class);
+        priceBookRepository = mock(PriceBookRepositoryPort.class);
+        service = new ComposeEstimateService(templateRepository, workRepository, priceBookRepository);
+        when(priceBookRepository.findByUserId("user1")).thenReturn(Flux.empty());
+    }
+    
+    @Test
+    void shouldLoadSharedWorksOnceInTwoQueries() {
+        when(templateRepository.findByUserIdAndIdIn("user1", List.of("kitchen", "bathroom")))
+                .thenReturn(Flux.just(template("kitchen", "painting", "tiling"), template("bathroom", "tiling", "plumbing")));
+        when(workRepository.findByUserIdAndIdIn("user1", List.of("painting", "tiling", "plumbing")))
+                .thenReturn(Flux.just(work("painting"), work("tiling"), work("plumbing")));
+        
+        StepVerifier.create(service.compose("user1", List.of("kitchen", "bathroom", "kitchen")))
+                .assertNext(result -> {
+                    assertEquals(List.of("painting", "tiling", "plumbing"),
+                            result.getDraft().getWorkItems().stream().map(EstimateWorkItem::getWorkId).toList());
+                    assertEquals(List.of("kitchen", "bathroom"), result.getDraft().getTemplateIds());
+                    assertTrue(result.getMissingTemplateIds().isEmpty());
+                    assertTrue(result.getMissingWorkIds().isEmpty());
+                })
+                .verifyComplete();
+        
+        verify(templateRepository, times(1)).findByUserIdAndIdIn(any(), any());
+        verify(workRepository, times(1)).findByUserIdAndIdIn(any(), any());
+    }
+    
+    @Test
+    void shouldReportMissingTemplatesAndWorks() {
+        when(templateRepository.findByUserIdAndIdIn("user1", List.of("kitchen", "deleted")))
+                .thenReturn(Flux.just(template("kitchen", "painting", "removed")));
+        when(workRepository.findByUserIdAndIdIn("user1", List.of("painting", "removed")))
+                .thenReturn(Flux.just(work("painting")));
+        
+        StepVerifier.create(service.compose("user1", List.of("kitchen", "deleted")))
+                .assertNext(result -> {
+                    assertEquals(List.of("deleted"), result.getMissingTemplateIds());
+                    assertEquals(List.of("removed"), result.getMissingWorkIds());
+                    assertEquals(List.of("kitchen"), result.getDraft().getTemplateIds());
+                    assertEquals(1, result.getDraft().getWorkItems().size());
+                })
+                .verifyComplete();
+    }
+    
+    @Test
+    void shouldSkipWorkQueryWhenNoTemplateFound() {
+        when(templateRepository.findByUserIdAndIdIn("user1", List.of("deleted"))).thenReturn(Flux.empty());
+        
+        StepVerifier.create(service.compose("user1", List.of("deleted")))
+                .assertNext(result -> {
+                    assertEquals(List.of("deleted"), result.getMissingTemplateIds());
+                    assertTrue(result.getDraft().getWorkItems().isEmpty());
+                })
+                .verifyComplete();
+        
+        verifyNoInteractions(workRepository);
+    }
+    
+    @Test
+    void shouldPriceMaterialsFromPriceBook() {
+        when(priceBookRepository.findByUserId("user1")).thenReturn(Flux.just(PriceBookEntry.builder()
+                .materialName("paint").unit("l").pricePerUnit(new BigDecimal("39.00")).build()));
+        when(templateRepository.findByUserIdAndIdIn("user1", List.of("kitchen")))
+                .thenReturn(Flux.just(template("kitchen", "painting")));
+        when(workRepository.findByUserIdAndIdIn("user1", List.of("painting")))
+                .thenReturn(Flux.just(work("painting")));
+        
+        StepVerifier.create(service.compose("user1", List.of("kitchen")))
+                .assertNext(result -> {
+                    var materials = result.getDraft().getWorkItems().get(0).getMaterialPrices();
+                    assertEquals(0, new BigDecimal("39.00").compareTo(materials.get(0).getPricePerUnit()));
+                    assertEquals(0, BigDecimal.ZERO.compareTo(materials.get(1).getPricePerUnit()));
+                    assertEquals(List.of("Primer"), result.getUnpricedMaterialNames());
+                })
+                .verifyComplete();
+    }
+    
+    private RenovationTemplate template(String id, String... workIds) {
+        return RenovationTemplate.builder()
+                .id(id)
+                .userId("user1")
+                .name("Template " + id)
+                .workIds(new ArrayList<>(List.of(workIds)))
+                .build();
+    }
+    
+    private Work work(String id) {
+        return Work.builder()
+                .id(id)
+                .userId("user1")
+                .name("Work " + id)
+                .unit("m2")
+                .materials(new ArrayList<>(List.of(
+                        Material.builder().name("Paint").unit("l").consumptionPerWorkUnit(new BigDecimal("0.2")).build(),
+                        Material.builder().name("Primer").unit("l").consumptionPerWorkUnit(new BigDecimal("0.1")).build())))
+                .build();
+    }
+}
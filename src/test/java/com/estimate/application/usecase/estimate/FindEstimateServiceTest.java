@@ -0,0 +1,69 @@
+package com.estimate.application.usecase.estimate;
+
+import com.estimate.domain.model.EstimateCursor;
+import com.estimate.domain.model.EstimateSummary;
+import com.estimate.domain.model.EstimateSummaryPage;
+import com.estimate.domain.port.out.EstimateRepositoryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+
+import java.time.Instant;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class FindEstimateServiceTest {
+    
+    private static final Instant CREATED_AT = Instant.parse("2024-07-01T10:00:00Z");
+    
+    private EstimateRepositoryPort estimateRepository;
+    private FindEstimateService service;
+    
+    @BeforeEach
+    void setup() {
+        estimateRepository = mock(EstimateRepositoryPort.class);
+        service = new FindEstimateService(estimateRepository);
+    }
+    
+    @Test
+    void shouldReturnCursorOfLastItemWhenMoreSummariesExist() {
+        EstimateCursor after = new EstimateCursor(CREATED_AT, "estimate9");
+        when(estimateRepository.findSummariesByUserId("user1", after, 3)).thenReturn(summaries(3));
+        
+        EstimateSummaryPage page = service.findSummariesByUserId("user1", after, 2).block();
+        
+        assertEquals(2, page.getItems().size());
+        assertEquals(new EstimateCursor(CREATED_AT, "estimate1"), page.getNextCursor());
+    }
+    
+    @Test
+    void shouldReturnNoCursorOnLastPage() {
+        when(estimateRepository.findSummariesByUserId("user1", null, 3)).thenReturn(summaries(2));
+        
+        EstimateSummaryPage page = service.findSummariesByUserId("user1", null, 2).block();
+        
+        assertEquals(2, page.getItems().size());
+        assertNull(page.getNextCursor());
+    }
+    
+    @Test
+    void shouldReturnNoCursorWhenNothingIsLeft() {
+        when(estimateRepository.findSummariesByUserId("user1", null, 3)).thenReturn(Flux.empty());
+        
+        EstimateSummaryPage page = service.findSummariesByUserId("user1", null, 2).block();
+        
+        assertTrue(page.getItems().isEmpty());
+        assertNull(page.getNextCursor());
+    }
+    
+    private Flux<EstimateSummary> summaries(int count) {
+        return Flux.fromStream(IntStream.range(0, count)
+                .mapToObj(i -> EstimateSummary.builder()
+                        .id("estimate" + i)
+                        .userId("user1")
+                        .createdAt(CREATED_AT)
+                        .build()));
+    }
+}
@@ -0,0 +1,113 @@
+package com.estimate.application.usecase.estimate;
+
+import com.estimate.domain.exception.VersionConflictException;
+import com.estimate.domain.model.Estimate;
+import com.estimate.domain.model.EstimateWorkItem;
+import com.estimate.domain.port.in.estimate.UpdateEstimateCommand;
+import com.estimate.domain.port.out.EstimateRepositoryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class UpdateEstimateServiceTest {
+    
+    private EstimateRepositoryPort estimateRepository;
+    private UpdateEstimateService service;
+    
+    @BeforeEach
+    void setup() {
+        estimateRepository = mock(EstimateRepositoryPort.class);
+        service = new UpdateEstimateService(estimateRepository);
+    }
+    
+    @Test
+    void shouldKeepWorkDeletedFlagWhenRequestClearsIt() {
+        when(estimateRepository.findById("estimate1"))
+                .thenReturn(Mono.just(stored(3L, item("painting", true), item("tiling", false))));
+        when(estimateRepository.updateIfOwned(eq("estimate1"), eq("user1"), eq(3L), any()))
+                .thenAnswer(invocation -> Mono.just(invocation.getArgument(3)));
+        
+        StepVerifier.create(service.update(command(null, item("painting", false), item("tiling", true))))
+                .assertNext(updated -> {
+                    assertTrue(updated.getWorkItems().get(0).isWorkDeleted());
+                    assertFalse(updated.getWorkItems().get(1).isWorkDeleted());
+                })
+                .verifyComplete();
+    }
+    
+    @Test
+    void shouldRetryWithFreshFlagsWhenWorkIsFlaggedConcurrently() {
+        when(estimateRepository.findById("estimate1"))
+                .thenReturn(Mono.just(stored(3L, item("painting", false))))
+                .thenReturn(Mono.just(stored(4L, item("painting", true))));
+        when(estimateRepository.updateIfOwned(eq("estimate1"), eq("user1"), eq(3L), any())).thenReturn(Mono.empty());
+        when(estimateRepository.updateIfOwned(eq("estimate1"), eq("user1"), eq(4L), any()))
+                .thenAnswer(invocation -> Mono.just(invocation.getArgument(3)));
+        
+        StepVerifier.create(service.update(command(null, item("painting", false))))
+                .assertNext(updated -> assertTrue(updated.getWorkItems().get(0).isWorkDeleted()))
+                .verifyComplete();
+    }
+    
+    @Test
+    void shouldRejectStaleIfMatchWithoutWriting() {
+        when(estimateRepository.findById("estimate1")).thenReturn(Mono.just(stored(4L, item("painting", true))));
+        
+        StepVerifier.create(service.update(command(3L, item("painting", false))))
+                .verifyError(VersionConflictException.class);
+        
+        verify(estimateRepository, never()).updateIfOwned(any(), any(), any(), any());
+    }
+    
+    @Test
+    void shouldNotRetryConflictWhenIfMatchWasGiven() {
+        when(estimateRepository.findById("estimate1")).thenReturn(Mono.just(stored(3L, item("painting", false))));
+        when(estimateRepository.updateIfOwned(any(), any(), any(), any())).thenReturn(Mono.empty());
+        
+        StepVerifier.create(service.update(command(3L, item("painting", false))))
+                .verifyError(VersionConflictException.class);
+        
+        ArgumentCaptor<Long> version = ArgumentCaptor.forClass(Long.class);
+        verify(estimateRepository, times(1)).updateIfOwned(any(), any(), version.capture(), any());
+        assertEquals(3L, version.getValue());
+    }
+    
+    private Estimate stored(Long version, EstimateWorkItem... items) {
+        return Estimate.builder()
+                .id("estimate1")
+                .userId("user1")
+                .version(version)
+                .workItems(new ArrayList<>(List.of(items)))
+                .build();
+    }
+    
+    private UpdateEstimateCommand command(Long expectedVersion, EstimateWorkItem... items) {
+        return UpdateEstimateCommand.builder()
+                .estimateId("estimate1")
+                .userId("user1")
+                .expectedVersion(expectedVersion)
+                .investorName("John Doe")
+                .workItems(new ArrayList<>(List.of(items)))
+                .materialDiscount(BigDecimal.ZERO)
+                .laborDiscount(BigDecimal.ZERO)
+                .build();
+    }
+    
+    private EstimateWorkItem item(String workId, boolean workDeleted) {
+        return EstimateWorkItem.builder()
+                .workId(workId)
+                .quantity(BigDecimal.ONE)
+                .laborPricePerUnit(BigDecimal.TEN)
+                .workDeleted(workDeleted)
+                .build();
+    }
+}
@@ -0,0 +1,58 @@
+package com.estimate.application.usecase.pricebook;
+
+import com.estimate.domain.port.in.pricebook.RepriceOpenEstimatesResult;
+import com.estimate.domain.port.in.pricebook.RepriceOpenEstimatesUseCase;
+import com.estimate.domain.port.out.PriceBookRepositoryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDate;
+
+import static org.mockito.Mockito.*;
+
+class ApplyDuePricesServiceTest {
+    
+    private static final LocalDate TODAY = LocalDate.of(2024, 7, 1);
+    
+    private PriceBookRepositoryPort priceBookRepository;
+    private RepriceOpenEstimatesUseCase repriceOpenEstimatesUseCase;
+    private ApplyDuePricesService service;
+    
+    @BeforeEach
+    void setup() {
+        priceBookRepository = mock(PriceBookRepositoryPort.class);
+        repriceOpenEstimatesUseCase = mock(RepriceOpenEstimatesUseCase.class);
+        service = new ApplyDuePricesService(priceBookRepository, repriceOpenEstimatesUseCase);
+        when(priceBookRepository.clearRepricePendingOn(any(), any())).thenReturn(Mono.just(1L));
+    }
+    
+    @Test
+    void shouldRepriceEachUserWithDuePricesAndClearTheirFlags() {
+        when(priceBookRepository.findUserIdsWithRepricePendingOn(TODAY)).thenReturn(Flux.just("user1", "user2"));
+        when(repriceOpenEstimatesUseCase.reprice(any())).thenReturn(Mono.just(RepriceOpenEstimatesResult.builder().build()));
+        
+        StepVerifier.create(service.applyDuePrices(TODAY))
+                .expectNext(2L)
+                .verifyComplete();
+        
+        verify(priceBookRepository).clearRepricePendingOn("user1", TODAY);
+        verify(priceBookRepository).clearRepricePendingOn("user2", TODAY);
+    }
+    
+    @Test
+    void shouldKeepFlagsOfUserWhoseRepricingFailed() {
+        when(priceBookRepository.findUserIdsWithRepricePendingOn(TODAY)).thenReturn(Flux.just("user1", "user2"));
+        when(repriceOpenEstimatesUseCase.reprice("user1")).thenReturn(Mono.error(new IllegalStateException("boom")));
+        when(repriceOpenEstimatesUseCase.reprice("user2")).thenReturn(Mono.just(RepriceOpenEstimatesResult.builder().build()));
+        
+        StepVerifier.create(service.applyDuePrices(TODAY))
+                .expectNext(1L)
+                .verifyComplete();
+        
+        verify(priceBookRepository, never()).clearRepricePendingOn(eq("user1"), any());
+        verify(priceBookRepository).clearRepricePendingOn("user2", TODAY);
+    }
+}
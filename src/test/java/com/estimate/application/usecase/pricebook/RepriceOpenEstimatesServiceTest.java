@@ -0,0 +1,74 @@
+package com.estimate.application.usecase.pricebook;
+
+import com.estimate.domain.model.Estimate;
+import com.estimate.domain.model.PriceBookEntry;
+import com.estimate.domain.port.out.EstimateRepositoryPort;
+import com.estimate.domain.port.out.PriceBookRepositoryPort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class RepriceOpenEstimatesServiceTest {
+    
+    private PriceBookRepositoryPort priceBookRepository;
+    private EstimateRepositoryPort estimateRepository;
+    private RepriceOpenEstimatesService service;
+    private final AtomicInteger running = new AtomicInteger();
+    private final AtomicInteger maxRunning = new AtomicInteger();
+    
+    @BeforeEach
+    void setup() {
+        priceBookRepository = mock(PriceBookRepositoryPort.class);
+        estimateRepository = mock(EstimateRepositoryPort.class);
+        service = new RepriceOpenEstimatesService(priceBookRepository, estimateRepository, new SimpleMeterRegistry());
+        when(priceBookRepository.findByUserId(any())).thenReturn(Flux.just(PriceBookEntry.builder()
+                .materialName("Paint")
+                .pricePerUnit(BigDecimal.TEN)
+                .effectiveFrom(LocalDate.now())
+                .build()));
+        when(estimateRepository.findOpenByUserIdAndMaterialNames(any(), any(), any())).thenAnswer(invocation -> Flux.<Estimate>empty()
+                .delaySubscription(Duration.ofMillis(50))
+                .doOnSubscribe(s -> maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max))
+                .doOnTerminate(running::decrementAndGet));
+    }
+    
+    @Test
+    void shouldRunJobsOfOneUserOneAfterAnother() {
+        Flux.merge(service.reprice("user1"), service.reprice("user1"), service.reprice("user1")).blockLast();
+        
+        assertEquals(1, maxRunning.get());
+        verify(estimateRepository, times(3)).findOpenByUserIdAndMaterialNames(eq("user1"), any(), any());
+    }
+    
+    @Test
+    void shouldRunJobsOfDifferentUsersConcurrently() {
+        Flux.merge(service.reprice("user1"), service.reprice("user2")).blockLast();
+        
+        assertEquals(2, maxRunning.get());
+    }
+    
+    @Test
+    void shouldMergeBackgroundRequestsWaitingForTheSameUser() throws InterruptedException {
+        Mono<?> running = service.reprice("user1").cache();
+        running.subscribe();
+        
+        service.requestReprice("user1");
+        service.requestReprice("user1");
+        service.requestReprice("user1");
+        running.block();
+        Thread.sleep(200);
+        
+        verify(estimateRepository, times(2)).findOpenByUserIdAndMaterialNames(eq("user1"), any(), any());
+        assertEquals(1, maxRunning.get());
+    }
+}
@@ -0,0 +1,84 @@
+package com.estimate.application.usecase.user;
+
+import com.estimate.domain.event.DomainEventPublisher;
+import com.estimate.domain.event.UserDeletedEvent;
+import com.estimate.domain.model.User;
+import com.estimate.domain.port.out.EstimateRepositoryPort;
+import com.estimate.domain.port.out.PriceBookRepositoryPort;
+import com.estimate.domain.port.out.RenovationTemplateRepositoryPort;
+import com.estimate.domain.port.out.UserRepositoryPort;
+import com.estimate.domain.port.out.WorkRepositoryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+
+import static org.mockito.Mockito.*;
+
+class PurgeDeletedUsersServiceTest {
+    
+    private static final Duration LEASE = Duration.ofMinutes(10);
+    
+    private UserRepositoryPort userRepository;
+    private WorkRepositoryPort workRepository;
+    private RenovationTemplateRepositoryPort templateRepository;
+    private EstimateRepositoryPort estimateRepository;
+    private PriceBookRepositoryPort priceBookRepository;
+    private DomainEventPublisher eventPublisher;
+    private PurgeDeletedUsersService service;
+    
+    @BeforeEach
+    void setup() {
+        userRepository = mock(UserRepositoryPort.class);
+        workRepository = mock(WorkRepositoryPort.class);
+        templateRepository = mock(RenovationTemplateRepositoryPort.class);
+        estimateRepository = mock(EstimateRepositoryPort.class);
+        priceBookRepository = mock(PriceBookRepositoryPort.class);
+        eventPublisher = mock(DomainEventPublisher.class);
+        service = new PurgeDeletedUsersService(userRepository, workRepository, templateRepository,
+                estimateRepository, priceBookRepository, eventPublisher);
+        
+        when(userRepository.claimPendingDeletion(LEASE))
+                .thenReturn(Mono.just(User.builder().id("user1").build()))
+                .thenReturn(Mono.empty());
+        when(userRepository.deleteById("user1")).thenReturn(Mono.empty());
+        when(eventPublisher.publish(any())).thenReturn(Mono.empty());
+        when(templateRepository.deleteBatchByUserId("user1", 1000)).thenReturn(Mono.just(0L));
+        when(estimateRepository.deleteBatchByUserId("user1", 1000)).thenReturn(Mono.just(0L));
+        when(priceBookRepository.deleteBatchByUserId("user1", 1000)).thenReturn(Mono.just(0L));
+    }
+    
+    @Test
+    void shouldPurgeUntilEmptyBatchAndDeleteUserLast() {
+        // The second batch is shrunk by a concurrent delete and must not end the purge
+        when(workRepository.deleteBatchByUserId("user1", 1000))
+                .thenReturn(Mono.just(1000L), Mono.just(400L), Mono.just(0L));
+        
+        StepVerifier.create(service.purgePending(LEASE))
+                .expectNext(1L)
+                .verifyComplete();
+        
+        verify(workRepository, times(3)).deleteBatchByUserId("user1", 1000);
+        InOrder inOrder = inOrder(workRepository, eventPublisher, userRepository);
+        inOrder.verify(workRepository, times(3)).deleteBatchByUserId("user1", 1000);
+        inOrder.verify(eventPublisher).publish(any(UserDeletedEvent.class));
+        inOrder.verify(userRepository).deleteById("user1");
+    }
+    
+    @Test
+    void shouldKeepUserPendingWhenPurgeFails() {
+        when(workRepository.deleteBatchByUserId("user1", 1000))
+                .thenReturn(Mono.error(new IllegalStateException("Mongo unavailable")));
+        
+        StepVerifier.create(service.purgePending(LEASE))
+                .expectNext(0L)
+                .verifyComplete();
+        
+        verify(userRepository, never()).deleteById(any());
+        verify(eventPublisher, never()).publish(any());
+        verify(userRepository, times(2)).claimPendingDeletion(LEASE);
+    }
+}
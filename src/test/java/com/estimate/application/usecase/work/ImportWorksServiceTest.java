@@ -0,0 +1,87 @@
+package com.estimate.application.usecase.work;
+
+import com.estimate.domain.model.BulkInsertResult;
+import com.estimate.domain.model.Work;
+import com.estimate.domain.port.in.work.ImportWorkCommand;
+import com.estimate.domain.port.out.WorkRepositoryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ImportWorksServiceTest {
+    
+    private WorkRepositoryPort workRepository;
+    private ImportWorksService service;
+    
+    @BeforeEach
+    void setup() {
+        workRepository = mock(WorkRepositoryPort.class);
+        service = new ImportWorksService(workRepository);
+    }
+    
+    @Test
+    void shouldReportOnlyRowsTheBulkInsertRejected() {
+        when(workRepository.insertAll(anyList()))
+                .thenReturn(Mono.just(new BulkInsertResult(2, Map.of(1, "Already exists"))));
+        
+        StepVerifier.create(service.importWorks("user1", Flux.just(row(1), invalid(2, "Unit is required"), row(3), row(4))))
+                .assertNext(result -> {
+                    assertEquals(2, result.getImported());
+                    assertEquals(2, result.getFailed());
+                    assertEquals(Map.of(2L, "Unit is required", 3L, "Already exists"), result.getErrors());
+                })
+                .verifyComplete();
+    }
+    
+    @Test
+    void shouldReportWholeBatchWhenInsertFails() {
+        when(workRepository.insertAll(anyList())).thenReturn(Mono.error(new IllegalStateException("connection lost")));
+        
+        StepVerifier.create(service.importWorks("user1", Flux.just(row(1), row(2))))
+                .assertNext(result -> {
+                    assertEquals(0, result.getImported());
+                    assertEquals(2, result.getFailed());
+                    assertEquals(Map.of(1L, "Could not be stored", 2L, "Could not be stored"), result.getErrors());
+                })
+                .verifyComplete();
+    }
+    
+    @Test
+    void shouldInsertInBatchesAndSumThem() {
+        when(workRepository.insertAll(anyList()))
+                .thenAnswer(invocation -> Mono.just(BulkInsertResult.allInserted(invocation.<List<Work>>getArgument(0).size())));
+        
+        StepVerifier.create(service.importWorks("user1", Flux.fromStream(IntStream.rangeClosed(1, 1200).mapToObj(this::row))))
+                .assertNext(result -> {
+                    assertEquals(1200, result.getImported());
+                    assertEquals(0, result.getFailed());
+                })
+                .verifyComplete();
+        
+        verify(workRepository, times(3)).insertAll(anyList());
+    }
+    
+    private ImportWorkCommand row(long line) {
+        return ImportWorkCommand.builder()
+                .line(line)
+                .name("Work " + line)
+                .unit("m2")
+                .build();
+    }
+    
+    private ImportWorkCommand invalid(long line, String error) {
+        return ImportWorkCommand.builder()
+                .line(line)
+                .error(error)
+                .build();
+    }
+}
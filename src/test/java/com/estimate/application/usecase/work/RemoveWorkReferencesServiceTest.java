@@ -0,0 +1,129 @@
+package com.estimate.application.usecase.work;
+
+import com.estimate.adapter.out.persistence.mongodb.adapter.EstimateRepositoryAdapter;
+import com.estimate.adapter.out.persistence.mongodb.adapter.RenovationTemplateRepositoryAdapter;
+import com.estimate.adapter.out.persistence.mongodb.entity.EstimateEntity;
+import com.estimate.adapter.out.persistence.mongodb.entity.RenovationTemplateEntity;
+import com.estimate.adapter.out.persistence.mongodb.mapper.EstimateEntityMapper;
+import com.estimate.adapter.out.persistence.mongodb.mapper.RenovationTemplateEntityMapper;
+import com.estimate.domain.model.Estimate;
+import com.estimate.domain.model.EstimateWorkItem;
+import com.estimate.domain.model.RenovationTemplate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataMongoTest
+@Import({RemoveWorkReferencesService.class,
+        RenovationTemplateRepositoryAdapter.class, RenovationTemplateEntityMapper.class,
+        EstimateRepositoryAdapter.class, EstimateEntityMapper.class})
+class RemoveWorkReferencesServiceTest {
+    
+    @Autowired
+    private RemoveWorkReferencesService service;
+    
+    @Autowired
+    private RenovationTemplateRepositoryAdapter templateRepository;
+    
+    @Autowired
+    private EstimateRepositoryAdapter estimateRepository;
+    
+    @Autowired
+    private ReactiveMongoTemplate mongoTemplate;
+    
+    @BeforeEach
+    void setup() {
+        mongoTemplate.remove(new Query(), RenovationTemplateEntity.class).block();
+        mongoTemplate.remove(new Query(), EstimateEntity.class).block();
+    }
+    
+    @Test
+    void shouldPullEveryDeletedWorkFromTemplates() {
+        RenovationTemplate kitchen = templateRepository.save(template("painting", "tiling", "plumbing", "tiling")).block();
+        RenovationTemplate bathroom = templateRepository.save(template("plumbing")).block();
+        RenovationTemplate hallway = templateRepository.save(template("flooring")).block();
+        
+        StepVerifier.create(service.removeReferences(List.of("tiling", "plumbing"))).verifyComplete();
+        
+        RenovationTemplate updatedKitchen = templateRepository.findById(kitchen.getId()).block();
+        assertEquals(List.of("painting"), updatedKitchen.getWorkIds());
+        assertEquals(version(kitchen) + 1, version(updatedKitchen));
+        assertTrue(templateRepository.findById(bathroom.getId()).block().getWorkIds().isEmpty());
+        RenovationTemplate untouched = templateRepository.findById(hallway.getId()).block();
+        assertEquals(List.of("flooring"), untouched.getWorkIds());
+        assertEquals(version(hallway), version(untouched));
+    }
+    
+    @Test
+    void shouldFlagOnlyItemsOfDeletedWorks() {
+        Estimate estimate = estimateRepository.save(estimate(item("painting"), item("tiling"), item("painting"))).block();
+        
+        StepVerifier.create(service.removeReferences(List.of("painting"))).verifyComplete();
+        
+        Estimate updated = estimateRepository.findById(estimate.getId()).block();
+        assertEquals(List.of(true, false, true),
+                updated.getWorkItems().stream().map(EstimateWorkItem::isWorkDeleted).toList());
+        assertEquals(0, BigDecimal.TEN.compareTo(updated.getWorkItems().get(0).getQuantity()));
+        assertEquals(version(estimate) + 1, version(updated));
+    }
+    
+    @Test
+    void shouldNotTouchEstimatesAgainWhenEventIsRedelivered() {
+        Estimate estimate = estimateRepository.save(estimate(item("painting"), item("tiling"))).block();
+        
+        StepVerifier.create(estimateRepository.markWorksDeleted(List.of("painting")))
+                .expectNext(1L)
+                .verifyComplete();
+        StepVerifier.create(estimateRepository.markWorksDeleted(List.of("painting")))
+                .expectNext(0L)
+                .verifyComplete();
+        StepVerifier.create(templateRepository.removeWorkReferences(List.of("painting")))
+                .expectNext(0L)
+                .verifyComplete();
+        
+        assertEquals(version(estimate) + 1, version(estimateRepository.findById(estimate.getId()).block()));
+    }
+    
+    private RenovationTemplate template(String... workIds) {
+        return RenovationTemplate.builder()
+                .userId("user1")
+                .name("Template")
+                .workIds(new ArrayList<>(List.of(workIds)))
+                .build();
+    }
+    
+    private Estimate estimate(EstimateWorkItem... items) {
+        return Estimate.builder()
+                .userId("user1")
+                .investorName("John Doe")
+                .workItems(new ArrayList<>(List.of(items)))
+                .build();
+    }
+    
+    private EstimateWorkItem item(String workId) {
+        return EstimateWorkItem.builder()
+                .workId(workId)
+                .quantity(BigDecimal.TEN)
+                .laborPricePerUnit(BigDecimal.ONE)
+                .build();
+    }
+    
+    private long version(RenovationTemplate template) {
+        return template.getVersion() != null ? template.getVersion() : 0L;
+    }
+    
+    private long version(Estimate estimate) {
+        return estimate.getVersion() != null ? estimate.getVersion() : 0L;
+    }
+}
@@ -0,0 +1,121 @@
+package com.estimate.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CostCalculatorTest {
+    
+    @Test
+    void shouldMatchDecimalCalculationInValueAndScale() {
+        Random random = new Random(42);
+        for (int i = 0; i < 500; i++) {
+            List<EstimateWorkItem> workItems = randomWorkItems(random);
+            
+            assertIdentical(CostCalculator.decimalMaterialCost(workItems), CostCalculator.materialCost(workItems));
+            assertIdentical(CostCalculator.decimalLaborCost(workItems), CostCalculator.laborCost(workItems));
+        }
+    }
+    
+    @Test
+    void shouldMatchDecimalTotalWithDiscounts() {
+        Random random = new Random(7);
+        for (int i = 0; i < 200; i++) {
+            Estimate estimate = Estimate.builder()
+                    .workItems(randomWorkItems(random))
+                    .materialDiscount(randomAmount(random, 2))
+                    .laborDiscount(i % 3 == 0 ? BigDecimal.ZERO : randomAmount(random, 1))
+                    .build();
+            
+            BigDecimal expected = withDiscount(CostCalculator.decimalMaterialCost(estimate.getWorkItems()), estimate.getMaterialDiscount())
+                    .add(withDiscount(CostCalculator.decimalLaborCost(estimate.getWorkItems()), estimate.getLaborDiscount()));
+            assertIdentical(expected, estimate.calculateTotalCost());
+        }
+    }
+    
+    @Test
+    void shouldFallBackToDecimalOnOverflow() {
+        List<EstimateWorkItem> workItems = List.of(workItem(
+                new BigDecimal("9999999999.99"),
+                new BigDecimal("9999999999.99"),
+                material(new BigDecimal("123456789.123"), new BigDecimal("99999999.99"))));
+        
+        assertIdentical(new BigDecimal("9999999999.99").multiply(new BigDecimal("123456789.123")).multiply(new BigDecimal("99999999.99")),
+                CostCalculator.materialCost(workItems));
+        assertIdentical(new BigDecimal("9999999999.99").multiply(new BigDecimal("9999999999.99")),
+                CostCalculator.laborCost(workItems));
+    }
+    
+    @Test
+    void shouldFallBackToDecimalForNegativeScale() {
+        List<EstimateWorkItem> workItems = List.of(workItem(
+                new BigDecimal("1E+3"), new BigDecimal("2.5"), material(new BigDecimal("0.1"), new BigDecimal("4"))));
+        
+        assertIdentical(CostCalculator.decimalMaterialCost(workItems), CostCalculator.materialCost(workItems));
+        assertIdentical(CostCalculator.decimalLaborCost(workItems), CostCalculator.laborCost(workItems));
+    }
+    
+    @Test
+    void shouldTreatMissingAmountsAsZero() {
+        List<EstimateWorkItem> workItems = new ArrayList<>();
+        workItems.add(workItem(null, new BigDecimal("10.00"), material(new BigDecimal("1.5"), new BigDecimal("2.00"))));
+        workItems.add(workItem(new BigDecimal("3"), null, material(null, new BigDecimal("2.00"))));
+        
+        assertIdentical(BigDecimal.ZERO, CostCalculator.materialCost(workItems));
+        assertIdentical(BigDecimal.ZERO, CostCalculator.laborCost(workItems));
+        assertIdentical(BigDecimal.ZERO, CostCalculator.materialCost(null));
+    }
+    
+    private static void assertIdentical(BigDecimal expected, BigDecimal actual) {
+        assertEquals(expected.unscaledValue(), actual.unscaledValue(), () -> expected + " != " + actual);
+        assertEquals(expected.scale(), actual.scale(), () -> expected + " != " + actual);
+    }
+    
+    private static BigDecimal withDiscount(BigDecimal cost, BigDecimal discount) {
+        if (discount.compareTo(BigDecimal.ZERO) == 0) {
+            return cost;
+        }
+        BigDecimal multiplier = BigDecimal.ONE.subtract(discount.divide(BigDecimal.valueOf(100), 4, RoundingMode.HALF_UP));
+        return cost.multiply(multiplier).setScale(2, RoundingMode.HALF_UP);
+    }
+    
+    private static List<EstimateWorkItem> randomWorkItems(Random random) {
+        List<EstimateWorkItem> workItems = new ArrayList<>();
+        int itemCount = random.nextInt(20);
+        for (int i = 0; i < itemCount; i++) {
+            List<EstimateMaterialPrice> materials = new ArrayList<>();
+            int materialCount = random.nextInt(6);
+            for (int j = 0; j < materialCount; j++) {
+                materials.add(material(randomAmount(random, 3), randomAmount(random, 2)));
+            }
+            workItems.add(workItem(randomAmount(random, 2), randomAmount(random, 2), materials.toArray(EstimateMaterialPrice[]::new)));
+        }
+        return workItems;
+    }
+    
+    private static BigDecimal randomAmount(Random random, int maxScale) {
+        return BigDecimal.valueOf(random.nextInt(1_000_000), random.nextInt(maxScale + 1));
+    }
+    
+    private static EstimateWorkItem workItem(BigDecimal quantity, BigDecimal laborPrice, EstimateMaterialPrice... materials) {
+        return EstimateWorkItem.builder()
+                .quantity(quantity)
+                .laborPricePerUnit(laborPrice)
+                .materialPrices(new ArrayList<>(List.of(materials)))
+                .build();
+    }
+    
+    private static EstimateMaterialPrice material(BigDecimal consumption, BigDecimal price) {
+        return EstimateMaterialPrice.builder()
+                .materialName("Material")
+                .consumptionPerWorkUnit(consumption)
+                .pricePerUnit(price)
+                .build();
+    }
+}
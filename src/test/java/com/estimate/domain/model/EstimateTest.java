@@ -6,6 +6,7 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -77,6 +78,59 @@ class EstimateTest {
         assertEquals(new BigDecimal("180.00"), estimate.calculateTotalCost());
     }
     
+    @Test
+    void shouldStoreTotalsWhenRecalculated() {
+        List<EstimateWorkItem> items = new ArrayList<>();
+        items.add(createWorkItem(BigDecimal.valueOf(100), BigDecimal.valueOf(100)));
+        
+        Estimate estimate = Estimate.builder()
+                .workItems(items)
+                .materialDiscount(BigDecimal.valueOf(10))
+                .laborDiscount(BigDecimal.valueOf(20))
+                .build()
+                .recalculateTotals();
+        
+        assertEquals(new BigDecimal("90.00"), estimate.getMaterialCost());
+        assertEquals(new BigDecimal("80.00"), estimate.getLaborCost());
+        assertEquals(estimate.calculateTotalCost(), estimate.getTotalCost());
+        assertEquals(Estimate.PRICING_VERSION, estimate.getPricingVersion());
+        assertTrue(estimate.hasCurrentTotals());
+    }
+    
+    @Test
+    void shouldRecalculateOutdatedTotals() {
+        List<EstimateWorkItem> items = new ArrayList<>();
+        items.add(createWorkItem(BigDecimal.valueOf(100), BigDecimal.valueOf(50)));
+        
+        Estimate estimate = Estimate.builder()
+                .workItems(items)
+                .totalCost(BigDecimal.ONE)
+                .pricingVersion(Estimate.PRICING_VERSION - 1)
+                .build();
+        
+        assertFalse(estimate.hasCurrentTotals());
+        assertEquals(BigDecimal.valueOf(150), estimate.ensureCurrentTotals().getTotalCost());
+    }
+    
+    @Test
+    void shouldApplyChangedPricesAndRecalculateTotals() {
+        EstimateWorkItem item = createWorkItem(BigDecimal.valueOf(100), BigDecimal.valueOf(50));
+        item.setWorkId("work1");
+        Estimate estimate = Estimate.builder()
+                .workItems(new ArrayList<>(List.of(item)))
+                .build()
+                .recalculateTotals();
+        
+        boolean changed = estimate.applyPrices(
+                List.of(new MaterialPrice("test material", "kg", BigDecimal.valueOf(120))),
+                Map.of("work1", BigDecimal.valueOf(50)));
+        
+        assertTrue(changed);
+        assertEquals(0, new BigDecimal("170").compareTo(estimate.getTotalCost()));
+        assertFalse(estimate.applyPrices(
+                List.of(new MaterialPrice("Test Material", "kg", new BigDecimal("120.00"))), Map.of()));
+    }
+    
     private EstimateWorkItem createWorkItem(BigDecimal materialCost, BigDecimal laborCost) {
         EstimateWorkItem item = new EstimateWorkItem();
         item.setWorkName("Test Work");
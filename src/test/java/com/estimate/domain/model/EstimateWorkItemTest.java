@@ -0,0 +1,44 @@
+package com.estimate.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EstimateWorkItemTest {
+    
+    @Test
+    void shouldDraftWorkItemFromWork() {
+        Work work = Work.builder()
+                .id("work1")
+                .name("Painting")
+                .unit("m2")
+                .materials(List.of(new Material("Paint", "l", new BigDecimal("0.25"))))
+                .build();
+        
+        EstimateWorkItem item = EstimateWorkItem.draftFrom(work);
+        
+        assertEquals("work1", item.getWorkId());
+        assertEquals("Painting", item.getWorkName());
+        assertEquals("m2", item.getUnit());
+        assertEquals(1, item.getMaterialPrices().size());
+        assertEquals("Paint", item.getMaterialPrices().get(0).getMaterialName());
+        assertEquals(new BigDecimal("0.25"), item.getMaterialPrices().get(0).getConsumptionPerWorkUnit());
+        assertEquals(0, item.calculateMaterialCost().compareTo(BigDecimal.ZERO));
+        assertEquals(0, item.calculateLaborCost().compareTo(BigDecimal.ZERO));
+    }
+    
+    @Test
+    void shouldDraftWorkItemWithoutMaterials() {
+        Work work = Work.builder()
+                .id("work1")
+                .name("Demolition")
+                .unit("m2")
+                .materials(null)
+                .build();
+        
+        assertTrue(EstimateWorkItem.draftFrom(work).getMaterialPrices().isEmpty());
+    }
+}
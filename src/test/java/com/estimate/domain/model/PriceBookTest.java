@@ -0,0 +1,45 @@
+package com.estimate.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PriceBookTest {
+    
+    private static final LocalDate TODAY = LocalDate.of(2024, 6, 1);
+    
+    @Test
+    void shouldUseLatestEntryEffectiveOnDate() {
+        PriceBook priceBook = new PriceBook(List.of(
+                entry("Paint", "l", "30.00", TODAY.minusMonths(2)),
+                entry("paint", "L", "35.00", TODAY.minusDays(1)),
+                entry("Paint", "l", "40.00", TODAY.plusDays(1))));
+        
+        List<MaterialPrice> prices = priceBook.effectivePrices(TODAY);
+        
+        assertEquals(1, prices.size());
+        assertEquals(new BigDecimal("35.00"), prices.get(0).getPricePerUnit());
+    }
+    
+    @Test
+    void shouldKeepUnitsApart() {
+        PriceBook priceBook = new PriceBook(List.of(
+                entry("Paint", "l", "35.00", TODAY),
+                entry("Paint", "bucket", "300.00", TODAY)));
+        
+        assertEquals(2, priceBook.effectivePrices(TODAY).size());
+    }
+    
+    private PriceBookEntry entry(String materialName, String unit, String price, LocalDate effectiveFrom) {
+        return PriceBookEntry.builder()
+                .materialName(materialName)
+                .unit(unit)
+                .pricePerUnit(new BigDecimal(price))
+                .effectiveFrom(effectiveFrom)
+                .build();
+    }
+}
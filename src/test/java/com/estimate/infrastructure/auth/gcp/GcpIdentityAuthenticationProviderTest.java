@@ -0,0 +1,96 @@
+package com.estimate.infrastructure.auth.gcp;
+
+import com.estimate.domain.model.User;
+import com.estimate.domain.port.out.UserRepositoryPort;
+import com.estimate.infrastructure.security.VerifiedTokenCache;
+import com.google.firebase.auth.FirebaseAuth;
+import com.google.firebase.auth.FirebaseToken;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class GcpIdentityAuthenticationProviderTest {
+    
+    private UserRepositoryPort userRepository;
+    private FirebaseAuth firebaseAuth;
+    private Scheduler firebaseScheduler;
+    private GcpIdentityAuthenticationProvider provider;
+    private final List<String> firebaseThreads = new CopyOnWriteArrayList<>();
+    
+    @BeforeEach
+    void setup() {
+        userRepository = mock(UserRepositoryPort.class);
+        firebaseAuth = mock(FirebaseAuth.class);
+        firebaseScheduler = Schedulers.newSingle("firebase-test");
+        provider = new GcpIdentityAuthenticationProvider(userRepository, firebaseAuth, firebaseScheduler,
+                new VerifiedTokenCache(100, new SimpleMeterRegistry()));
+        when(userRepository.findById("uid1")).thenReturn(Mono.just(User.builder()
+                .id("uid1")
+                .email("user1@example.com")
+                .role(User.Role.USER)
+                .build()));
+    }
+    
+    @AfterEach
+    void tearDown() {
+        firebaseScheduler.dispose();
+    }
+    
+    @Test
+    void shouldVerifyRepeatedTokenWithFirebaseOnlyOnce() throws Exception {
+        firebaseReturns(Instant.now().plusSeconds(3600));
+        
+        StepVerifier.create(provider.verifyToken("token").then(provider.verifyToken("token")))
+                .assertNext(info -> assertEquals("uid1", info.getUserId()))
+                .verifyComplete();
+        
+        verify(firebaseAuth, times(1)).verifyIdToken("token");
+        verify(userRepository, times(1)).findById("uid1");
+    }
+    
+    @Test
+    void shouldVerifyTokenAgainOnceItExpired() throws Exception {
+        Instant expiresAt = Instant.ofEpochSecond(Instant.now().plusSeconds(1).getEpochSecond());
+        firebaseReturns(expiresAt);
+        
+        provider.verifyToken("token").block();
+        Thread.sleep(Math.max(0, expiresAt.toEpochMilli() - System.currentTimeMillis()) + 50);
+        provider.verifyToken("token").block();
+        
+        verify(firebaseAuth, times(2)).verifyIdToken("token");
+    }
+    
+    @Test
+    void shouldCallFirebaseOnFirebaseScheduler() throws Exception {
+        firebaseReturns(Instant.now().plusSeconds(3600));
+        
+        provider.verifyToken("token").block();
+        
+        assertEquals(1, firebaseThreads.size());
+        assertTrue(firebaseThreads.get(0).startsWith("firebase-test"), firebaseThreads.get(0));
+    }
+    
+    private void firebaseReturns(Instant expiresAt) throws Exception {
+        FirebaseToken decoded = mock(FirebaseToken.class);
+        when(decoded.getUid()).thenReturn("uid1");
+        when(decoded.getEmail()).thenReturn("user1@example.com");
+        when(decoded.getClaims()).thenReturn(Map.of("exp", expiresAt.getEpochSecond()));
+        when(firebaseAuth.verifyIdToken("token")).thenAnswer(invocation -> {
+            firebaseThreads.add(Thread.currentThread().getName());
+            return decoded;
+        });
+    }
+}
@@ -0,0 +1,173 @@
+package com.estimate.infrastructure.cache;
+
+import com.estimate.adapter.out.persistence.cache.CachingWorkRepositoryAdapter;
+import com.estimate.adapter.out.persistence.mongodb.adapter.WorkRepositoryAdapter;
+import com.estimate.adapter.out.persistence.mongodb.entity.WorkEntity;
+import com.estimate.adapter.out.persistence.mongodb.mapper.WorkEntityMapper;
+import com.estimate.domain.model.UserAuthInfo;
+import com.estimate.domain.model.Work;
+import com.estimate.infrastructure.security.VerifiedTokenCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs against the embedded MongoDB started as a single-node replica set, since change streams need one.
+ */
+@DataMongoTest(properties = {
+        "de.flapdoodle.mongodb.embedded.storage.repl-set-name=rs0",
+        "app.cache.change-streams.enabled=true"
+})
+@Import({ChangeStreamCacheInvalidator.class, CachingWorkRepositoryAdapter.class, WorkRepositoryAdapter.class,
+        WorkEntityMapper.class, VerifiedTokenCache.class, SimpleMeterRegistry.class})
+class ChangeStreamCacheInvalidatorTest {
+    
+    private static final Duration WAIT = Duration.ofSeconds(10);
+    
+    @Autowired
+    private ChangeStreamCacheInvalidator invalidator;
+    
+    @Autowired
+    private CachingWorkRepositoryAdapter workCache;
+    
+    @Autowired
+    private WorkRepositoryAdapter workRepository;
+    
+    @Autowired
+    private VerifiedTokenCache tokenCache;
+    
+    @Autowired
+    private ReactiveMongoTemplate mongoTemplate;
+    
+    @BeforeEach
+    void setup() {
+        mongoTemplate.remove(new Query(), WorkEntity.class).block();
+        mongoTemplate.remove(new Query(), "users").block();
+        workCache.evictAll();
+        tokenCache.invalidateAll();
+        invalidator.run(null);
+        awaitListening();
+    }
+    
+    @AfterEach
+    void tearDown() {
+        invalidator.stop();
+    }
+    
+    @Test
+    void shouldEvictWorkWrittenByAnotherInstance() {
+        Work work = workRepository.save(work("Painting")).block();
+        assertEquals("Painting", workCache.findById(work.getId()).block().getName());
+        assertEquals(1, workCache.findByUserId("user1").count().block());
+        
+        renameBehindTheCache(work.getId(), "Tiling");
+        
+        assertEventually(() -> "Tiling".equals(workCache.findById(work.getId()).block().getName()));
+        assertEquals(List.of("Tiling"), workCache.findByUserId("user1").map(Work::getName).collectList().block());
+    }
+    
+    @Test
+    void shouldInvalidateTokensOfUserWrittenByAnotherInstance() {
+        tokenCache.get("token1", () -> verified("user1")).block();
+        tokenCache.get("token2", () -> verified("user2")).block();
+        
+        touchUser("user1");
+        
+        assertEventually(() -> !isCached("token1"));
+        assertTrue(isCached("token2"));
+    }
+    
+    @Test
+    void shouldResumeFromStoredTokenAfterRestart() {
+        Work work = workRepository.save(work("Painting")).block();
+        invalidator.stop();
+        assertEquals("Painting", workCache.findById(work.getId()).block().getName());
+        
+        // Written while no stream is open; only resuming from the last seen event reports it
+        renameBehindTheCache(work.getId(), "Tiling");
+        invalidator.run(null);
+        
+        assertEventually(() -> "Tiling".equals(workCache.findById(work.getId()).block().getName()));
+    }
+    
+    /**
+     * The stream opens asynchronously, so a user is written until its cached token is evicted.
+     */
+    private void awaitListening() {
+        Instant deadline = Instant.now().plus(WAIT);
+        while (Instant.now().isBefore(deadline)) {
+            tokenCache.get("probe", () -> verified("probe")).block();
+            touchUser("probe");
+            if (waitFor(() -> !isCached("probe"), Duration.ofMillis(500))) {
+                return;
+            }
+        }
+        fail("Change stream did not start within " + WAIT);
+    }
+    
+    private void assertEventually(BooleanSupplier condition) {
+        assertTrue(waitFor(condition, WAIT), "Cache was not invalidated within " + WAIT);
+    }
+    
+    private boolean waitFor(BooleanSupplier condition, Duration timeout) {
+        Instant deadline = Instant.now().plus(timeout);
+        while (!condition.getAsBoolean()) {
+            if (Instant.now().isAfter(deadline)) {
+                return false;
+            }
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private void renameBehindTheCache(String workId, String name) {
+        mongoTemplate.updateFirst(Query.query(Criteria.where("_id").is(workId)), Update.update("name", name),
+                WorkEntity.class).block();
+    }
+    
+    private void touchUser(String userId) {
+        mongoTemplate.upsert(Query.query(Criteria.where("_id").is(userId)), Update.update("updatedAt", Instant.now()),
+                "users").block();
+    }
+    
+    private boolean isCached(String token) {
+        return tokenCache.get(token, Mono::empty).block() != null;
+    }
+    
+    private Mono<VerifiedTokenCache.VerifiedToken> verified(String userId) {
+        return Mono.just(new VerifiedTokenCache.VerifiedToken(new UserAuthInfo(userId, userId + "@example.com", "USER"),
+                Instant.now().plus(1, ChronoUnit.HOURS)));
+    }
+    
+    private Work work(String name) {
+        return Work.builder()
+                .userId("user1")
+                .name(name)
+                .unit("m2")
+                .materials(new ArrayList<>())
+                .build();
+    }
+}
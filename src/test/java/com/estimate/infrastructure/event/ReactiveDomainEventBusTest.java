@@ -0,0 +1,193 @@
+package com.estimate.infrastructure.event;
+
+import com.estimate.domain.event.WorkCreatedEvent;
+import com.estimate.domain.event.WorkDeletedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReactiveDomainEventBusTest {
+    
+    private SimpleMeterRegistry meterRegistry;
+    private BlockingQueue<Object> springEvents;
+    private ReactiveDomainEventBus eventBus;
+    
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        springEvents = new LinkedBlockingQueue<>();
+        eventBus = new ReactiveDomainEventBus(springEvents::add, meterRegistry,
+                16, 10, Duration.ofMillis(20), Duration.ofMillis(500));
+    }
+    
+    @AfterEach
+    void tearDown() {
+        eventBus.shutdown();
+    }
+    
+    @Test
+    void shouldDeliverOnlySubscribedEventTypeInBatches() throws InterruptedException {
+        List<List<WorkCreatedEvent>> batches = new CopyOnWriteArrayList<>();
+        CountDownLatch delivered = new CountDownLatch(3);
+        eventBus.subscribe("test", WorkCreatedEvent.class, events -> Mono.fromRunnable(() -> {
+            batches.add(events);
+            events.forEach(event -> delivered.countDown());
+        }));
+        
+        eventBus.publish(created("work1"))
+                .then(eventBus.publish(WorkDeletedEvent.builder().workId("work2").userId("user1").build()))
+                .then(eventBus.publish(created("work3")))
+                .then(eventBus.publish(created("work4")))
+                .block();
+        
+        assertTrue(delivered.await(5, TimeUnit.SECONDS));
+        assertEquals(3, batches.stream().mapToInt(List::size).sum());
+        assertEquals(3, meterRegistry.get("domain.events.lag")
+                .tag("type", "WorkCreatedEvent")
+                .tag("subscriber", "test")
+                .timer()
+                .count());
+    }
+    
+    @Test
+    void shouldHandleEventsOffCallerThread() throws InterruptedException {
+        CountDownLatch handled = new CountDownLatch(1);
+        String callerThread = Thread.currentThread().getName();
+        List<String> handlerThreads = new CopyOnWriteArrayList<>();
+        eventBus.subscribe("thread", WorkCreatedEvent.class, events -> Mono.fromRunnable(() -> {
+            handlerThreads.add(Thread.currentThread().getName());
+            handled.countDown();
+        }));
+        
+        eventBus.publish(created("work1")).block();
+        
+        assertTrue(handled.await(5, TimeUnit.SECONDS));
+        assertNotEquals(callerThread, handlerThreads.get(0));
+    }
+    
+    @Test
+    void shouldForwardEventsToSpringListeners() throws InterruptedException {
+        WorkCreatedEvent event = created("work1");
+        
+        eventBus.publish(event).block();
+        
+        assertSame(event, springEvents.poll(5, TimeUnit.SECONDS));
+    }
+    
+    @Test
+    void shouldWaitForBufferSpaceInsteadOfDroppingEvents() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch delivered = new CountDownLatch(100);
+        eventBus.subscribe("slow", WorkCreatedEvent.class, events -> Mono.fromRunnable(() -> {
+            awaitQuietly(release);
+            events.forEach(event -> delivered.countDown());
+        }));
+        
+        Mono<Void> published = Flux.range(0, 100)
+                .concatMap(i -> eventBus.publish(created("work" + i)))
+                .then()
+                .cache();
+        published.subscribe();
+        Thread.sleep(100);
+        release.countDown();
+        
+        StepVerifier.create(published).verifyComplete();
+        assertTrue(delivered.await(5, TimeUnit.SECONDS));
+        assertNull(meterRegistry.find("domain.events.overflowed").counter());
+    }
+    
+    @Test
+    void shouldQueueEventForNoSubscriberWhileAnotherSubscriberQueueIsFull() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> slow = new CopyOnWriteArrayList<>();
+        List<String> fast = new CopyOnWriteArrayList<>();
+        eventBus.subscribe("slow", WorkCreatedEvent.class, events -> Mono.fromRunnable(() -> {
+            awaitQuietly(release);
+            events.forEach(event -> slow.add(event.getWorkId()));
+        }));
+        eventBus.subscribe("fast", WorkCreatedEvent.class, events -> Mono.fromRunnable(() ->
+                events.forEach(event -> fast.add(event.getWorkId()))));
+        
+        Mono<Void> published = Flux.range(0, 40)
+                .concatMap(i -> eventBus.publish(created("work" + i)))
+                .then()
+                .cache();
+        published.subscribe();
+        Thread.sleep(200);
+        
+        assertEquals(16, fast.size());
+        release.countDown();
+        StepVerifier.create(published).verifyComplete();
+        Thread.sleep(200);
+        assertEquals(40, slow.size());
+        assertEquals(slow, fast);
+        assertNull(meterRegistry.find("domain.events.overflowed").counter());
+    }
+    
+    @Test
+    void shouldQueueEventBeyondCapacityInsteadOfFailingWhenBufferStaysFull() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch delivered = new CountDownLatch(20);
+        eventBus.subscribe("stuck", WorkCreatedEvent.class, events -> Mono.fromRunnable(() -> {
+            awaitQuietly(release);
+            events.forEach(event -> delivered.countDown());
+        }));
+        
+        StepVerifier.create(Flux.range(0, 20).concatMap(i -> eventBus.publish(created("work" + i))))
+                .verifyComplete();
+        release.countDown();
+        
+        assertTrue(delivered.await(5, TimeUnit.SECONDS));
+        assertTrue(meterRegistry.get("domain.events.overflowed").tag("type", "WorkCreatedEvent").counter().count() >= 1);
+    }
+    
+    @Test
+    void shouldCompleteDeliveryOnlyAfterSubscribersHandledEvents() {
+        List<String> handled = new CopyOnWriteArrayList<>();
+        eventBus.subscribe("slow", WorkCreatedEvent.class, events -> Mono.delay(Duration.ofMillis(100))
+                .doOnNext(tick -> events.forEach(event -> handled.add(event.getWorkId())))
+                .then());
+        
+        StepVerifier.create(eventBus.deliver(List.of(created("work1"), created("work2"))))
+                .verifyComplete();
+        
+        assertEquals(List.of("work1", "work2"), handled);
+    }
+    
+    @Test
+    void shouldFailDeliveryWhenSubscriberFails() {
+        eventBus.subscribe("failing", WorkCreatedEvent.class, events -> Mono.error(new IllegalStateException("boom")));
+        
+        StepVerifier.create(eventBus.deliver(List.of(created("work1"))))
+                .verifyErrorMessage("boom");
+    }
+    
+    private void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    private WorkCreatedEvent created(String workId) {
+        return WorkCreatedEvent.builder()
+                .workId(workId)
+                .userId("user1")
+                .build();
+    }
+}
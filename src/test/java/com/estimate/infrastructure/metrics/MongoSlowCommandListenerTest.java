@@ -0,0 +1,87 @@
+package com.estimate.infrastructure.metrics;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.mongodb.ServerAddress;
+import com.mongodb.connection.ClusterId;
+import com.mongodb.connection.ConnectionDescription;
+import com.mongodb.connection.ServerId;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+import org.bson.BsonDocument;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MongoSlowCommandListenerTest {
+    
+    private static final ConnectionDescription CONNECTION =
+            new ConnectionDescription(new ServerId(new ClusterId(), new ServerAddress()));
+    
+    private final Logger logger = (Logger) LoggerFactory.getLogger(MongoSlowCommandListener.class);
+    private ListAppender<ILoggingEvent> appender;
+    private MongoSlowCommandListener listener;
+    
+    @BeforeEach
+    void setup() {
+        appender = new ListAppender<>();
+        appender.start();
+        logger.addAppender(appender);
+        listener = new MongoSlowCommandListener(Duration.ofMillis(100));
+    }
+    
+    @AfterEach
+    void tearDown() {
+        logger.detachAppender(appender);
+    }
+    
+    @Test
+    void shouldRedactValuesAndKeepOperators() {
+        BsonDocument command = BsonDocument.parse("""
+                {find: "estimates", filter: {userId: "user1", $or: [{name: "Kitchen"}, {totalCost: {$gt: 100}}],
+                 status: {$in: ["DRAFT", "SENT"]}}, sort: {createdAt: -1}, limit: 20}""");
+        
+        String shape = MongoSlowCommandListener.shape(command, List.of("filter", "sort"));
+        
+        assertEquals(BsonDocument.parse("""
+                {filter: {userId: "?", $or: [{name: "?"}, {totalCost: {$gt: "?"}}], status: {$in: "?"}},
+                 sort: {createdAt: "?"}}"""), BsonDocument.parse(shape));
+        assertFalse(shape.contains("user1"));
+    }
+    
+    @Test
+    void shouldLogOnlyCommandsOverThreshold() {
+        BsonDocument command = BsonDocument.parse("{find: \"works\", filter: {userId: \"user1\"}}");
+        
+        run(1, command, 50);
+        run(2, command, 150);
+        
+        assertEquals(1, appender.list.size());
+        String message = appender.list.get(0).getFormattedMessage();
+        assertTrue(message.contains("find on estimate.works succeeded in 150 ms"), message);
+        assertTrue(message.contains("\"userId\": \"?\""), message);
+        assertFalse(message.contains("user1"), message);
+    }
+    
+    @Test
+    void shouldIgnoreCommandsWithoutFilter() {
+        run(1, BsonDocument.parse("{insert: \"works\", documents: [{name: \"Painting\"}]}"), 500);
+        
+        assertTrue(appender.list.isEmpty());
+    }
+    
+    private void run(int requestId, BsonDocument command, long elapsedMillis) {
+        String commandName = command.getFirstKey();
+        listener.commandStarted(new CommandStartedEvent(null, 1, requestId, CONNECTION, "estimate", commandName, command));
+        listener.commandSucceeded(new CommandSucceededEvent(null, 1, requestId, CONNECTION, "estimate", commandName,
+                new BsonDocument(), TimeUnit.MILLISECONDS.toNanos(elapsedMillis)));
+    }
+}
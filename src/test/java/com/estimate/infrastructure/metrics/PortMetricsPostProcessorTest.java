@@ -0,0 +1,97 @@
+package com.estimate.infrastructure.metrics;
+
+import com.estimate.domain.model.PriceBookEntry;
+import com.estimate.domain.port.in.pricebook.DeletePriceBookEntryUseCase;
+import com.estimate.domain.port.in.pricebook.FindPriceBookUseCase;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PortMetricsPostProcessorTest {
+    
+    private SimpleMeterRegistry meterRegistry;
+    private PortMetricsPostProcessor postProcessor;
+    
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton("meterRegistry", meterRegistry);
+        postProcessor = new PortMetricsPostProcessor(beanFactory.getBeanProvider(MeterRegistry.class));
+    }
+    
+    @Test
+    void shouldTimeUseCaseCallOnSubscription() {
+        FindPriceBookUseCase useCase = (FindPriceBookUseCase) postProcessor.postProcessAfterInitialization(
+                new FakePriceBookService(), "fakePriceBookService");
+        
+        Flux<PriceBookEntry> entries = useCase.findByUserId("user1");
+        assertNull(meterRegistry.find(PortMetricsPostProcessor.USE_CASE_METRIC).timer());
+        
+        StepVerifier.create(entries).expectNextCount(1).verifyComplete();
+        
+        Timer timer = meterRegistry.get(PortMetricsPostProcessor.USE_CASE_METRIC)
+                .tag("operation", "FindPriceBookUseCase.findByUserId")
+                .tag("implementation", "FakePriceBookService")
+                .tag("outcome", "success")
+                .tag("error", "none")
+                .timer();
+        assertEquals(1, timer.count());
+    }
+    
+    @Test
+    void shouldTagErrorType() {
+        DeletePriceBookEntryUseCase useCase = (DeletePriceBookEntryUseCase) postProcessor.postProcessAfterInitialization(
+                new FakePriceBookService(), "fakePriceBookService");
+        
+        StepVerifier.create(useCase.delete("entry1", "user1")).verifyError(IllegalArgumentException.class);
+        
+        assertEquals(1, meterRegistry.get(PortMetricsPostProcessor.USE_CASE_METRIC)
+                .tag("operation", "DeletePriceBookEntryUseCase.delete")
+                .tag("outcome", "error")
+                .tag("error", "IllegalArgumentException")
+                .timer()
+                .count());
+    }
+    
+    @Test
+    void shouldReuseTimerAcrossCalls() {
+        FindPriceBookUseCase useCase = (FindPriceBookUseCase) postProcessor.postProcessAfterInitialization(
+                new FakePriceBookService(), "fakePriceBookService");
+        
+        StepVerifier.create(useCase.findByUserId("user1")).expectNextCount(1).verifyComplete();
+        StepVerifier.create(useCase.findByUserId("user2")).expectNextCount(1).verifyComplete();
+        
+        Timer timer = meterRegistry.get(PortMetricsPostProcessor.USE_CASE_METRIC).timer();
+        assertEquals(1, meterRegistry.get(PortMetricsPostProcessor.USE_CASE_METRIC).timers().size());
+        assertEquals(2, timer.count());
+    }
+    
+    @Test
+    void shouldNotProxyOtherBeans() {
+        Object bean = new Object();
+        
+        assertSame(bean, postProcessor.postProcessAfterInitialization(bean, "other"));
+    }
+    
+    static class FakePriceBookService implements FindPriceBookUseCase, DeletePriceBookEntryUseCase {
+        
+        @Override
+        public Flux<PriceBookEntry> findByUserId(String userId) {
+            return Flux.just(PriceBookEntry.builder().userId(userId).materialName("Paint").build());
+        }
+        
+        @Override
+        public Mono<Void> delete(String entryId, String userId) {
+            return Mono.error(new IllegalArgumentException("Price book entry not found"));
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.estimate.infrastructure.security;
+
+import com.estimate.domain.model.UserAuthInfo;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VerifiedTokenCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private VerifiedTokenCache cache;
+    private AtomicInteger verifications;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new VerifiedTokenCache(100, meterRegistry);
+        verifications = new AtomicInteger();
+    }
+
+    @Test
+    void shouldVerifyTokenOnlyOnce() {
+        Instant expiresAt = Instant.now().plus(1, ChronoUnit.HOURS);
+
+        StepVerifier.create(cache.get("token", () -> verify(expiresAt))
+                        .then(cache.get("token", () -> verify(expiresAt))))
+                .expectNextMatches(info -> info.getUserId().equals("user1"))
+                .verifyComplete();
+
+        assertEquals(1, verifications.get());
+        assertEquals(1.0, meterRegistry.get("cache.gets")
+                .tag("cache", VerifiedTokenCache.CACHE_NAME)
+                .tag("result", "hit")
+                .functionCounter()
+                .count());
+    }
+
+    @Test
+    void shouldNotCacheExpiredToken() {
+        Instant expiresAt = Instant.now().minus(1, ChronoUnit.SECONDS);
+
+        StepVerifier.create(cache.get("token", () -> verify(expiresAt))
+                        .then(cache.get("token", () -> verify(expiresAt))))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        assertEquals(2, verifications.get());
+    }
+
+    @Test
+    void shouldNotCacheRejectedToken() {
+        StepVerifier.create(cache.get("invalid", Mono::empty)
+                        .then(cache.get("invalid", () -> verify(Instant.now().plus(1, ChronoUnit.HOURS)))))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        assertEquals(1, verifications.get());
+    }
+
+    private Mono<VerifiedTokenCache.VerifiedToken> verify(Instant expiresAt) {
+        return Mono.fromCallable(() -> {
+            verifications.incrementAndGet();
+            return new VerifiedTokenCache.VerifiedToken(new UserAuthInfo("user1", "user1@example.com", "USER"), expiresAt);
+        });
+    }
+}
@@ -0,0 +1,175 @@
+package com.estimate.infrastructure.tracing;
+
+import com.estimate.domain.model.PriceBookEntry;
+import com.estimate.domain.port.in.pricebook.DeletePriceBookEntryUseCase;
+import com.estimate.domain.port.in.pricebook.FindPriceBookUseCase;
+import com.estimate.domain.port.out.PriceBookRepositoryPort;
+import com.estimate.infrastructure.metrics.PortMetricsPostProcessor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.otel.bridge.OtelBaggageManager;
+import io.micrometer.tracing.otel.bridge.OtelCurrentTraceContext;
+import io.micrometer.tracing.otel.bridge.OtelTracer;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PortTracingPostProcessorTest {
+    
+    private InMemorySpanExporter spanExporter;
+    private Tracer tracer;
+    private DefaultListableBeanFactory beanFactory;
+    private PortTracingPostProcessor postProcessor;
+    
+    @BeforeEach
+    void setup() {
+        spanExporter = InMemorySpanExporter.create();
+        SdkTracerProvider tracerProvider = SdkTracerProvider.builder()
+                .addSpanProcessor(SimpleSpanProcessor.create(spanExporter))
+                .build();
+        OtelCurrentTraceContext currentTraceContext = new OtelCurrentTraceContext();
+        tracer = new OtelTracer(tracerProvider.get("test"), currentTraceContext, event -> {
+        }, new OtelBaggageManager(currentTraceContext, List.of(), List.of()));
+        
+        beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton("tracer", tracer);
+        postProcessor = new PortTracingPostProcessor(beanFactory.getBeanProvider(Tracer.class));
+    }
+    
+    @Test
+    void shouldNestRepositorySpanInUseCaseSpanInRequestSpan() {
+        PriceBookRepositoryPort repository = (PriceBookRepositoryPort) postProcessor.postProcessAfterInitialization(
+                new FakePriceBookRepository(), "fakePriceBookRepository");
+        FindPriceBookUseCase useCase = (FindPriceBookUseCase) postProcessor.postProcessAfterInitialization(
+                new FakePriceBookService(repository), "fakePriceBookService");
+        ObservationRegistry observationRegistry = TracingConfig.spanOnlyRegistry(tracer);
+        
+        Flux<PriceBookEntry> request = ReactorObservations.observe(useCase.findByUserId("user1"),
+                () -> Observation.createNotStarted("request", observationRegistry));
+        StepVerifier.create(request).expectNextCount(1).verifyComplete();
+        
+        SpanData http = span("request");
+        SpanData useCaseSpan = span("find-price-book-use-case.find-by-user-id");
+        SpanData repositorySpan = span("price-book-repository-port.find-by-user-id");
+        assertEquals(http.getSpanId(), useCaseSpan.getParentSpanId());
+        assertEquals(useCaseSpan.getSpanId(), repositorySpan.getParentSpanId());
+        assertEquals(http.getTraceId(), repositorySpan.getTraceId());
+        assertEquals("FakePriceBookService", useCaseSpan.getAttributes().get(AttributeKey.stringKey("implementation")));
+        assertEquals("success", repositorySpan.getAttributes().get(AttributeKey.stringKey("outcome")));
+    }
+    
+    @Test
+    void shouldMarkFailedSpan() {
+        DeletePriceBookEntryUseCase useCase = (DeletePriceBookEntryUseCase) postProcessor.postProcessAfterInitialization(
+                new FakePriceBookService(new FakePriceBookRepository()), "fakePriceBookService");
+        
+        StepVerifier.create(useCase.delete("entry1", "user1")).verifyError(IllegalArgumentException.class);
+        
+        SpanData span = span("delete-price-book-entry-use-case.delete");
+        assertEquals(StatusCode.ERROR, span.getStatus().getStatusCode());
+        assertEquals("error", span.getAttributes().get(AttributeKey.stringKey("outcome")));
+    }
+    
+    @Test
+    void shouldAddAdviceToExistingMetricsProxy() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        beanFactory.registerSingleton("meterRegistry", meterRegistry);
+        Object timed = new PortMetricsPostProcessor(beanFactory.getBeanProvider(MeterRegistry.class))
+                .postProcessAfterInitialization(new FakePriceBookService(new FakePriceBookRepository()), "fakePriceBookService");
+        
+        FindPriceBookUseCase useCase = (FindPriceBookUseCase) postProcessor.postProcessAfterInitialization(timed, "fakePriceBookService");
+        StepVerifier.create(useCase.findByUserId("user1")).expectNextCount(1).verifyComplete();
+        
+        assertSame(timed, useCase);
+        assertEquals(1, meterRegistry.get("usecase.duration").timer().count());
+        assertNotNull(span("find-price-book-use-case.find-by-user-id"));
+    }
+    
+    @Test
+    void shouldNotProxyOtherBeans() {
+        Object bean = new Object();
+        
+        assertSame(bean, postProcessor.postProcessAfterInitialization(bean, "other"));
+    }
+    
+    private SpanData span(String name) {
+        return spanExporter.getFinishedSpanItems().stream()
+                .filter(span -> span.getName().equals(name))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("No span " + name + " in " + spanExporter.getFinishedSpanItems()));
+    }
+    
+    static class FakePriceBookService implements FindPriceBookUseCase, DeletePriceBookEntryUseCase {
+        
+        private final PriceBookRepositoryPort repository;
+        
+        FakePriceBookService(PriceBookRepositoryPort repository) {
+            this.repository = repository;
+        }
+        
+        @Override
+        public Flux<PriceBookEntry> findByUserId(String userId) {
+            return repository.findByUserId(userId);
+        }
+        
+        @Override
+        public Mono<Void> delete(String entryId, String userId) {
+            return Mono.error(new IllegalArgumentException("Price book entry not found"));
+        }
+    }
+    
+    static class FakePriceBookRepository implements PriceBookRepositoryPort {
+        
+        @Override
+        public Mono<PriceBookEntry> save(PriceBookEntry entry) {
+            return Mono.just(entry);
+        }
+        
+        @Override
+        public Mono<PriceBookEntry> findById(String id) {
+            return Mono.empty();
+        }
+        
+        @Override
+        public Flux<PriceBookEntry> findByUserId(String userId) {
+            return Flux.just(PriceBookEntry.builder().userId(userId).materialName("Paint").build());
+        }
+        
+        @Override
+        public Flux<String> findUserIdsWithRepricePendingOn(LocalDate date) {
+            return Flux.empty();
+        }
+        
+        @Override
+        public Mono<Long> clearRepricePendingOn(String userId, LocalDate date) {
+            return Mono.just(0L);
+        }
+        
+        @Override
+        public Mono<Boolean> deleteIfOwned(String id, String userId) {
+            return Mono.just(false);
+        }
+        
+        @Override
+        public Mono<Long> deleteBatchByUserId(String userId, int batchSize) {
+            return Mono.just(0L);
+        }
+    }
+}